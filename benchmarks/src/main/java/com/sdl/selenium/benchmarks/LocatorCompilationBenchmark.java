@@ -0,0 +1,77 @@
+package com.sdl.selenium.benchmarks;
+
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.WebLocator;
+import org.openqa.selenium.By;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of selector generation for each {@link LocatorShape}.
+ * <p>With cacheSelectors=false every call generates the selector again (cost of first use or of a changed locator),
+ * with cacheSelectors=true it is the cost of a lookup in an unchanged chain (cost of each wait/poll).</p>
+ * Allocation rate is measured by the gc profiler added in {@link BenchmarkRunner}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocatorCompilationBenchmark {
+
+    @Param({"DEEP_CHAIN", "CHILD_NODES", "LABEL", "TEMPLATE_TITLE", "CONTAINS_ALL", "HTML_NODE", "EXTJS6_CELL", "EXTJS3_GRID_CELL", "BOOTSTRAP_DATE_PICKER"})
+    public LocatorShape shape;
+
+    @Param({"false", "true"})
+    public boolean cacheSelectors;
+
+    @Param({"true"})
+    public boolean generateCssSelector;
+
+    private WebLocator locator;
+    private boolean defaultCacheSelectors;
+    private boolean defaultGenerateCssSelector;
+
+    @Setup
+    public void setUp() {
+        defaultCacheSelectors = WebLocatorConfig.isCacheSelectors();
+        defaultGenerateCssSelector = WebLocatorConfig.isGenerateCssSelector();
+        WebLocatorConfig.setCacheSelectors(cacheSelectors);
+        WebLocatorConfig.setGenerateCssSelector(generateCssSelector);
+        locator = shape.create();
+    }
+
+    @TearDown
+    public void tearDown() {
+        WebLocatorConfig.setCacheSelectors(defaultCacheSelectors);
+        WebLocatorConfig.setGenerateCssSelector(defaultGenerateCssSelector);
+    }
+
+    @Benchmark
+    public String getXPath() {
+        return locator.getXPath();
+    }
+
+    @Benchmark
+    public String getCssSelector() {
+        return locator.getCssSelector();
+    }
+
+    @Benchmark
+    public By getSelector() {
+        return locator.getSelector();
+    }
+}
@@ -0,0 +1,82 @@
+package com.sdl.selenium.benchmarks;
+
+import com.sdl.selenium.bootstrap.form.DatePicker;
+import com.sdl.selenium.extjs3.grid.GridPanel;
+import com.sdl.selenium.extjs6.grid.Cell;
+import com.sdl.selenium.extjs6.grid.Grid;
+import com.sdl.selenium.web.SearchType;
+import com.sdl.selenium.web.WebLocator;
+
+/**
+ * Locators measured by {@link LocatorCompilationBenchmark}, one for each feature that changes how selectors are generated.
+ */
+public enum LocatorShape {
+    /**
+     * 8 containers, each with classes (css selector can be generated)
+     */
+    DEEP_CHAIN {
+        @Override
+        WebLocator create() {
+            WebLocator locator = new WebLocator().setId("app");
+            for (int i = 0; i < 7; i++) {
+                locator = new WebLocator(locator).setClasses("level-" + i, "x-container");
+            }
+            return new WebLocator(locator).setTag("button").setClasses("x-btn");
+        }
+    },
+    CHILD_NODES {
+        @Override
+        WebLocator create() {
+            WebLocator panel = new WebLocator().setClasses("x-panel");
+            WebLocator header = new WebLocator(panel).setClasses("x-header");
+            return panel.setChildNodes(new WebLocator(header).setText("Settings", SearchType.EQUALS), new WebLocator().setClasses("x-tool-close"));
+        }
+    },
+    LABEL {
+        @Override
+        WebLocator create() {
+            WebLocator form = new WebLocator().setTag("form").setId("login");
+            return new WebLocator(form).setTag("input").setLabel("User Name", SearchType.DEEP_CHILD_NODE_OR_SELF);
+        }
+    },
+    TEMPLATE_TITLE {
+        @Override
+        WebLocator create() {
+            WebLocator header = new WebLocator().setClasses("x-title");
+            return new WebLocator().setClasses("x-panel").setTemplateTitle(new WebLocator(header)).setTitle("Users");
+        }
+    },
+    CONTAINS_ALL {
+        @Override
+        WebLocator create() {
+            return new WebLocator().setClasses("x-grid-cell").setText("&Save&All&Changes", SearchType.CONTAINS_ALL);
+        }
+    },
+    HTML_NODE {
+        @Override
+        WebLocator create() {
+            return new WebLocator().setTag("div").setText("Save all changes", SearchType.HTML_NODE);
+        }
+    },
+    EXTJS6_CELL {
+        @Override
+        WebLocator create() {
+            Grid grid = new Grid().setTitle("Users");
+            return grid.getCell(3, new Cell(1, "John", SearchType.EQUALS), new Cell(2, "|Admin|Owner", SearchType.CONTAINS_ANY));
+        }
+    },
+    EXTJS3_GRID_CELL {
+        @Override
+        WebLocator create() {
+            return new GridPanel(new WebLocator().setId("users"), "name").getCell("John", SearchType.EQUALS);
+        }
+    },
+    BOOTSTRAP_DATE_PICKER {
+        @Override
+        WebLocator create() {
+            return new DatePicker(new WebLocator().setId("form")).getDaySelect();
+        }
+    };
+
+    abstract WebLocator create();
+}
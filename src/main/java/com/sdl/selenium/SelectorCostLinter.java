@@ -0,0 +1,217 @@
+package com.sdl.selenium;
+
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.SearchType;
+import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.XPathBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Estimates, without browser, how expensive are the selectors of a view for the browser and suggests cheaper alternatives.
+ * Costs are relative weights of the known expensive parts of generated xpath, not measured times:</p>
+ * <ul>
+ * <li>{@value #ANY_TAG_DOCUMENT} - leading //* (every element of the document is checked), {@value #ANY_TAG} for //* inside a container</li>
+ * <li>{@value #TEXT_SCAN} - text searched in all descendant text nodes (DEEP_CHILD_NODE, DEEP_CHILD_NODE_OR_SELF, CONTAINS_ALL_CHILD_NODES)</li>
+ * <li>{@value #VISIBILITY} - visibility template (all ancestors of each candidate are checked)</li>
+ * <li>{@value #RESULT_IDX} - resultIdx (all matches of the path are found before taking one)</li>
+ * <li>{@value #TRANSLATE} - translate() for CASE_INSENSITIVE (text of each candidate is transformed)</li>
+ * </ul>
+ * <p>Locators found by css selector have cost 1.</p>
+ * <p>From maven (page objects with default constructor, in test classpath):</p>
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.sdl.selenium.SelectorCostLinter -Dexec.args="--max-cost=20 com.example.LoginView"
+ * </pre>
+ */
+@Slf4j
+public final class SelectorCostLinter {
+    static final int ANY_TAG_DOCUMENT = 10;
+    static final int ANY_TAG = 5;
+    static final int TEXT_SCAN = 8;
+    static final int VISIBILITY = 6;
+    static final int RESULT_IDX = 5;
+    static final int TRANSLATE = 4;
+
+    private static final String MAX_COST = "--max-cost=";
+
+    private SelectorCostLinter() {
+    }
+
+    /**
+     * @param view any instance of WebLocator (see {@link WebLocatorUtils#webLocatorAsMap(WebLocator)})
+     * @return cost of the view and of all its locators, most expensive first
+     */
+    public static List<SelectorCost> lint(WebLocator view) {
+        List<SelectorCost> costs = new ArrayList<>();
+        costs.add(cost("current_view", view));
+        for (Map.Entry<String, WebLocator> entry : WebLocatorUtils.webLocatorAsMap(view).entrySet()) {
+            costs.add(cost(entry.getKey(), entry.getValue()));
+        }
+        costs.sort(Comparator.comparingInt(SelectorCost::getCost).reversed().thenComparing(SelectorCost::getName));
+        return costs;
+    }
+
+    /**
+     * @param name    name of locator in report
+     * @param locator locator
+     * @return estimated cost of the selector used to find the locator
+     */
+    public static SelectorCost cost(String name, WebLocator locator) {
+        String cssSelector = locator.getCssSelector();
+        if (cssSelector != null) {
+            return new SelectorCost(name, "css", cssSelector, 1, Collections.emptyList());
+        }
+        List<Finding> findings = new ArrayList<>();
+        List<XPathBuilder> chain = new ArrayList<>();
+        for (WebLocator item = locator; item != null; item = item.getPathBuilder().getContainer()) {
+            chain.add(0, item.getPathBuilder());
+        }
+        for (int i = 0; i < chain.size(); i++) {
+            XPathBuilder builder = chain.get(i);
+            String owner = i == chain.size() - 1 ? "" : "container " + builder + ": ";
+            addFindings(findings, owner, builder, i == 0);
+        }
+        String reason = locator.getPathBuilder().getCssFallbackReason();
+        if ("generateCssSelector is disabled".equals(reason) && canBeCss(chain)) {
+            findings.add(new Finding(0, "xpath is used", "enable weblocator.generateCssSelector, this locator can be found by css selector"));
+        }
+        int cost = 1;
+        for (Finding finding : findings) {
+            cost += finding.cost;
+        }
+        return new SelectorCost(name, "xpath", locator.getXPath(), cost, findings);
+    }
+
+    private static void addFindings(List<Finding> findings, String owner, XPathBuilder builder, boolean first) {
+        String elPath = builder.getElPath();
+        boolean anyTag = elPath == null ? "*".equals(builder.getTag()) : elPath.startsWith("//*");
+        if (anyTag) {
+            String suggestion;
+            if (builder.getId() != null) {
+                suggestion = "id '" + builder.getId() + "' is set: setTag(...) with the tag of the element, or find it by id only";
+            } else {
+                suggestion = "setTag(...) with the tag of the element narrows //* to one element name";
+            }
+            findings.add(new Finding(first ? ANY_TAG_DOCUMENT : ANY_TAG, owner + (first ? "leading //* checks all elements of the page" : "//* checks all elements of the container"), suggestion));
+        }
+        List<SearchType> searchTextType = builder.getSearchTextType();
+        if (builder.getText() != null && elPath == null) {
+            if (searchTextType.contains(SearchType.DEEP_CHILD_NODE) || searchTextType.contains(SearchType.DEEP_CHILD_NODE_OR_SELF)
+                    || searchTextType.contains(SearchType.CONTAINS_ALL_CHILD_NODES)) {
+                findings.add(new Finding(TEXT_SCAN, owner + "text is searched in all descendant text nodes (//text())",
+                        "SearchType.CHILD_NODE when the text is in the element itself, or a container closer to the text"));
+            }
+            if (searchTextType.contains(SearchType.CASE_INSENSITIVE)) {
+                findings.add(new Finding(TRANSLATE, owner + "CASE_INSENSITIVE text uses translate() for each candidate",
+                        "search the text with its case (SearchType.CASE_SENSITIVE)"));
+            }
+        }
+        if (builder.isVisibility() && builder.getTemplate("visibility") != null) {
+            findings.add(new Finding(VISIBILITY, owner + "visibility template checks all ancestors of each candidate",
+                    "setVisibility(false) and check isVisible() of the found element, or a specific class of visible element"));
+        }
+        if (builder.getResultIdx() != null) {
+            findings.add(new Finding(RESULT_IDX, owner + "resultIdx finds all matches of the path before taking one",
+                    "setPosition(...) (index in parent) or a more specific container"));
+        }
+    }
+
+    private static boolean canBeCss(List<XPathBuilder> chain) {
+        for (XPathBuilder builder : chain) {
+            if (builder.getText() != null || builder.getElPath() != null || builder.getLabel() != null
+                    || builder.getChildNodes() != null || builder.getResultIdx() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param costs result of {@link #lint(WebLocator)}
+     * @return report with one line for each locator, followed by its findings and suggestions
+     */
+    public static String report(List<SelectorCost> costs) {
+        StringBuilder report = new StringBuilder();
+        for (SelectorCost cost : costs) {
+            report.append(String.format("%4d  %s (%s) %s%n", cost.getCost(), cost.getName(), cost.getType(), cost.getSelector()));
+            for (Finding finding : cost.getFindings()) {
+                report.append(String.format("      +%d %s%n          -> %s%n", finding.cost, finding.problem, finding.suggestion));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * @param args [--max-cost=N] class names of views (WebLocator with default constructor);
+     *             exits with 1 when the cost of a locator is greater than max cost
+     * @throws ReflectiveOperationException if a view can't be created
+     */
+    public static void main(String[] args) throws ReflectiveOperationException {
+        int maxCost = Integer.MAX_VALUE;
+        boolean failed = false;
+        for (String arg : args) {
+            if (arg.startsWith(MAX_COST)) {
+                maxCost = Integer.parseInt(arg.substring(MAX_COST.length()));
+                continue;
+            }
+            Object view = Class.forName(arg).newInstance();
+            if (!(view instanceof WebLocator)) {
+                throw new IllegalArgumentException(arg + " is not a WebLocator");
+            }
+            List<SelectorCost> costs = lint((WebLocator) view);
+            System.out.println(arg + " (generateCssSelector=" + WebLocatorConfig.isGenerateCssSelector() + ")");
+            System.out.println(report(costs));
+            if (costs.get(0).getCost() > maxCost) {
+                log.error("{}: cost of {} is {}, greater than {}", arg, costs.get(0).getName(), costs.get(0).getCost(), maxCost);
+                failed = true;
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    @Getter
+    public static final class SelectorCost {
+        private final String name;
+        /**
+         * css or xpath
+         */
+        private final String type;
+        private final String selector;
+        private final int cost;
+        private final List<Finding> findings;
+
+        private SelectorCost(String name, String type, String selector, int cost, List<Finding> findings) {
+            this.name = name;
+            this.type = type;
+            this.selector = selector;
+            this.cost = cost;
+            this.findings = findings;
+        }
+    }
+
+    @Getter
+    public static final class Finding {
+        private final int cost;
+        private final String problem;
+        private final String suggestion;
+
+        private Finding(int cost, String problem, String suggestion) {
+            this.cost = cost;
+            this.problem = problem;
+            this.suggestion = suggestion;
+        }
+
+        @Override
+        public String toString() {
+            return "+" + cost + " " + problem + " -> " + suggestion;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.sdl.selenium;
 
+import com.google.common.base.Strings;
+import com.sdl.selenium.web.ElementSnapshot;
 import com.sdl.selenium.web.WebLocator;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -12,11 +14,31 @@ import java.util.*;
 public final class WebLocatorUtils extends WebLocator {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebLocatorUtils.class);
 
+    /**
+     * Argument: list of locators {selector, css, visibility}.
+     * Returns for each locator [count, first element] (only displayed elements when visibility is set).
+     */
+    private static final String WARM_UP_SCRIPT = "var locators = arguments[0], results = [];\n" + ElementSnapshot.IS_DISPLAYED +
+            "for (var i = 0; i < locators.length; i++) {\n" +
+            "  var l = locators[i], elements = [];\n" +
+            "  try {\n" +
+            "    if (l.css) {\n" +
+            "      elements = Array.prototype.slice.call(document.querySelectorAll(l.selector));\n" +
+            "    } else {\n" +
+            "      var found = document.evaluate(l.selector, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n" +
+            "      for (var j = 0; j < found.snapshotLength; j++) { elements.push(found.snapshotItem(j)); }\n" +
+            "    }\n" +
+            "  } catch (err) { elements = []; }\n" +
+            "  if (l.visibility) { elements = elements.filter(isDisplayed); }\n" +
+            "  results.push([elements.length, elements.length ? elements[0] : null]);\n" +
+            "}\n" +
+            "return results;";
+
     private WebLocatorUtils() {
     }
 
     public static Object doExecuteScript(String script, Object... objects) {
-        return executor.executeScript(script, objects);
+        return getExecutor().executeScript(script, objects);
     }
 
     /**
@@ -82,6 +104,63 @@ public final class WebLocatorUtils extends WebLocator {
         builder.append("}").append(newLine).append(newLine);
     }
 
+    /**
+     * <p>Finds the view and all its locators with one script, when the view is opened, instead of one find for each
+     * locator at first use. Each locator found gets its element (see {@link WebLocator#prefetch(WebElement, String)}),
+     * so its next wait and first action don't search it again while it is still in page.
+     * Can be used as a fast check that page is rendered.</p>
+     * <p>Usage example:</p>
+     * <pre>{@code
+     * Map<String, Integer> counts = WebLocatorUtils.warmUp(new LoginView());
+     * assertTrue(counts.get("save") > 0);
+     * }</pre>
+     *
+     * @param view any instance of WebLocator (see {@link #webLocatorAsMap(WebLocator)})
+     * @return number of elements found for view ("current_view") and for each locator, by name;
+     * only displayed elements are counted for locators with visibility; empty map when script could not run
+     */
+    public static Map<String, Integer> warmUp(WebLocator view) {
+        Map<String, WebLocator> locators = new LinkedHashMap<>();
+        locators.put("current_view", view);
+        locators.putAll(new TreeMap<>(webLocatorAsMap(view)));
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        for (WebLocator locator : locators.values()) {
+            String css = locator.getCssSelector();
+            boolean isCss = !Strings.isNullOrEmpty(css);
+            Map<String, Object> argument = new HashMap<>();
+            argument.put("selector", isCss ? css : locator.getXPath());
+            argument.put("css", isCss);
+            argument.put("visibility", locator.getPathBuilder().isVisibility());
+            arguments.add(argument);
+        }
+        Object response = doExecuteScript(WARM_UP_SCRIPT, arguments);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (!(response instanceof List) || ((List<?>) response).size() != locators.size()) {
+            LOGGER.warn("Could not warm up {}", view);
+            return counts;
+        }
+        List<String> missing = new ArrayList<>();
+        int i = 0;
+        for (Map.Entry<String, WebLocator> entry : locators.entrySet()) {
+            List<?> result = (List<?>) ((List<?>) response).get(i++);
+            int count = ((Number) result.get(0)).intValue();
+            counts.put(entry.getKey(), count);
+            WebLocator locator = entry.getValue();
+            if (count > 0) {
+                String css = locator.getCssSelector();
+                locator.prefetch((WebElement) result.get(1), Strings.isNullOrEmpty(css) ? locator.getXPath() : css);
+            } else {
+                missing.add(entry.getKey());
+            }
+        }
+        if (missing.isEmpty()) {
+            LOGGER.info("Warm up {}: all {} locators found", view, counts.size());
+        } else {
+            LOGGER.warn("Warm up {}: {} of {} locators not found: {}", view, missing.size(), counts.size(), missing);
+        }
+        return counts;
+    }
+
     public static String getFirebugXPath(WebLocator locator) {
         return "$x(\"" + locator.getXPath() + "\")";
     }
@@ -127,6 +127,6 @@ public class UploadFile extends WebLocator implements Upload {
      * @return true | false
      */
     public boolean upload(WebLocator el, String filePath) {
-        return executor.browse(el) && executor.upload(filePath);
+        return getExecutor().browse(el) && getExecutor().upload(filePath);
     }
 }
\ No newline at end of file
@@ -3,7 +3,7 @@ package com.sdl.selenium.extjs3;
 import com.sdl.selenium.extjs3.form.TextField;
 import com.sdl.selenium.utils.config.WebDriverConfig;
 import com.sdl.selenium.web.WebLocator;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +43,7 @@ public class AdvancedTextField extends TextField {
         LOGGER.debug("select: " + value);
         boolean found = false;
         if(clickIcon("arrow")){
-            Utils.sleep(500);
+            FastMode.sleep(500);
             //TODO move this in a menu class
             String stylePath = "";
             if(!WebDriverConfig.isIE()){
@@ -7,6 +7,7 @@ import com.sdl.selenium.utils.config.WebDriverConfig;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.button.IButton;
+import com.sdl.selenium.web.utils.FastMode;
 import com.sdl.selenium.web.utils.Utils;
 import org.openqa.selenium.Keys;
 import org.slf4j.Logger;
@@ -134,7 +135,7 @@ public class Button extends ExtJsComponent implements IButton {
             String script = "return (function(){var b = Ext.getCmp('" + id + "'); if(b) {b.showMenu(); return true;} return false;})()";
             Object object = WebLocatorUtils.doExecuteScript(script);
             LOGGER.info("showMenu for {}; result: {}", toString(), object);
-            Utils.sleep(200);
+            FastMode.sleep(200);
             return (Boolean) object;
         }
         LOGGER.debug("id is: " + id);
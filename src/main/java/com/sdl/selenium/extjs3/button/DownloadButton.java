@@ -34,10 +34,10 @@ public class DownloadButton extends Button implements Download {
     @Override
     public boolean download(String fileName) {
         openBrowse();
-        return executor.download(fileName, 10000L);
+        return getExecutor().download(fileName, 10000L);
     }
 
     private void openBrowse() {
-        executor.browse(this);
+        getExecutor().browse(this);
     }
 }
@@ -43,10 +43,10 @@ public class DownloadLink extends ExtJsComponent implements Download {
     @Override
     public boolean download(String fileName) {
         openBrowse();
-        return executor.download(fileName, 10000L);
+        return getExecutor().download(fileName, 10000L);
     }
 
     private void openBrowse() {
-        executor.browse(this);
+        getExecutor().browse(this);
     }
 }
@@ -41,6 +41,6 @@ public class UploadButton extends Button implements Upload {
      * @return true | false
      */
     private boolean upload(WebLocator el, String filePath) {
-        return executor.browse(el) && executor.upload(filePath);
+        return getExecutor().browse(el) && getExecutor().upload(filePath);
     }
 }
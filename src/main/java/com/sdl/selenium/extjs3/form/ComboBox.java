@@ -5,7 +5,7 @@ import com.sdl.selenium.utils.config.WebDriverConfig;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.form.ICombo;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import lombok.extern.slf4j.Slf4j;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -79,7 +79,7 @@ public class ComboBox extends TextField implements ICombo {
 
             if (selected) {
                 log.info("Set value(" + info + "): " + value);
-                Utils.sleep(200);
+                FastMode.sleep(200);
                 return true;
             } else {
                 collapse(); // to close combo
@@ -1,7 +1,7 @@
 package com.sdl.selenium.extjs3.form;
 
 import com.sdl.selenium.web.WebLocator;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,7 +41,7 @@ public class FieldSet extends WebLocator {
         WebLocator legendElement = new WebLocator(this).setText(getPathBuilder().getText());
         boolean expanded = !isCollapsed() || legendElement.click();
         if (expanded) {
-            Utils.sleep(500);
+            FastMode.sleep(500);
         }
         return expanded;
     }
@@ -41,6 +41,14 @@ public class List extends GridPanel {
         return (Boolean) WebLocatorUtils.doExecuteScript("return (function(m,v){m.setValue(v);return m.getValue() == v.toLowerCase()})(Ext.getCmp('" + id + "'),'" + StringUtils.join(values, ",") + "');");
     }
 
+    /**
+     * @return text of all rows, read with one command; null if list is not ready
+     */
+    public java.util.List<String> getValues() {
+        WebLocator rows = new WebLocator(this).setElPath("//dl");
+        return ready() ? rows.getTexts() : null;
+    }
+
     public boolean isSelectedRows(String ...values) {
         boolean select = false;
         for (String value : values) {
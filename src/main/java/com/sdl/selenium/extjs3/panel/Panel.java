@@ -2,7 +2,7 @@ package com.sdl.selenium.extjs3.panel;
 
 import com.sdl.selenium.extjs3.ExtJsComponent;
 import com.sdl.selenium.web.WebLocator;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,7 +65,7 @@ public class Panel extends ExtJsComponent {
     public boolean close() {
         boolean closed = clickOnTool("close");
         if (closed) {
-            Utils.sleep(50);
+            FastMode.sleep(50);
         }
         return closed;
     }
@@ -74,7 +74,7 @@ public class Panel extends ExtJsComponent {
         boolean isMaximized = isMaximized();
         boolean maximized = isMaximized || clickOnTool("maximize");
         if (!isMaximized && maximized) {
-            Utils.sleep(50);
+            FastMode.sleep(50);
         }
         return maximized;
     }
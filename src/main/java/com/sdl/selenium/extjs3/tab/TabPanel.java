@@ -7,7 +7,6 @@ import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.XPathBuilder;
 import com.sdl.selenium.web.utils.Utils;
 import org.openqa.selenium.ElementNotVisibleException;
-import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -116,15 +115,10 @@ public class TabPanel extends ExtJsComponent {
 
     public int getTabIndex(String title, String path) {
         WebLocator titles = new WebLocator().setElPath(path);
-        List<WebElement> element = titles.findElements();
-        int index = 0;
-        for (WebElement el : element) {
-            if (title.equals(el.getText())) {
-                LOGGER.debug(index + " : " + el.getText());
-                return index;
-            }
-            index++;
+        int index = titles.getTexts().indexOf(title);
+        if (index != -1) {
+            LOGGER.debug(index + " : " + title);
         }
-        return -1;
+        return index;
     }
 }
@@ -3,7 +3,7 @@ package com.sdl.selenium.extjs4.form;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.form.ICombo;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import lombok.extern.slf4j.Slf4j;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -51,7 +51,7 @@ public class ComboBox extends TextField implements ICombo {
             selected = option.click();
             if (selected) {
                 log.info("Set value(" + info + "): " + value);
-                Utils.sleep(20);
+                FastMode.sleep(20);
                 return true;
             } else {
                 collapse(); // to close combo
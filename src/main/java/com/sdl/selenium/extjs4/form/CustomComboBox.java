@@ -3,7 +3,7 @@ package com.sdl.selenium.extjs4.form;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.form.ICombo;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.Keys;
 
@@ -42,7 +42,7 @@ public class CustomComboBox extends TextField implements ICombo {
             selected = option.click();
             if (selected) {
                 log.info("Set value(" + info + "): " + value);
-                Utils.sleep(20);
+                FastMode.sleep(20);
                 return true;
             } else {
                 sendKeys(Keys.ESCAPE); // to close combo
@@ -3,7 +3,7 @@ package com.sdl.selenium.extjs4.window;
 import com.sdl.selenium.extjs6.button.Button;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +43,7 @@ public class Window extends WebLocator {
     public boolean close() {
         boolean closed = clickOnTool("close");
         if (closed) {
-            Utils.sleep(50);
+            FastMode.sleep(50);
         }
         return closed;
     }
@@ -57,7 +57,7 @@ public class Window extends WebLocator {
         boolean isMaximized = isMaximized();
         boolean maximized = isMaximized || clickOnTool("maximize");
         if (!isMaximized && maximized) {
-            Utils.sleep(50);
+            FastMode.sleep(50);
         }
         return maximized;
     }
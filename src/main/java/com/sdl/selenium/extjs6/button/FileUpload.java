@@ -43,6 +43,6 @@ public class FileUpload extends TextField implements Upload {
      * @return true | false
      */
     private boolean upload(WebLocator el, String filePath) {
-        return executor.browse(el) && executor.upload(filePath);
+        return getExecutor().browse(el) && getExecutor().upload(filePath);
     }
 }
\ No newline at end of file
@@ -4,7 +4,7 @@ import com.sdl.selenium.extjs6.panel.Pagination;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.form.ICombo;
-import com.sdl.selenium.web.utils.Utils;
+import com.sdl.selenium.web.utils.FastMode;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.StaleElementReferenceException;
 
@@ -63,7 +63,7 @@ public class ComboBox extends TextField implements ICombo {
             }
             if (selected) {
                 log.info("Set value(" + info + "): " + value);
-                Utils.sleep(20);
+                FastMode.sleep(20);
                 return true;
             }
             try {
@@ -124,7 +124,7 @@ public class ComboBox extends TextField implements ICombo {
     @Override
     public String getValue() {
         ready();
-        return executor.getValue(this);
+        return getExecutor().getValue(this);
     }
 
     public List<String> getAllValues() {
@@ -5,8 +5,8 @@ import com.sdl.selenium.extjs6.slider.Slider;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.link.WebLink;
+import com.sdl.selenium.web.utils.FastMode;
 import com.sdl.selenium.web.utils.RetryUtils;
-import com.sdl.selenium.web.utils.Utils;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebDriverException;
 
@@ -70,7 +70,7 @@ public class DateField extends TextField {
             selectOkButton.click();
         }
         WebLocator dayEl = new WebLocator(dayContainer).setText(day, SearchType.EQUALS).setVisibility(true).setInfoMessage("day " + day);
-        Utils.sleep(50);
+        FastMode.sleep(50);
         return dayEl.click();
     }
 
@@ -97,7 +97,7 @@ public class DateField extends TextField {
             if (tooltip.waitToRender(500L, false)) {
                 WebLocator monthEl = new WebLocator(monthContainer).setText("Jan", SearchType.EQUALS).setInfoMessage("month Jan");
                 monthEl.mouseOver();
-                Utils.sleep(300);
+                FastMode.sleep(300);
             }
             yearEl.click();
         }
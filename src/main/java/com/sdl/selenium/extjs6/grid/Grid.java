@@ -1,5 +1,6 @@
 package com.sdl.selenium.extjs6.grid;
 
+import com.google.common.base.Strings;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
 import com.sdl.selenium.web.table.Table;
@@ -139,10 +140,13 @@ public class Grid extends Table implements Scrollable {
     }
 
     public List<String> getHeaders() {
-        List<String> headers = new ArrayList<>();
         WebLocator header = new WebLocator(this).setClasses("x-grid-header-ct");
+        // one line for each header, group headers and the columns nested in them included; empty text is read again
         String headerText = RetryUtils.retrySafe(4, header::getText);
-        Collections.addAll(headers, headerText.trim().split("\n"));
+        List<String> headers = new ArrayList<>();
+        if (!Strings.isNullOrEmpty(headerText)) {
+            Collections.addAll(headers, headerText.trim().split("\n"));
+        }
         return headers;
     }
 
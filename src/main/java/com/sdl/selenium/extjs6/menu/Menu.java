@@ -40,6 +40,7 @@ public class Menu extends WebLocator {
     public List<String> getMenuValues() {
         WebLocator menuList = new WebLocator(this).setClasses("x-menu-body").setVisibility(true).setInfoMessage(this + " -> x-menu-body");
         menuList.assertReady();
+        // one line for each item, plain items included
         String[] menuValues = menuList.getText().split("\\n");
         return Arrays.asList(menuValues);
     }
@@ -2,8 +2,8 @@ package com.sdl.selenium.extjs6.notification;
 
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.utils.FastMode;
 import com.sdl.selenium.web.utils.RetryUtils;
-import com.sdl.selenium.web.utils.Utils;
 
 public class Notification extends WebLocator {
 
@@ -27,7 +27,7 @@ public class Notification extends WebLocator {
 
     public void close() {
         WebLocator close = new WebLocator(this).setClasses("x-tool-close");
-        Utils.sleep(350);
+        FastMode.sleep(350);
         RetryUtils.retry(3, () -> {
             this.waitToRender(300L, false);
             return close.click() || !this.waitToRender(100L, false);
@@ -45,6 +45,7 @@ public class Tab extends WebLocator implements ITab {
 
     public <T extends Tab> T setIconCls(final String iconCls) {
         this.iconCls = iconCls;
+        getPathBuilder().markDirty();
         return (T) this;
     }
 
@@ -0,0 +1,333 @@
+package com.sdl.selenium.utils.config;
+
+import com.sdl.selenium.web.WebLocatorDriverExecutor;
+import com.sdl.selenium.web.WebLocatorExecutor;
+import com.sdl.selenium.web.WebLocatorScriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Driver, executor and browser flags used by locators and components.
+ * <p>Each thread uses the context bound to it, or the default context (the one set up by the static API of
+ * {@link WebDriverConfig} and WebLocator.setDriverExecutor when no context is bound), so tests can run in parallel,
+ * each with its own browser:</p>
+ * <pre>{@code
+ * @BeforeMethod
+ * public void start() throws IOException {
+ *     DriverContext.bind(new DriverContext());
+ *     WebDriverConfig.getWebDriver(Browser.CHROME); // driver of this thread
+ * }
+ *
+ * @AfterMethod
+ * public void stop() {
+ *     DriverContext.current().getDriver().quit();
+ *     DriverContext.unbind();
+ * }
+ * }</pre>
+ * <p>A context can also be passed explicitly, for a piece of work: {@code DriverContext.call(context, () -> view.save.click())}.</p>
+ */
+public class DriverContext {
+    private static final DriverContext DEFAULT = new DriverContext();
+    private static final ThreadLocal<DriverContext> BOUND = new ThreadLocal<>();
+    /**
+     * context whose async task runs in current thread
+     */
+    private static final ThreadLocal<DriverContext> RUNNING = new ThreadLocal<>();
+    private static final AtomicInteger SESSIONS = new AtomicInteger();
+    /**
+     * thread of serial executor ends after this time without tasks, so contexts that are dropped don't keep threads
+     */
+    private static final long IDLE_SECONDS = 30;
+
+    private volatile WebDriver driver;
+    private volatile WebLocatorExecutor executor;
+    private volatile boolean isIE;
+    private volatile boolean isOpera;
+    private volatile boolean isSafari;
+    private volatile boolean isChrome;
+    private volatile boolean isFireFox;
+    private volatile boolean isSilentDownload;
+    private volatile boolean isHeadless;
+    private volatile DriverService driverService;
+    private volatile String downloadPath;
+    private ExecutorService serialExecutor;
+
+    public DriverContext() {
+    }
+
+    /**
+     * @param driver driver of this context, with executor from weblocator.executor (driver or script)
+     */
+    public DriverContext(WebDriver driver) {
+        this.driver = driver;
+        this.executor = createExecutor(driver);
+    }
+
+    /**
+     * @return context bound to current thread, or default context
+     */
+    public static DriverContext current() {
+        DriverContext context = BOUND.get();
+        return context == null ? DEFAULT : context;
+    }
+
+    /**
+     * @return context used by threads that have no bound context
+     */
+    public static DriverContext getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param context context used by current thread, until {@link #unbind()}
+     */
+    public static void bind(DriverContext context) {
+        BOUND.set(context);
+    }
+
+    /**
+     * Current thread uses default context again.
+     */
+    public static void unbind() {
+        BOUND.remove();
+    }
+
+    /**
+     * @param context context used by current thread while task runs
+     * @param task    task
+     * @param <V>     result type
+     * @return result of task
+     * @throws Exception exception of task
+     */
+    public static <V> V call(DriverContext context, Callable<V> task) throws Exception {
+        DriverContext previous = BOUND.get();
+        BOUND.set(context);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                BOUND.remove();
+            } else {
+                BOUND.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @param context context used by current thread while task runs
+     * @param task    task
+     */
+    public static void run(DriverContext context, Runnable task) {
+        try {
+            call(context, () -> {
+                task.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // Runnable can't throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param driver driver
+     * @return executor from weblocator.executor: script (find and action in one script) or driver
+     */
+    public static WebLocatorExecutor createExecutor(WebDriver driver) {
+        if ("script".equalsIgnoreCase(WebLocatorConfig.getExecutor())) {
+            return new WebLocatorScriptExecutor(driver);
+        }
+        return new WebLocatorDriverExecutor(driver);
+    }
+
+    /**
+     * @param driver driver, or a driver that wraps it (eg. EventFiringWebDriver)
+     * @return id of remote session, or identity of driver when it has no session id; same for a driver and its wrappers
+     */
+    public static String sessionKey(WebDriver driver) {
+        if (driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        if (driver instanceof RemoteWebDriver) {
+            SessionId sessionId = ((RemoteWebDriver) driver).getSessionId();
+            if (sessionId != null) {
+                return sessionId.toString();
+            }
+        }
+        return driver.getClass().getName() + '@' + Integer.toHexString(System.identityHashCode(driver));
+    }
+
+    /**
+     * Runs task on the serial executor of this context (one daemon thread for each context, while it has tasks), with this
+     * context bound: tasks of a session run one at a time, in the order they were given, while other sessions run at the same time.
+     * Don't use the driver of this context from other threads while its tasks run.
+     * <p>When called from a task of this context (eg. {@code context.supplyAsync(() -> save.getTextAsync(context).join())}),
+     * the task runs at once in the calling thread: queued after the caller it would wait for it forever.</p>
+     *
+     * @param task task, eg. a WebLocator operation
+     * @param <T>  result type
+     * @return result of task; completed exceptionally when task fails (assertion errors included)
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        if (RUNNING.get() == this) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            try {
+                future.complete(callTask(task));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            RUNNING.set(this);
+            try {
+                return callTask(task);
+            } finally {
+                RUNNING.remove();
+            }
+        }, getSerialExecutor());
+    }
+
+    private <T> T callTask(Supplier<T> task) {
+        try {
+            return call(this, task::get);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // Supplier can't throw checked exceptions
+            throw new CompletionException(e);
+        }
+    }
+
+    private synchronized ExecutorService getSerialExecutor() {
+        if (serialExecutor == null) {
+            String name = "webdriver-session-" + SESSIONS.incrementAndGet();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            serialExecutor = executor;
+        }
+        return serialExecutor;
+    }
+
+    /**
+     * Stops the serial executor of async tasks (tasks already given still run), eg. when driver is closed.
+     */
+    public synchronized void shutdown() {
+        if (serialExecutor != null) {
+            serialExecutor.shutdown();
+            serialExecutor = null;
+        }
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public void setDriver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public WebLocatorExecutor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(WebLocatorExecutor executor) {
+        this.executor = executor;
+    }
+
+    public boolean isIE() {
+        return isIE;
+    }
+
+    public void setIE(boolean isIE) {
+        this.isIE = isIE;
+    }
+
+    public boolean isOpera() {
+        return isOpera;
+    }
+
+    public void setOpera(boolean isOpera) {
+        this.isOpera = isOpera;
+    }
+
+    public boolean isSafari() {
+        return isSafari;
+    }
+
+    public void setSafari(boolean isSafari) {
+        this.isSafari = isSafari;
+    }
+
+    public boolean isChrome() {
+        return isChrome;
+    }
+
+    public void setChrome(boolean isChrome) {
+        this.isChrome = isChrome;
+    }
+
+    public boolean isFireFox() {
+        return isFireFox;
+    }
+
+    public void setFireFox(boolean isFireFox) {
+        this.isFireFox = isFireFox;
+    }
+
+    public boolean isSilentDownload() {
+        return isSilentDownload;
+    }
+
+    public void setSilentDownload(boolean isSilentDownload) {
+        this.isSilentDownload = isSilentDownload;
+    }
+
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    public DriverService getDriverService() {
+        return driverService;
+    }
+
+    public void setDriverService(DriverService driverService) {
+        this.driverService = driverService;
+    }
+
+    public String getDownloadPath() {
+        return downloadPath;
+    }
+
+    public void setDownloadPath(String downloadPath) {
+        this.downloadPath = downloadPath;
+    }
+
+    @Override
+    public String toString() {
+        return "DriverContext{driver=" + driver + (this == DEFAULT ? ", default" : "") + "}";
+    }
+}
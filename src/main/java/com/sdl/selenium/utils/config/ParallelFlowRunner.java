@@ -0,0 +1,240 @@
+package com.sdl.selenium.utils.config;
+
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs page object flows in parallel, each on a browser leased from a {@link WebDriverPool}; the thread of each flow is
+ * bound to the {@link DriverContext} of its browser, so existing page objects (WebLocator and components) work unchanged.
+ * <pre>{@code
+ * try (WebDriverPool pool = new WebDriverPool(20, () -> WebDriverConfig.getWebDriver(Browser.CHROME)).start()) {
+ *     ParallelFlowRunner.Report report = new ParallelFlowRunner(pool).run("login and save", 50, context -> {
+ *         context.getDriver().get(url);
+ *         new LoginView().login("user", "pass");
+ *         new OrderForm().save();
+ *     });
+ *     LOGGER.info("{}", report);
+ * }
+ * }</pre>
+ * <p>Flows run on a fixed thread pool with one thread for each browser, or on the executor given with
+ * {@link #setExecutor(ExecutorService)} (eg. virtual threads on newer Java).</p>
+ */
+public class ParallelFlowRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelFlowRunner.class);
+
+    private final WebDriverPool pool;
+    private ExecutorService executor;
+    private Duration leaseTimeout = Duration.ofMinutes(5);
+
+    public ParallelFlowRunner(WebDriverPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @param executor executor of flows; it is not shut down by runner
+     * @return this runner
+     */
+    public ParallelFlowRunner setExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @param leaseTimeout how long a flow waits for a free browser before it fails
+     * @return this runner
+     */
+    public ParallelFlowRunner setLeaseTimeout(Duration leaseTimeout) {
+        this.leaseTimeout = leaseTimeout;
+        return this;
+    }
+
+    /**
+     * @param name  name of flow in report
+     * @param count how many times flow is run
+     * @param flow  flow
+     * @return report, after all flows ended
+     */
+    public Report run(String name, int count, Flow flow) {
+        Map<String, Flow> flows = new LinkedHashMap<>();
+        for (int i = 1; i <= count; i++) {
+            flows.put(name + " #" + i, flow);
+        }
+        return run(flows);
+    }
+
+    /**
+     * @param flows flows by name
+     * @return report, after all flows ended
+     */
+    public Report run(Map<String, Flow> flows) {
+        ExecutorService service = executor == null ? Executors.newFixedThreadPool(pool.getSize()) : executor;
+        long start = System.nanoTime();
+        List<Future<FlowResult>> futures = new ArrayList<>();
+        try {
+            for (Map.Entry<String, Flow> entry : flows.entrySet()) {
+                futures.add(service.submit(() -> runFlow(entry.getKey(), entry.getValue())));
+            }
+            List<FlowResult> results = new ArrayList<>();
+            for (Future<FlowResult> future : futures) {
+                results.add(future.get());
+            }
+            Report report = new Report(results, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            LOGGER.info("{}", report);
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Interrupted while waiting for flows", e);
+        } catch (ExecutionException e) {
+            // runFlow catches all errors of flows
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            if (executor == null) {
+                service.shutdown();
+            }
+        }
+    }
+
+    private FlowResult runFlow(String name, Flow flow) {
+        long start = System.nanoTime();
+        DriverContext context;
+        try {
+            context = pool.lease(leaseTimeout);
+        } catch (Throwable e) {
+            LOGGER.error("Flow {} got no browser: {}", name, e.getMessage());
+            return new FlowResult(name, Thread.currentThread().getName(), millisFrom(start), 0, e);
+        }
+        long leaseWait = millisFrom(start);
+        long flowStart = System.nanoTime();
+        Throwable error = null;
+        try {
+            flow.run(context);
+        } catch (Throwable e) {
+            // errors too (eg. StackOverflowError), so other flows still run and the browser goes back to pool
+            LOGGER.error("Flow {} failed: {}", name, e.toString());
+            error = e;
+        } finally {
+            pool.release(context);
+        }
+        return new FlowResult(name, Thread.currentThread().getName(), leaseWait, millisFrom(flowStart), error);
+    }
+
+    private static long millisFrom(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanos);
+    }
+
+    @FunctionalInterface
+    public interface Flow {
+        /**
+         * @param context context of leased browser, already bound to current thread
+         * @throws Exception any failure of flow
+         */
+        void run(DriverContext context) throws Exception;
+    }
+
+    @Getter
+    public static final class FlowResult {
+        private final String name;
+        private final String thread;
+        private final long leaseWaitMillis;
+        private final long durationMillis;
+        /**
+         * failure of flow, or why it got no browser; null when flow passed
+         */
+        private final Throwable error;
+
+        private FlowResult(String name, String thread, long leaseWaitMillis, long durationMillis, Throwable error) {
+            this.name = name;
+            this.thread = thread;
+            this.leaseWaitMillis = leaseWaitMillis;
+            this.durationMillis = durationMillis;
+            this.error = error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": " + (isSuccess() ? "passed" : "failed (" + error + ")") + " in " + durationMillis + " ms, lease wait " + leaseWaitMillis + " ms";
+        }
+    }
+
+    @Getter
+    public static final class Report {
+        /**
+         * results in the order flows were given
+         */
+        private final List<FlowResult> results;
+        private final long wallMillis;
+
+        private Report(List<FlowResult> results, long wallMillis) {
+            this.results = Collections.unmodifiableList(results);
+            this.wallMillis = wallMillis;
+        }
+
+        public long getPassed() {
+            return results.stream().filter(FlowResult::isSuccess).count();
+        }
+
+        public long getFailed() {
+            return results.size() - getPassed();
+        }
+
+        public List<FlowResult> getFailures() {
+            List<FlowResult> failures = new ArrayList<>();
+            for (FlowResult result : results) {
+                if (!result.isSuccess()) {
+                    failures.add(result);
+                }
+            }
+            return failures;
+        }
+
+        public long getAverageMillis() {
+            return (long) results.stream().mapToLong(FlowResult::getDurationMillis).average().orElse(0);
+        }
+
+        public long getMaxMillis() {
+            return results.stream().mapToLong(FlowResult::getDurationMillis).max().orElse(0);
+        }
+
+        /**
+         * @param percent eg. 95
+         * @return duration that percent of flows did not exceed
+         */
+        public long getPercentileMillis(int percent) {
+            if (results.isEmpty()) {
+                return 0;
+            }
+            long[] durations = results.stream().mapToLong(FlowResult::getDurationMillis).sorted().toArray();
+            int index = (int) Math.ceil(percent / 100.0 * durations.length) - 1;
+            return durations[Math.max(0, Math.min(durations.length - 1, index))];
+        }
+
+        public long getMaxLeaseWaitMillis() {
+            return results.stream().mapToLong(FlowResult::getLeaseWaitMillis).max().orElse(0);
+        }
+
+        @Override
+        public String toString() {
+            return "Flows: " + results.size() + ", passed: " + getPassed() + ", failed: " + getFailed() + ", wall time: " + wallMillis +
+                    " ms, flow time avg: " + getAverageMillis() + " ms, p95: " + getPercentileMillis(95) + " ms, max: " + getMaxMillis() +
+                    " ms, max lease wait: " + getMaxLeaseWaitMillis() + " ms";
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.sdl.selenium.utils.browsers.FirefoxConfigReader;
 import com.sdl.selenium.utils.browsers.IExplorerConfigReader;
 import com.sdl.selenium.web.Browser;
 import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.WebLocatorExecutor;
+import com.sdl.selenium.web.utils.FastMode;
 import com.sdl.selenium.web.utils.PropertiesReader;
 import com.sdl.selenium.web.utils.Utils;
 import org.apache.commons.lang3.SystemUtils;
@@ -32,45 +34,37 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Static API for the driver of {@link DriverContext#current()}: the context bound to current thread, or the default one.
+ */
 public class WebDriverConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverConfig.class);
 
-    private static WebDriver driver;
-    private static boolean isIE;
-    private static boolean isOpera;
-    private static boolean isSafari;
-    private static boolean isChrome;
-    private static boolean isFireFox;
-    private static boolean isSilentDownload;
-    private static boolean isHeadless;
-    private static DriverService driverService;
-    private static String downloadPath;
-
     /**
-     * @return last created driver (current one)
+     * @return last created driver of current context (current one)
      */
     public static WebDriver getDriver() {
-        return driver;
+        return DriverContext.current().getDriver();
     }
 
     public static boolean isIE() {
-        return isIE;
+        return DriverContext.current().isIE();
     }
 
     public static boolean isOpera() {
-        return isOpera;
+        return DriverContext.current().isOpera();
     }
 
     public static boolean isSafari() {
-        return isSafari;
+        return DriverContext.current().isSafari();
     }
 
     public static boolean isChrome() {
-        return isChrome;
+        return DriverContext.current().isChrome();
     }
 
     public static boolean isFireFox() {
-        return isFireFox;
+        return DriverContext.current().isFireFox();
     }
 
     public static void init(WebDriver driver) throws IOException {
@@ -78,33 +72,36 @@ public class WebDriverConfig {
             LOGGER.info("===============================================================");
             LOGGER.info("|          Open Selenium Web Driver ");
             LOGGER.info("===============================================================\n");
-            WebDriverConfig.driver = driver;
+            DriverContext context = DriverContext.current();
+            context.setDriver(driver);
             WebLocator.setDriverExecutor(driver);
-            if (driver instanceof InternetExplorerDriver) {
-                isIE = true;
-            } else if (driver instanceof ChromeDriver) {
-                isChrome = true;
-            } else if (driver instanceof FirefoxDriver) {
-                isFireFox = true;
-            } else if (driver instanceof SafariDriver) {
-                isSafari = true;
-            }
+            context.setIE(driver instanceof InternetExplorerDriver);
+            context.setChrome(driver instanceof ChromeDriver);
+            context.setFireFox(driver instanceof FirefoxDriver);
+            context.setSafari(driver instanceof SafariDriver);
 
             if (!SystemUtils.IS_OS_LINUX) {
                 driver.manage().window().maximize();
             }
             driver.manage().timeouts().implicitlyWait(WebLocatorConfig.getInt("driver.implicitlyWait"), TimeUnit.MILLISECONDS);
+            Integer scriptTimeout = WebLocatorConfig.getInt("driver.scriptTimeout");
+            if (scriptTimeout != null && scriptTimeout > 0) {
+                driver.manage().timeouts().setScriptTimeout(scriptTimeout, TimeUnit.MILLISECONDS);
+            }
+            if (WebLocatorConfig.isFastMode()) {
+                FastMode.enable(driver);
+            }
             Runtime.getRuntime().addShutdownHook(new Thread() {
                 public void run() {
                     if (WebLocatorConfig.getBoolean("driver.autoClose")) {
-                        initSeleniumEnd();
+                        initSeleniumEnd(driver);
                     }
                 }
             });
         }
     }
 
-    private static void initSeleniumEnd() {
+    private static void initSeleniumEnd(WebDriver driver) {
         LOGGER.info("===============================================================");
         LOGGER.info("|          Stopping driver (closing browser)                   |");
         LOGGER.info("===============================================================");
@@ -121,35 +118,35 @@ public class WebDriverConfig {
     }
 
     public static boolean isSilentDownload() {
-        return isSilentDownload;
+        return DriverContext.current().isSilentDownload();
     }
 
     private static void setSilentDownload(boolean isSalientDownload) {
-        WebDriverConfig.isSilentDownload = isSalientDownload;
+        DriverContext.current().setSilentDownload(isSalientDownload);
     }
 
     public static boolean isHeadless() {
-        return isHeadless;
+        return DriverContext.current().isHeadless();
     }
 
     public static void setHeadless(boolean isHeadless) {
-        WebDriverConfig.isHeadless = isHeadless;
+        DriverContext.current().setHeadless(isHeadless);
     }
 
     public static DriverService getDriverService() {
-        return driverService;
+        return DriverContext.current().getDriverService();
     }
 
     public static void setDriverService(DriverService driverService) {
-        WebDriverConfig.driverService = driverService;
+        DriverContext.current().setDriverService(driverService);
     }
 
     public static String getDownloadPath() {
-        return downloadPath;
+        return DriverContext.current().getDownloadPath();
     }
 
     public static void setDownloadPath(String downloadPath) {
-        WebDriverConfig.downloadPath = downloadPath;
+        DriverContext.current().setDownloadPath(downloadPath);
     }
 
     /**
@@ -195,7 +192,7 @@ public class WebDriverConfig {
     }
 
     public static WebDriver getWebDriver(URL remoteUrl, DesiredCapabilities capabilities) throws IOException {
-        driver = new RemoteWebDriver(remoteUrl, capabilities);
+        WebDriver driver = new RemoteWebDriver(remoteUrl, capabilities);
         ((RemoteWebDriver) driver).setFileDetector(new LocalFileDetector());
         init(driver);
         return driver;
@@ -203,6 +200,7 @@ public class WebDriverConfig {
 
     private static WebDriver getDriver(Browser browser, InputStream inputStream, URL remoteUrl) throws IOException {
         AbstractBrowserConfigReader properties = null;
+        WebDriver driver = null;
         if (browser == Browser.FIREFOX) {
             properties = new FirefoxConfigReader();
         } else if (browser == Browser.IEXPLORE) {
@@ -211,7 +209,6 @@ public class WebDriverConfig {
             properties = new ChromeConfigReader();
         } else {
             LOGGER.error("Browser not supported {}", browser);
-            driver = null;
         }
         if (properties != null) {
             if (inputStream != null) {
@@ -271,7 +268,7 @@ public class WebDriverConfig {
     }
 
     public static int getCountTabs() {
-        int totalTabs = driver.getWindowHandles().size();
+        int totalTabs = getDriver().getWindowHandles().size();
         LOGGER.debug("totalTabs is {}", totalTabs);
         return totalTabs;
     }
@@ -287,6 +284,7 @@ public class WebDriverConfig {
     }
 
     public static String switchToTab(int index) {
+        WebDriver driver = getDriver();
         String oldTabName = null;
         try {
             Utils.sleep(100); // to make sure tab has been created
@@ -310,6 +308,13 @@ public class WebDriverConfig {
                 title = driver.getTitle();
             }
             LOGGER.info("Current tab title : {}", title);
+            WebLocatorExecutor executor = DriverContext.current().getExecutor();
+            if (executor != null) {
+                executor.pageChanged();
+            }
+            if (FastMode.isActive(driver)) {
+                FastMode.apply(driver);
+            }
         } catch (NoSuchWindowException e) {
             LOGGER.error("NoSuchWindowException", e);
         }
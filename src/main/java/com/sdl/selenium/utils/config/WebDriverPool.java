@@ -0,0 +1,416 @@
+package com.sdl.selenium.utils.config;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Browsers started in background, in parallel, and leased to test threads; on release the browser is reset
+ * (windows opened after the first one closed, storage and cookies of visited origins cleared, about:blank opened)
+ * instead of being closed.
+ * <pre>{@code
+ * static final WebDriverPool POOL = new WebDriverPool(4, () -> WebDriverConfig.getWebDriver(Browser.CHROME)).start();
+ *
+ * @BeforeMethod
+ * public void lease() {
+ *     POOL.lease(Duration.ofMinutes(2)); // bound to this thread, see DriverContext
+ * }
+ *
+ * @AfterMethod
+ * public void release() {
+ *     POOL.release(DriverContext.current());
+ * }
+ * }</pre>
+ * <p>Factory runs with its own {@link DriverContext} bound, so {@link WebDriverConfig#getWebDriver} sets up that context
+ * (browser flags, download path). Sessions that fail the health check at lease, or can't be reset at release, are closed
+ * and replaced with new ones. Browsers that could not be started are started again by threads waiting in lease.</p>
+ * <p>WebDriver can only clear storage and cookies of the page that is open, so reset clears the origins open in windows and
+ * the origins navigated to with {@link WebDriver#get(String)} when the factory returns an {@link EventFiringWebDriver}
+ * (each one is opened again to be cleared). Origins left by a click, with a plain driver, keep their storage:
+ * use an EventFiringWebDriver, or a new browser profile for each lease, when tests must not share it.</p>
+ */
+public class WebDriverPool implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverPool.class);
+
+    /**
+     * clears storage of current page (it must be done before leaving the page)
+     */
+    static final String CLEAR_STORAGE_SCRIPT = "try { window.localStorage.clear(); } catch (e) {}\n" +
+            "try { window.sessionStorage.clear(); } catch (e) {}\n" +
+            "return true;";
+
+    /**
+     * while a thread waits in lease, missing browsers (eg. failed to start) are started again at most this often
+     */
+    private static final long TOP_UP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int size;
+    private final Callable<WebDriver> factory;
+    private final BlockingQueue<DriverContext> idle = new LinkedBlockingQueue<>();
+    private final Set<DriverContext> leased = ConcurrentHashMap.newKeySet();
+    private final Map<DriverContext, Session> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService starter;
+    private final AtomicInteger starting = new AtomicInteger();
+    /**
+     * browsers starting, idle or leased
+     */
+    private final AtomicInteger browsers = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong leaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong replaced = new AtomicLong();
+    private final AtomicLong failedStarts = new AtomicLong();
+
+    /**
+     * @param size    number of browsers
+     * @param factory creates a browser, eg. {@code () -> WebDriverConfig.getWebDriver(Browser.CHROME)}
+     */
+    public WebDriverPool(int size, Callable<WebDriver> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size of pool must be at least 1: " + size);
+        }
+        this.size = size;
+        this.factory = factory;
+        AtomicInteger count = new AtomicInteger();
+        this.starter = Executors.newFixedThreadPool(size, r -> {
+            Thread thread = new Thread(r, "webdriver-pool-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts all browsers in background, without waiting for them.
+     *
+     * @return this pool
+     */
+    public synchronized WebDriverPool start() {
+        for (int i = browsers.get(); i < size; i++) {
+            startOne();
+        }
+        return this;
+    }
+
+    private void startOne() {
+        browsers.incrementAndGet();
+        starting.incrementAndGet();
+        starter.execute(() -> {
+            try {
+                DriverContext context = new DriverContext();
+                WebDriver driver = DriverContext.call(context, factory);
+                if (driver == null) {
+                    throw new IllegalStateException("factory returned no driver");
+                }
+                if (context.getDriver() == null) {
+                    // factory did not use WebDriverConfig
+                    context.setDriver(driver);
+                }
+                if (context.getExecutor() == null) {
+                    context.setExecutor(DriverContext.createExecutor(driver));
+                }
+                Session session = new Session(driver.getWindowHandle());
+                if (driver instanceof EventFiringWebDriver) {
+                    ((EventFiringWebDriver) driver).register(session);
+                }
+                sessions.put(context, session);
+                started.incrementAndGet();
+                if (closed) {
+                    quit(context);
+                } else {
+                    idle.add(context);
+                }
+            } catch (Exception e) {
+                browsers.decrementAndGet();
+                failedStarts.incrementAndGet();
+                LOGGER.error("Could not start browser for pool: {}", e.getMessage(), e);
+            } finally {
+                starting.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Waits for a healthy browser and binds its context to current thread.
+     *
+     * @param timeout how long to wait for a free browser
+     * @return context of leased browser
+     * @throws TimeoutException when no browser is free before timeout
+     */
+    public DriverContext lease(Duration timeout) {
+        if (closed) {
+            throw new IllegalStateException("Pool is closed");
+        }
+        long begin = System.nanoTime();
+        long end = begin + timeout.toNanos();
+        DriverContext context = null;
+        try {
+            while (context == null) {
+                long remaining = end - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("No browser was free in pool after " + timeout.toMillis() + " ms; " + this);
+                }
+                if (idle.isEmpty() && !closed) {
+                    start();
+                }
+                context = idle.poll(Math.min(remaining, TOP_UP_NANOS), TimeUnit.NANOSECONDS);
+                if (context != null && !isHealthy(context)) {
+                    LOGGER.warn("Browser of pool is not responding, it is replaced: {}", context);
+                    discard(context);
+                    context = null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser", e);
+        }
+        long wait = System.nanoTime() - begin;
+        leases.incrementAndGet();
+        leaseWaitNanos.addAndGet(wait);
+        maxLeaseWaitNanos.accumulateAndGet(wait, Math::max);
+        leased.add(context);
+        DriverContext.bind(context);
+        LOGGER.debug("Leased {} after {} ms", context, TimeUnit.NANOSECONDS.toMillis(wait));
+        return context;
+    }
+
+    /**
+     * Resets the browser and gives it back to pool; current thread uses default context again when it was bound to it.
+     *
+     * @param context context returned by {@link #lease(Duration)}
+     */
+    public void release(DriverContext context) {
+        if (!leased.remove(context)) {
+            LOGGER.warn("Context was not leased from this pool: {}", context);
+            return;
+        }
+        if (DriverContext.current() == context) {
+            DriverContext.unbind();
+        }
+        if (closed) {
+            quit(context);
+        } else if (reset(context)) {
+            idle.add(context);
+        } else {
+            LOGGER.warn("Browser of pool could not be reset, it is replaced: {}", context);
+            discard(context);
+        }
+    }
+
+    /**
+     * @return true when driver answers
+     */
+    protected boolean isHealthy(DriverContext context) {
+        try {
+            return !context.getDriver().getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Health check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Closes windows opened after the first one, clears storage and cookies of the pages open in windows and of the origins
+     * navigated to (see class doc), and opens about:blank in the first window.
+     *
+     * @return false when browser could not be reset
+     */
+    protected boolean reset(DriverContext context) {
+        WebDriver driver = context.getDriver();
+        Session session = sessions.get(context);
+        if (session == null) {
+            return false;
+        }
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            if (!handles.contains(session.window)) {
+                // first window was closed by test: the one that is left is kept
+                session.window = handles.iterator().next();
+            }
+            Set<String> origins = new LinkedHashSet<>(session.origins);
+            for (String handle : handles) {
+                if (!handle.equals(session.window)) {
+                    driver.switchTo().window(handle);
+                    clearPage(driver, origins);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(session.window);
+            clearPage(driver, origins);
+            for (String origin : origins) {
+                driver.get(origin + "/");
+                clearPage(driver, new LinkedHashSet<>());
+            }
+            driver.get("about:blank");
+            // origins opened by reset itself
+            session.origins.clear();
+            context.getExecutor().pageChanged();
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Reset failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Clears storage and cookies of current page, when it has an origin (not about:blank, data:).
+     *
+     * @param origins origin of page is removed from them
+     */
+    private static void clearPage(WebDriver driver, Set<String> origins) {
+        String origin = origin(driver.getCurrentUrl());
+        if (origin != null) {
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            driver.manage().deleteAllCookies();
+            origins.remove(origin);
+        }
+    }
+
+    /**
+     * @return scheme://host:port of an http(s) url, otherwise null
+     */
+    static String origin(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            URI uri = new URI(url);
+            String scheme = uri.getScheme();
+            if (("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) && uri.getAuthority() != null) {
+                return scheme.toLowerCase() + "://" + uri.getAuthority().toLowerCase();
+            }
+        } catch (URISyntaxException e) {
+            LOGGER.debug("Not an url: {}", url);
+        }
+        return null;
+    }
+
+    private void discard(DriverContext context) {
+        quit(context);
+        browsers.decrementAndGet();
+        replaced.incrementAndGet();
+        if (!closed) {
+            start();
+        }
+    }
+
+    private void quit(DriverContext context) {
+        sessions.remove(context);
+        context.shutdown();
+        try {
+            context.getDriver().quit();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not quit browser: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Closes all free browsers now, leased browsers when they are released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        DriverContext context;
+        while ((context = idle.poll()) != null) {
+            quit(context);
+        }
+        starter.shutdown();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return number of browsers started and not leased
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getLeasedCount() {
+        return leased.size();
+    }
+
+    public long getLeases() {
+        return leases.get();
+    }
+
+    public long getAverageLeaseWaitMillis() {
+        long count = leases.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get() / count);
+    }
+
+    public long getMaxLeaseWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get());
+    }
+
+    /**
+     * @return number of browsers started (first ones and replacements)
+     */
+    public long getStarted() {
+        return started.get();
+    }
+
+    /**
+     * @return number of browsers closed because they did not answer or could not be reset
+     */
+    public long getReplaced() {
+        return replaced.get();
+    }
+
+    public long getFailedStarts() {
+        return failedStarts.get();
+    }
+
+    @Override
+    public String toString() {
+        return "WebDriverPool{size=" + size + ", idle=" + getIdleCount() + ", leased=" + getLeasedCount() + ", starting=" + starting +
+                ", leases=" + leases + ", averageLeaseWait=" + getAverageLeaseWaitMillis() + "ms, maxLeaseWait=" + getMaxLeaseWaitMillis() +
+                "ms, replaced=" + replaced + ", failedStarts=" + failedStarts + '}';
+    }
+
+    /**
+     * First window of a pooled browser, and origins navigated to since last reset.
+     */
+    private static final class Session extends AbstractWebDriverEventListener {
+        private volatile String window;
+        private final Set<String> origins = ConcurrentHashMap.newKeySet();
+
+        private Session(String window) {
+            this.window = window;
+        }
+
+        @Override
+        public void afterNavigateTo(String url, WebDriver driver) {
+            String origin = origin(url);
+            if (origin != null) {
+                origins.add(origin);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.sdl.selenium.utils.config;
 
 import com.google.common.base.Strings;
+import com.sdl.selenium.web.PollingStrategy;
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.utils.PropertiesReader;
 import org.slf4j.Logger;
@@ -8,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +21,7 @@ public class WebLocatorConfig {
     private static final String CONFIG_FILE_NAME = "webLocator.properties";
 
     private static long defaultRenderMillis;
+    private static PollingStrategy defaultPollingStrategy = PollingStrategy.fixed(Duration.ofMillis(1));
     private static boolean logUseClassName;
     private static boolean logXPath;
     private static boolean logRetryException;
@@ -26,6 +29,15 @@ public class WebLocatorConfig {
     private static boolean logContainers;
     private static boolean highlight;
     private static boolean generateCssSelector;
+    private static boolean cacheSelectors;
+    private static boolean optimizeXPath;
+    private static boolean relativeToContainer;
+    private static boolean cacheElements;
+    private static boolean mutationObserverWait;
+    private static boolean fastMode;
+    private static boolean clipboardCrossJvmLock;
+    private static long snapshotMillis;
+    private static String executor = "driver";
     private static ArrayList<SearchType> searchTextType = new ArrayList<SearchType>() {{
         add(SearchType.CONTAINS);
     }};
@@ -95,6 +107,10 @@ public class WebLocatorConfig {
         if (renderMillis != null) {
             setDefaultRenderMillis(renderMillis);
         }
+        String polling = getProperty("weblocator.defaults.polling");
+        if (!Strings.isNullOrEmpty(polling)) {
+            setDefaultPollingStrategy(PollingStrategy.parse(polling));
+        }
         setDefaultLabelPosition(getProperty("weblocator.defaults.labelPosition"));
 
         Boolean logUseClassName = getBoolean("weblocator.log.useClassName");
@@ -130,6 +146,51 @@ public class WebLocatorConfig {
             setGenerateCssSelector(generateCssSelector);
         }
 
+        Boolean cacheSelectors = getBoolean("weblocator.cacheSelectors");
+        if (cacheSelectors != null) {
+            setCacheSelectors(cacheSelectors);
+        }
+
+        Boolean optimizeXPath = getBoolean("weblocator.optimizeXPath");
+        if (optimizeXPath != null) {
+            setOptimizeXPath(optimizeXPath);
+        }
+
+        Boolean relativeToContainer = getBoolean("weblocator.relativeToContainer");
+        if (relativeToContainer != null) {
+            setRelativeToContainer(relativeToContainer);
+        }
+
+        Boolean cacheElements = getBoolean("weblocator.cacheElements");
+        if (cacheElements != null) {
+            setCacheElements(cacheElements);
+        }
+
+        Boolean mutationObserverWait = getBoolean("weblocator.mutationObserverWait");
+        if (mutationObserverWait != null) {
+            setMutationObserverWait(mutationObserverWait);
+        }
+
+        Boolean fastMode = getBoolean("weblocator.fastMode");
+        if (fastMode != null) {
+            setFastMode(fastMode);
+        }
+
+        Boolean clipboardCrossJvmLock = getBoolean("weblocator.clipboard.crossJvmLock");
+        if (clipboardCrossJvmLock != null) {
+            setClipboardCrossJvmLock(clipboardCrossJvmLock);
+        }
+
+        Integer snapshotMillis = getInt("weblocator.snapshotMillis");
+        if (snapshotMillis != null) {
+            setSnapshotMillis(snapshotMillis);
+        }
+
+        String executor = getProperty("weblocator.executor");
+        if (!Strings.isNullOrEmpty(executor)) {
+            setExecutor(executor);
+        }
+
         convertAndSetSearchTextType(getProperty("weblocator.defaults.searchType"));
 
         setMinCharsToType(getInt("weblocator.min.chars.toType"));
@@ -163,6 +224,17 @@ public class WebLocatorConfig {
         WebLocatorConfig.defaultRenderMillis = defaultRenderMillis;
     }
 
+    public static PollingStrategy getDefaultPollingStrategy() {
+        return defaultPollingStrategy;
+    }
+
+    /**
+     * @param defaultPollingStrategy delay between searches while waiting for elements to render, used by locators created after this call
+     */
+    public static void setDefaultPollingStrategy(PollingStrategy defaultPollingStrategy) {
+        WebLocatorConfig.defaultPollingStrategy = defaultPollingStrategy;
+    }
+
     public static boolean isLogUseClassName() {
         return logUseClassName;
     }
@@ -215,6 +287,112 @@ public class WebLocatorConfig {
         return generateCssSelector;
     }
 
+    public static boolean isCacheSelectors() {
+        return cacheSelectors;
+    }
+
+    /**
+     * @param cacheSelectors true to reuse the generated xpath/css selector until the locator (or one of its containers) is changed
+     */
+    public static void setCacheSelectors(boolean cacheSelectors) {
+        WebLocatorConfig.cacheSelectors = cacheSelectors;
+    }
+
+    public static boolean isOptimizeXPath() {
+        return optimizeXPath;
+    }
+
+    /**
+     * @param optimizeXPath true to generate optimized xpath (see {@link com.sdl.selenium.web.xpath.XPathOptimizer}), false for legacy xpath
+     */
+    public static void setOptimizeXPath(boolean optimizeXPath) {
+        WebLocatorConfig.optimizeXPath = optimizeXPath;
+    }
+
+    public static boolean isRelativeToContainer() {
+        return relativeToContainer;
+    }
+
+    /**
+     * @param relativeToContainer true to find elements inside the element already found for their container
+     *                            (falls back to the path from document root when container element is stale)
+     */
+    public static void setRelativeToContainer(boolean relativeToContainer) {
+        WebLocatorConfig.relativeToContainer = relativeToContainer;
+    }
+
+    public static boolean isCacheElements() {
+        return cacheElements;
+    }
+
+    /**
+     * @param cacheElements true to reuse the element found for a selector by click, getText, getAttribute, clear and submit, until
+     *                      next action that changes the page or navigation (see {@link com.sdl.selenium.web.ElementCache})
+     */
+    public static void setCacheElements(boolean cacheElements) {
+        WebLocatorConfig.cacheElements = cacheElements;
+    }
+
+    public static boolean isMutationObserverWait() {
+        return mutationObserverWait;
+    }
+
+    /**
+     * @param mutationObserverWait true to wait for elements to render with one async script that watches page changes
+     *                             (MutationObserver), instead of searching from driver until element is found
+     */
+    public static void setMutationObserverWait(boolean mutationObserverWait) {
+        WebLocatorConfig.mutationObserverWait = mutationObserverWait;
+    }
+
+    public static boolean isFastMode() {
+        return fastMode;
+    }
+
+    /**
+     * @param fastMode true to disable css transitions, css animations and ExtJS / jQuery effects in drivers created
+     *                 after this (see {@link com.sdl.selenium.web.utils.FastMode}), and to skip the sleeps that wait for them
+     */
+    public static void setFastMode(boolean fastMode) {
+        WebLocatorConfig.fastMode = fastMode;
+    }
+
+    public static boolean isClipboardCrossJvmLock() {
+        return clipboardCrossJvmLock;
+    }
+
+    /**
+     * @param clipboardCrossJvmLock true when tests of many JVMs (eg. forks) paste on same machine: system clipboard is
+     *                              also locked with a file lock, not only between threads of this JVM
+     */
+    public static void setClipboardCrossJvmLock(boolean clipboardCrossJvmLock) {
+        WebLocatorConfig.clipboardCrossJvmLock = clipboardCrossJvmLock;
+    }
+
+    public static long getSnapshotMillis() {
+        return snapshotMillis;
+    }
+
+    /**
+     * @param snapshotMillis how long getters of a locator (getText, getAttribute, isDisplayed...) use the state read by
+     *                       WebLocator.snapshot(), instead of asking the driver; 0 to not use snapshots
+     */
+    public static void setSnapshotMillis(long snapshotMillis) {
+        WebLocatorConfig.snapshotMillis = snapshotMillis;
+    }
+
+    public static String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param executor driver: native WebDriver commands for each find and action;
+     *                 script: find and action in one script (WebLocatorScriptExecutor), used by next WebLocator.setDriverExecutor(driver)
+     */
+    public static void setExecutor(String executor) {
+        WebLocatorConfig.executor = executor;
+    }
+
     public static void setHighlight(boolean highlight) {
         WebLocatorConfig.highlight = highlight;
     }
@@ -15,7 +15,19 @@ public class WebLocatorConfigReader extends PropertiesReader {
             "\n weblocator.log.suggestions=false" +
             "\n weblocator.highlight=false" +
             "\n weblocator.generateCssSelector=false" +
+            "\n weblocator.cacheSelectors=true" +
+            "\n weblocator.optimizeXPath=false" +
+            "\n weblocator.relativeToContainer=false" +
+            "\n weblocator.cacheElements=false" +
+            "\n weblocator.mutationObserverWait=false" +
+            "\n weblocator.fastMode=false" +
+            "\n weblocator.clipboard.crossJvmLock=false" +
+            "\n weblocator.snapshotMillis=500" +
+            "\n #driver or script (find and action in one script)" +
+            "\n weblocator.executor=driver" +
             "\n weblocator.defaults.renderMillis=3000" +
+            "\n #polling between searches (milliseconds): fixed:1, exponential:<first>:<factor>:<max> or latency:<round trip factor>:<min>:<max>" +
+            "\n weblocator.defaults.polling=fixed:1" +
             "\n #accepted values for searchType: " + Arrays.asList(SearchType.values()) +
             "\n weblocator.defaults.searchType=CONTAINS" +
             "\n weblocator.defaults.labelPosition=//following-sibling::*//" +
@@ -0,0 +1,102 @@
+package com.sdl.selenium.web;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Elements found for selectors in current page, kept by each {@link WebLocatorDriverExecutor}, so by each
+ * {@link com.sdl.selenium.utils.config.DriverContext} (see weblocator.cacheElements).
+ * <p>Executor clears the cache after each action that can change the page (click, keys, set value, clear, submit) and after
+ * navigation it is told about ({@link WebLocatorExecutor#pageChanged()}, or any navigation of an EventFiringWebDriver).
+ * When an action on a cached element fails (eg. StaleElementReferenceException) the element is evicted, so it is found again;
+ * for locators with visibility the element must still be displayed to be taken from cache.</p>
+ */
+public final class ElementCache {
+    private static final int MAX_SIZE = 1000;
+
+    private final Map<String, WebElement> elements = new LinkedHashMap<String, WebElement>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, WebElement> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param selector xpath or css selector of the element
+     * @return element found before with same selector, or null (counted as miss)
+     */
+    public WebElement get(String selector) {
+        WebElement element;
+        synchronized (elements) {
+            element = elements.get(selector);
+        }
+        (element == null ? misses : hits).incrementAndGet();
+        return element;
+    }
+
+    public void put(String selector, WebElement element) {
+        synchronized (elements) {
+            elements.put(selector, element);
+        }
+    }
+
+    /**
+     * @param selector selector of an element that is stale or can't be used
+     */
+    public void evict(String selector) {
+        WebElement element;
+        synchronized (elements) {
+            element = elements.remove(selector);
+        }
+        if (element != null) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes all elements, eg. after navigation or after an action that changed the page.
+     */
+    public void clear() {
+        synchronized (elements) {
+            elements.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (elements) {
+            return elements.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of elements removed because they were stale, hidden or could not be used
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ElementCache{size=" + size() + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.sdl.selenium.web;
+
+import lombok.Getter;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of an element read with one script (see {@link WebLocator#snapshot(String...)}).
+ * <p>Values are read in browser like WebDriver does, with small differences: text is innerText of displayed element
+ * and displayed is true for elements with size that are not hidden with visibility or display.</p>
+ */
+@Getter
+public final class ElementSnapshot {
+    /**
+     * Element is displayed when it has size and is not hidden with visibility or display
+     */
+    public static final String IS_DISPLAYED = "function isDisplayed(e) {\n" +
+            "  var style = window.getComputedStyle(e);\n" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length);\n" +
+            "}\n";
+
+    /**
+     * Arguments: element, names of other attributes to read
+     */
+    static final String SCRIPT = "var e = arguments[0], names = arguments[1] || [];\n" + IS_DISPLAYED +
+            "var rect = e.getBoundingClientRect(), displayed = isDisplayed(e);\n" +
+            "var attributes = {};\n" +
+            "for (var i = 0; i < names.length; i++) {\n" +
+            "  var p = e[names[i]];\n" +
+            "  attributes[names[i]] = typeof p === 'boolean' ? (p ? 'true' : null) : (names[i] === 'value' && p != null ? String(p) : e.getAttribute(names[i]));\n" +
+            "}\n" +
+            "return {tag: e.tagName.toLowerCase(), text: displayed ? (e.innerText || '').trim() : '',\n" +
+            "  value: e.value != null ? String(e.value) : e.getAttribute('value'), id: e.getAttribute('id'), cls: e.getAttribute('class'), style: e.getAttribute('style'),\n" +
+            "  displayed: displayed, enabled: !e.disabled, selected: !!(e.selected || e.checked),\n" +
+            "  x: Math.round(rect.left + window.pageXOffset), y: Math.round(rect.top + window.pageYOffset), width: Math.round(rect.width), height: Math.round(rect.height),\n" +
+            "  attributes: attributes};";
+
+    private final String tag;
+    private final String text;
+    private final String value;
+    private final String id;
+    private final String cls;
+    private final List<String> classes;
+    private final String style;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Rectangle rect;
+    /**
+     * other attributes requested for snapshot
+     */
+    private final Map<String, String> attributes;
+    /**
+     * element the snapshot is read from
+     */
+    private final WebElement element;
+    /**
+     * System.nanoTime() when snapshot was read
+     */
+    private final long time;
+
+    private ElementSnapshot(Map<?, ?> values, WebElement element, long time) {
+        this.tag = (String) values.get("tag");
+        this.text = (String) values.get("text");
+        this.value = (String) values.get("value");
+        this.id = (String) values.get("id");
+        this.cls = (String) values.get("cls");
+        this.classes = cls == null || cls.trim().isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(cls.trim().split("\\s+")));
+        this.style = (String) values.get("style");
+        this.displayed = Boolean.TRUE.equals(values.get("displayed"));
+        this.enabled = Boolean.TRUE.equals(values.get("enabled"));
+        this.selected = Boolean.TRUE.equals(values.get("selected"));
+        this.rect = new Rectangle(toInt(values.get("x")), toInt(values.get("y")), toInt(values.get("height")), toInt(values.get("width")));
+        Map<String, String> attributes = new HashMap<>();
+        Object read = values.get("attributes");
+        if (read instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) read).entrySet()) {
+                attributes.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+        }
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.element = element;
+        this.time = time;
+    }
+
+    /**
+     * @param values  result of {@link #SCRIPT}
+     * @param element element the script was run for
+     * @return snapshot or null when script has no result
+     */
+    static ElementSnapshot of(Object values, WebElement element) {
+        return values instanceof Map ? new ElementSnapshot((Map<?, ?>) values, element, System.nanoTime()) : null;
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * @param name attribute name
+     * @return true if the attribute is in snapshot: id, class, style, value or requested attributes
+     */
+    public boolean hasAttribute(String name) {
+        return "id".equals(name) || "class".equals(name) || "style".equals(name) || "value".equals(name) || attributes.containsKey(name);
+    }
+
+    /**
+     * @param name attribute name, see {@link #hasAttribute(String)}
+     * @return value of attribute or null
+     */
+    public String getAttribute(String name) {
+        switch (name) {
+            case "id":
+                return id;
+            case "class":
+                return cls;
+            case "style":
+                return style;
+            case "value":
+                return value;
+            default:
+                return attributes.get(name);
+        }
+    }
+
+    public Point getLocation() {
+        return rect.getPoint();
+    }
+
+    public Dimension getSize() {
+        return rect.getDimension();
+    }
+
+    /**
+     * @param maxAgeMillis max age in milliseconds
+     * @return true if snapshot was read in last maxAgeMillis
+     */
+    public boolean isFresh(long maxAgeMillis) {
+        return System.nanoTime() - time < maxAgeMillis * 1_000_000L;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot{tag=" + tag + ", text=" + text + ", value=" + value + ", classes=" + classes + ", style=" + style +
+                ", displayed=" + displayed + ", enabled=" + enabled + ", selected=" + selected + ", rect=" + rect.getPoint() + " " + rect.getDimension() +
+                ", attributes=" + attributes + '}';
+    }
+}
@@ -82,6 +82,8 @@ public interface IWebLocator {
 
     <T extends WebLocatorAbstractBuilder> T setRenderMillis(final long renderMillis);
 
+    <T extends WebLocatorAbstractBuilder> T setPollingStrategy(final PollingStrategy pollingStrategy);
+
     <T extends WebLocatorAbstractBuilder> T setActivateSeconds(final int activateSeconds);
 
     <T extends WebLocatorAbstractBuilder> T setContainer(WebLocator container);
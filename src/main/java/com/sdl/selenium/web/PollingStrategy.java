@@ -0,0 +1,136 @@
+package com.sdl.selenium.web;
+
+import java.time.Duration;
+
+/**
+ * How long to wait between two searches of an element while waiting for it to render
+ * (globally weblocator.defaults.polling, for one locator {@link XPathBuilder#setPollingStrategy(PollingStrategy)}).
+ * <p>Implementations must be immutable: same strategy is used by all copies of a locator and from many threads.</p>
+ * Config values:
+ * <ul>
+ * <li>fixed:1 - same delay (milliseconds) after each search</li>
+ * <li>exponential:10:2:500 - first delay, factor and max delay: 10, 20, 40 ... 500, 500</li>
+ * <li>latency:1.5:5:500 - delay is the duration of last search multiplied by factor, between min and max:
+ * local driver searches often, remote driver (slow round trip) waits more between searches</li>
+ * </ul>
+ */
+public interface PollingStrategy {
+
+    /**
+     * @param polls     number of searches done until now (1 after first search)
+     * @param roundTrip duration of last search
+     * @return delay before next search
+     */
+    Duration nextDelay(int polls, Duration roundTrip);
+
+    static PollingStrategy fixed(Duration delay) {
+        return new Fixed(delay);
+    }
+
+    static PollingStrategy exponential(Duration initialDelay, double factor, Duration maxDelay) {
+        return new Exponential(initialDelay, factor, maxDelay);
+    }
+
+    static PollingStrategy latencyAware(double factor, Duration minDelay, Duration maxDelay) {
+        return new LatencyAware(factor, minDelay, maxDelay);
+    }
+
+    /**
+     * @param value eg. fixed:1, exponential:10:2:500 or latency:1.5:5:500 (milliseconds)
+     * @return strategy
+     * @throws IllegalArgumentException when value has other format
+     */
+    static PollingStrategy parse(String value) {
+        String[] parts = value.trim().split("\\s*:\\s*");
+        try {
+            switch (parts[0].toLowerCase()) {
+                case "fixed":
+                    if (parts.length == 2) {
+                        return fixed(Duration.ofMillis(Long.parseLong(parts[1])));
+                    }
+                    break;
+                case "exponential":
+                    if (parts.length == 4) {
+                        return exponential(Duration.ofMillis(Long.parseLong(parts[1])), Double.parseDouble(parts[2]), Duration.ofMillis(Long.parseLong(parts[3])));
+                    }
+                    break;
+                case "latency":
+                    if (parts.length == 4) {
+                        return latencyAware(Double.parseDouble(parts[1]), Duration.ofMillis(Long.parseLong(parts[2])), Duration.ofMillis(Long.parseLong(parts[3])));
+                    }
+                    break;
+                default:
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid polling strategy: " + value, e);
+        }
+        throw new IllegalArgumentException("Invalid polling strategy: '" + value + "', accepted values: fixed:1, exponential:10:2:500, latency:1.5:5:500");
+    }
+
+    final class Fixed implements PollingStrategy {
+        private final Duration delay;
+
+        private Fixed(Duration delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public Duration nextDelay(int polls, Duration roundTrip) {
+            return delay;
+        }
+
+        @Override
+        public String toString() {
+            return "fixed:" + delay.toMillis();
+        }
+    }
+
+    final class Exponential implements PollingStrategy {
+        private final Duration initialDelay;
+        private final double factor;
+        private final Duration maxDelay;
+
+        private Exponential(Duration initialDelay, double factor, Duration maxDelay) {
+            if (factor < 1) {
+                throw new IllegalArgumentException("factor must be at least 1: " + factor);
+            }
+            this.initialDelay = initialDelay;
+            this.factor = factor;
+            this.maxDelay = maxDelay;
+        }
+
+        @Override
+        public Duration nextDelay(int polls, Duration roundTrip) {
+            double delay = initialDelay.toMillis() * Math.pow(factor, Math.max(0, polls - 1));
+            return delay >= maxDelay.toMillis() ? maxDelay : Duration.ofMillis((long) delay);
+        }
+
+        @Override
+        public String toString() {
+            return "exponential:" + initialDelay.toMillis() + ":" + factor + ":" + maxDelay.toMillis();
+        }
+    }
+
+    final class LatencyAware implements PollingStrategy {
+        private final double factor;
+        private final Duration minDelay;
+        private final Duration maxDelay;
+
+        private LatencyAware(double factor, Duration minDelay, Duration maxDelay) {
+            this.factor = factor;
+            this.minDelay = minDelay;
+            this.maxDelay = maxDelay;
+        }
+
+        @Override
+        public Duration nextDelay(int polls, Duration roundTrip) {
+            long delay = (long) (roundTrip.toMillis() * factor);
+            return Duration.ofMillis(Math.min(maxDelay.toMillis(), Math.max(minDelay.toMillis(), delay)));
+        }
+
+        @Override
+        public String toString() {
+            return "latency:" + factor + ":" + minDelay.toMillis() + ":" + maxDelay.toMillis();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.sdl.selenium.web;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable set of xpath templates used by {@link XPathBuilder}.
+ * <p>Changing a template creates (copy-on-write) a new set, which is registered as a transition of the original set,
+ * so all instances of a component that apply the same templates in constructor share the same {@link Templates} instance.</p>
+ */
+final class Templates {
+    /**
+     * After this many registered sets, new sets are no longer shared (eg. templates built from dynamic values)
+     */
+    private static final int MAX_REGISTERED = 10000;
+    private static final Map<Transition, Templates> REGISTRY = new ConcurrentHashMap<>();
+
+    static final Templates DEFAULTS = new Templates(defaultTemplates());
+
+    private final Map<String, String> templates;
+    private final Map<String, Template> compiled;
+
+    private Templates(Map<String, String> templates) {
+        this.templates = Collections.unmodifiableMap(templates);
+        Map<String, Template> compiled = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : templates.entrySet()) {
+            String value = entry.getValue();
+            if (value != null && !value.isEmpty()) {
+                compiled.put(entry.getKey(), new Template(value));
+            }
+        }
+        this.compiled = compiled;
+    }
+
+    private static Map<String, String> defaultTemplates() {
+        Map<String, String> templates = new LinkedHashMap<>();
+        templates.put("visibility", "count(ancestor-or-self::*[contains(@style, 'display: none')]) = 0");
+        templates.put("id", "@id='%s'");
+        templates.put("name", "@name='%s'");
+        templates.put("class", "contains(concat(' ', @class, ' '), ' %s ')");
+        templates.put("excludeClass", "not(contains(@class, '%s'))");
+        templates.put("cls", "@class='%s'");
+        templates.put("type", "@type='%s'");
+        templates.put("title", "@title='%s'");
+        templates.put("titleEl", "count(.%s) > 0");
+        templates.put("DEEP_CHILD_NODE_OR_SELF", "(%1$s or count(*//text()[%1$s]) > 0)");
+        templates.put("DEEP_CHILD_NODE", "count(*//text()[%s]) > 0");
+        templates.put("CHILD_NODE", "count(text()[%s]) > 0");
+        templates.put("HTML_NODE", "(normalize-space(concat(./*[1]//text(), ' ', text()[1], ' ', ./*[2]//text(), ' ', text()[2], ' ', ./*[3]//text(), ' ', text()[3], ' ', ./*[4]//text(), ' ', text()[4], ' ', ./*[5]//text(), ' ', text()[5]))=%1$s or normalize-space(concat(text()[1], ' ', ./*[1]//text(), ' ', text()[2], ' ', ./*[2]//text(), ' ', text()[3], ' ', ./*[3]//text(), ' ', text()[4], ' ', ./*[4]//text(), ' ', text()[5], ' ', ./*[5]//text()))=%1$s)");
+        templates.put("childNodes", "count(.%s) > 0");
+        return templates;
+    }
+
+    String get(String key) {
+        return templates.get(key);
+    }
+
+    /**
+     * @param key name template
+     * @return precompiled template, or null when template is missing or empty
+     */
+    Template template(String key) {
+        return compiled.get(key);
+    }
+
+    Map<String, String> asMap() {
+        return templates;
+    }
+
+    /**
+     * @param key   name template
+     * @param value template, or null to remove it
+     * @return templates containing the change, this instance if nothing was changed
+     */
+    Templates with(String key, String value) {
+        if (Objects.equals(templates.get(key), value)) {
+            return this;
+        }
+        Transition transition = new Transition(this, key, value);
+        Templates result = REGISTRY.get(transition);
+        if (result == null) {
+            Map<String, String> copy = new LinkedHashMap<>(templates);
+            if (value == null) {
+                copy.remove(key);
+            } else {
+                copy.put(key, value);
+            }
+            result = new Templates(copy);
+            if (REGISTRY.size() < MAX_REGISTERED) {
+                Templates existing = REGISTRY.putIfAbsent(transition, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final class Transition {
+        private final Templates from;
+        private final String key;
+        private final String value;
+
+        private Transition(Templates from, String key, String value) {
+            this.from = from;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Transition)) {
+                return false;
+            }
+            Transition that = (Transition) o;
+            return from == that.from && key.equals(that.key) && Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(from) + key.hashCode()) + Objects.hashCode(value);
+        }
+    }
+
+    /**
+     * Template parsed once into literal text and argument references, so applying it appends directly to a path
+     * instead of parsing the format on each {@link String#format(String, Object...)} call.
+     * <p>Supports %s, %n$s, %% and %n; any other conversion falls back to {@link String#format(String, Object...)}.</p>
+     */
+    static final class Template {
+        private static final int NEXT_ARGUMENT = -1;
+
+        private final String format;
+        /**
+         * literal texts (String) and argument indexes (Integer, {@link #NEXT_ARGUMENT} for ordinary %s), or null if format is not supported
+         */
+        private final Object[] segments;
+
+        Template(String format) {
+            this.format = format;
+            this.segments = parse(format);
+        }
+
+        private static Object[] parse(String format) {
+            List<Object> segments = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int length = format.length();
+            for (int i = 0; i < length; i++) {
+                char c = format.charAt(i);
+                if (c != '%') {
+                    literal.append(c);
+                    continue;
+                }
+                if (++i == length) {
+                    return null;
+                }
+                c = format.charAt(i);
+                if (c == '%') {
+                    literal.append('%');
+                } else if (c == 'n') {
+                    literal.append(System.lineSeparator());
+                } else if (c == 's') {
+                    addLiteral(segments, literal);
+                    segments.add(NEXT_ARGUMENT);
+                } else {
+                    int index = 0;
+                    while (i < length && Character.isDigit(format.charAt(i)) && index < 1000) {
+                        index = index * 10 + format.charAt(i++) - '0';
+                    }
+                    if (index == 0 || i + 1 >= length || format.charAt(i) != '$' || format.charAt(i + 1) != 's') {
+                        return null;
+                    }
+                    i++;
+                    addLiteral(segments, literal);
+                    segments.add(index - 1);
+                }
+            }
+            addLiteral(segments, literal);
+            return segments.toArray();
+        }
+
+        private static void addLiteral(List<Object> segments, StringBuilder literal) {
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+        }
+
+        /**
+         * Same result as {@code path.append(String.format(format, arguments))}
+         *
+         * @param path      where template is appended
+         * @param arguments template arguments
+         * @return path
+         */
+        StringBuilder appendTo(StringBuilder path, Object... arguments) {
+            if (segments == null) {
+                return path.append(String.format(format, arguments));
+            }
+            int next = 0;
+            for (Object segment : segments) {
+                if (segment instanceof String) {
+                    path.append((String) segment);
+                } else {
+                    int index = (Integer) segment;
+                    if (index == NEXT_ARGUMENT) {
+                        index = next++;
+                    }
+                    if (arguments == null) {
+                        path.append("null");
+                    } else if (index >= arguments.length) {
+                        throw new MissingFormatArgumentException("%" + (index + 1) + "$s");
+                    } else {
+                        path.append(arguments[index]);
+                    }
+                }
+            }
+            return path;
+        }
+
+        String apply(Object... arguments) {
+            return appendTo(new StringBuilder(format.length() + 32), arguments).toString();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sdl.selenium.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of searches done while waiting for elements to render (see {@link PollingStrategy}),
+ * eg. to compare strategies: fewer polls for each found element means less load on the driver and browser.
+ */
+public final class WaitMetrics {
+    private static final WaitMetrics INSTANCE = new WaitMetrics();
+
+    private final AtomicLong foundWaits = new AtomicLong();
+    private final AtomicLong foundPolls = new AtomicLong();
+    private final AtomicLong timedOutWaits = new AtomicLong();
+    private final AtomicLong timedOutPolls = new AtomicLong();
+
+    private WaitMetrics() {
+    }
+
+    public static WaitMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param found true when element was found before timeout
+     * @param polls number of searches
+     */
+    public void record(boolean found, int polls) {
+        if (found) {
+            foundWaits.incrementAndGet();
+            foundPolls.addAndGet(polls);
+        } else {
+            timedOutWaits.incrementAndGet();
+            timedOutPolls.addAndGet(polls);
+        }
+    }
+
+    public long getFoundWaits() {
+        return foundWaits.get();
+    }
+
+    public long getTimedOutWaits() {
+        return timedOutWaits.get();
+    }
+
+    /**
+     * @return searches done for all waits
+     */
+    public long getPolls() {
+        return foundPolls.get() + timedOutPolls.get();
+    }
+
+    /**
+     * @return average number of searches until element was found (0 when no element was found)
+     */
+    public double getPollsPerFoundWait() {
+        long waits = foundWaits.get();
+        return waits == 0 ? 0 : (double) foundPolls.get() / waits;
+    }
+
+    public void reset() {
+        foundWaits.set(0);
+        foundPolls.set(0);
+        timedOutWaits.set(0);
+        timedOutPolls.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WaitMetrics{foundWaits=%d, pollsPerFoundWait=%.2f, timedOutWaits=%d, polls=%d}",
+                getFoundWaits(), getPollsPerFoundWait(), getTimedOutWaits(), getPolls());
+    }
+}
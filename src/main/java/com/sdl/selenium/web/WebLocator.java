@@ -1,5 +1,7 @@
 package com.sdl.selenium.web;
 
+import com.sdl.selenium.utils.config.DriverContext;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
 import com.sdl.selenium.web.utils.Utils;
 import com.sdl.selenium.web.utils.internationalization.InternationalizationUtils;
 import org.openqa.selenium.*;
@@ -9,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -17,11 +20,20 @@ public class WebLocator extends WebLocatorAbstractBuilder {
 
     private String currentElementPath = "";
     public WebElement currentElement;
+    private volatile ElementSnapshot snapshot;
+    private volatile boolean prefetched;
 
+    /**
+     * @return executor of current driver context (see {@link DriverContext#current()})
+     */
     public static WebLocatorExecutor getExecutor() {
-        return executor;
+        return DriverContext.current().getExecutor();
     }
 
+    /**
+     * @deprecated executor of default driver context only, use {@link #getExecutor()}
+     */
+    @Deprecated
     protected static WebLocatorExecutor executor;
 
     public WebLocator() {
@@ -50,8 +62,22 @@ public class WebLocator extends WebLocatorAbstractBuilder {
 
     // getters and setters
 
+    /**
+     * @param driver driver used by all locators of current driver context, with executor from weblocator.executor (driver or script)
+     */
     public static void setDriverExecutor(WebDriver driver) {
-        executor = new WebLocatorDriverExecutor(driver);
+        setDriverExecutor(DriverContext.createExecutor(driver));
+    }
+
+    /**
+     * @param executor executor used by all locators of current driver context, eg. new WebLocatorScriptExecutor(driver)
+     */
+    public static void setDriverExecutor(WebLocatorExecutor executor) {
+        DriverContext context = DriverContext.current();
+        context.setExecutor(executor);
+        if (context == DriverContext.getDefault()) {
+            WebLocator.executor = executor;
+        }
     }
 
     /**
@@ -59,14 +85,14 @@ public class WebLocator extends WebLocatorAbstractBuilder {
      * @return Element value of css property
      */
     public String getCssValue(String propertyName) {
-        return executor.getCssValue(this, propertyName);
+        return getExecutor().getCssValue(this, propertyName);
     }
 
     /**
      * @return The tag name of this element.
      */
     public String getTagName() {
-        return executor.getTagName(this);
+        return getExecutor().getTagName(this);
     }
 
     /**
@@ -91,6 +117,27 @@ public class WebLocator extends WebLocatorAbstractBuilder {
         this.currentElementPath = currentElementPath;
     }
 
+    /**
+     * Sets element found before its first use (eg. by {@link com.sdl.selenium.WebLocatorUtils#warmUp(WebLocator)}):
+     * next wait and first action use it while it is still in page, instead of searching it again.
+     *
+     * @param element element found
+     * @param path    selector used to find it
+     */
+    public void prefetch(WebElement element, String path) {
+        currentElement = element;
+        currentElementPath = path;
+        prefetched = true;
+    }
+
+    boolean isPrefetched() {
+        return prefetched;
+    }
+
+    void setPrefetched(boolean prefetched) {
+        this.prefetched = prefetched;
+    }
+
     /**
      * @return This method return the WebElement
      */
@@ -105,11 +152,11 @@ public class WebLocator extends WebLocatorAbstractBuilder {
      * @return String attribute, if element not exist return null.
      */
     public String getAttribute(String attribute) {
-        return executor.getAttribute(this, attribute);
+        return getExecutor().getAttribute(this, attribute);
     }
 
     protected String getCurrentElementAttribute(String attribute) {
-        return executor.getCurrentElementAttribute(this, attribute);
+        return getExecutor().getCurrentElementAttribute(this, attribute);
     }
 
     /**
@@ -125,15 +172,33 @@ public class WebLocator extends WebLocatorAbstractBuilder {
      */
     public String getText(boolean instant) {
         if (instant || ready()) {
-            return executor.getText(this);
+            return getExecutor().getText(this);
         }
         return null;
     }
 
+    /**
+     * Like {@link #getText()}, without blocking: runs on the serial executor of current driver context
+     * (see {@link DriverContext#supplyAsync}).
+     *
+     * @return text of this element, or null when it is not ready
+     */
+    public CompletableFuture<String> getTextAsync() {
+        return getTextAsync(DriverContext.current());
+    }
+
+    /**
+     * @param context driver context (session) to run on, eg. from a thread that is not bound to it
+     * @return text of this element, or null when it is not ready
+     */
+    public CompletableFuture<String> getTextAsync(DriverContext context) {
+        return context.supplyAsync(this::getText);
+    }
+
     public boolean clickAt() {
         boolean clickAt = waitToRender();
         assertThat("Element was not rendered " + toString(), clickAt);
-        clickAt = executor.clickAt(this);
+        clickAt = getExecutor().clickAt(this);
         assertThat("Could not clickAt " + toString(), clickAt);
         LOGGER.info("clickAt on {}", toString());
         return clickAt;
@@ -147,7 +212,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean doClickAt() {
         boolean doClick = waitToRender();
         if (doClick) {
-            doClick = executor.clickAt(this);
+            doClick = getExecutor().clickAt(this);
             if (doClick) {
                 LOGGER.info("clickAt on {}", toString());
             } else {
@@ -165,12 +230,30 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean click() {
         boolean click = waitToRender();
         assertThat("Element was not rendered " + toString(), click);
-        click = executor.click(this);
+        click = getExecutor().click(this);
         assertThat("Could not click " + toString(), click);
         LOGGER.info("click on {}", toString());
         return click;
     }
 
+    /**
+     * Like {@link #click()}, without blocking: runs on the serial executor of current driver context
+     * (see {@link DriverContext#supplyAsync}).
+     *
+     * @return true when clicked; completed exceptionally (AssertionError) when element was not rendered or could not be clicked
+     */
+    public CompletableFuture<Boolean> clickAsync() {
+        return clickAsync(DriverContext.current());
+    }
+
+    /**
+     * @param context driver context (session) to run on, eg. from a thread that is not bound to it
+     * @return true when clicked; completed exceptionally (AssertionError) when element was not rendered or could not be clicked
+     */
+    public CompletableFuture<Boolean> clickAsync(DriverContext context) {
+        return context.supplyAsync(this::click);
+    }
+
     /**
      * doClick does not make sure element is present, if you are not sure about this, please use click() instead
      *
@@ -179,7 +262,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean doClick() {
         boolean doClick = waitToRender();
         if (doClick) {
-            doClick = executor.click(this);
+            doClick = getExecutor().click(this);
             if (doClick) {
                 LOGGER.info("click on {}", toString());
             } else {
@@ -196,13 +279,13 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     }
 
     private void doHighlight() {
-        executor.highlight(this);
+        getExecutor().highlight(this);
     }
 
     public WebLocator sendKeys(java.lang.CharSequence... charSequences) {
         boolean sendKeys = waitToRender();
         assertThat("Element was not rendered " + toString(), sendKeys);
-        sendKeys = executor.sendKeys(this, charSequences);
+        sendKeys = getExecutor().sendKeys(this, charSequences);
         assertThat("Could not sendKeys " + toString(), sendKeys);
         LOGGER.info("sendKeys value({}): '{}'", toString(), getKeysName(charSequences));
         return this;
@@ -211,7 +294,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public WebLocator doSendKeys(java.lang.CharSequence... charSequences) {
         boolean doSendKeys = waitToRender();
         if (doSendKeys) {
-            doSendKeys = executor.sendKeys(this, charSequences);
+            doSendKeys = getExecutor().sendKeys(this, charSequences);
             if (doSendKeys) {
                 LOGGER.info("sendKeys value({}): '{}'", toString(), getKeysName(charSequences));
             } else {
@@ -237,7 +320,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean clear() {
         boolean clear = waitToRender();
         assertThat("Element was not rendered " + toString(), clear);
-        clear = executor.clear(this);
+        clear = getExecutor().clear(this);
         assertThat("Could not clear " + toString(), clear);
         LOGGER.info("clear on {}", toString());
         return clear;
@@ -246,7 +329,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean doClear() {
         boolean doClear = waitToRender();
         if (doClear) {
-            doClear = executor.clear(this);
+            doClear = getExecutor().clear(this);
             if (doClear) {
                 LOGGER.info("clear on {}", toString());
             } else {
@@ -259,7 +342,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean mouseOver() {
         boolean mouseOver = waitToRender();
         assertThat("Element was not rendered " + toString(), mouseOver);
-        mouseOver = executor.mouseOver(this);
+        mouseOver = getExecutor().mouseOver(this);
         assertThat("Could not mouse over " + toString(), mouseOver);
         LOGGER.info("mouse over on {}", toString());
         return mouseOver;
@@ -268,7 +351,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean doMouseOver() {
         boolean doMouseOver = waitToRender();
         if (doMouseOver) {
-            doMouseOver = executor.mouseOver(this);
+            doMouseOver = getExecutor().mouseOver(this);
             if (doMouseOver) {
                 LOGGER.info("mouse over on {}", toString());
             } else {
@@ -281,7 +364,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean blur() {
         boolean blur = waitToRender();
         assertThat("Element was not rendered " + toString(), blur);
-        blur = executor.blur(this);
+        blur = getExecutor().blur(this);
         assertThat("Could not blur " + toString(), blur);
         LOGGER.info("blur on {}", toString());
         return blur;
@@ -290,7 +373,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean doBlur() {
         boolean doBlur = waitToRender();
         if (doBlur) {
-            doBlur = executor.blur(this);
+            doBlur = getExecutor().blur(this);
             if (doBlur) {
                 LOGGER.info("blur on {}", toString());
             } else {
@@ -300,6 +383,19 @@ public class WebLocator extends WebLocatorAbstractBuilder {
         return doBlur;
     }
 
+    public boolean scrollIntoView() {
+        boolean scroll = waitToRender();
+        if (scroll) {
+            scroll = getExecutor().scrollIntoView(this);
+            if (scroll) {
+                LOGGER.info("scroll into view {}", toString());
+            } else {
+                LOGGER.info("Could not scroll into view {}", toString());
+            }
+        }
+        return scroll;
+    }
+
     /**
      * Using XPath only
      *
@@ -308,7 +404,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public WebLocator focus() {
         boolean focus = waitToRender();
         assertThat("Element was not rendered " + toString(), focus);
-        focus = executor.focus(this);
+        focus = getExecutor().focus(this);
         assertThat("Could not focus " + toString(), focus);
         LOGGER.info("focus on {}", toString());
         return this;
@@ -317,7 +413,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public WebLocator doFocus() {
         boolean doFocus = waitToRender();
         if (doFocus) {
-            doFocus = executor.focus(this);
+            doFocus = getExecutor().focus(this);
             if (doFocus) {
                 LOGGER.info("focus on {}", toString());
             } else {
@@ -333,7 +429,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean doubleClickAt() {
         boolean doubleClickAt = waitToRender();
         assertThat("Element was not rendered " + toString(), doubleClickAt);
-        doubleClickAt = executor.doubleClickAt(this);
+        doubleClickAt = getExecutor().doubleClickAt(this);
         assertThat("Could not Double ClickAt " + toString(), doubleClickAt);
         LOGGER.info("Double ClickAt on {}", toString());
         return doubleClickAt;
@@ -342,7 +438,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     public boolean doDoubleClickAt() {
         boolean doClick = waitToRender();
         if (doClick) {
-            doClick = executor.doubleClickAt(this);
+            doClick = getExecutor().doubleClickAt(this);
             if (doClick) {
                 LOGGER.info("Double click on {}", toString());
             } else {
@@ -356,7 +452,7 @@ public class WebLocator extends WebLocatorAbstractBuilder {
      * @return true | false
      */
     public boolean isElementPresent() {
-        return executor.isElementPresent(this);
+        return getExecutor().isElementPresent(this);
     }
 
     /**
@@ -365,45 +461,129 @@ public class WebLocator extends WebLocatorAbstractBuilder {
      * @return the number of elements in this list
      */
     public int size() {
-        return executor.size(this);
+        return getExecutor().size(this);
     }
 
     /**
      * @return A point, containing the location of the top left-hand corner of the element
      */
     public Point getLocation() {
-        return executor.getLocation(this);
+        return getExecutor().getLocation(this);
     }
 
     /**
      * @return The size of the element on the page.
      */
     public Dimension getSize() {
-        return executor.getSize(this);
+        return getExecutor().getSize(this);
     }
 
     /**
      * @return The location and size of the rendered element
      */
     public Rectangle getRect() {
-        return executor.getRect(this);
+        return getExecutor().getRect(this);
     }
 
     // TODO see where is used and if is necessary to be public
     public WebElement findElement() {
-        return executor.findElement(this);
+        return getExecutor().findElement(this);
     }
 
     public List<WebElement> findElements() {
         boolean findElements = waitToRender();
         assertThat("Elements were not rendered " + toString(), findElements);
-        return executor.findElements(this);
+        return getExecutor().findElements(this);
+    }
+
+    /**
+     * Waits for the first of many elements, e.g. success panel or error message box.
+     * Each poll searches all locators with one command; when more are found, first in arguments order wins.
+     *
+     * @param timeout  max wait
+     * @param locators candidates
+     * @return first locator found (its currentElement is set), or null when none is found before timeout
+     */
+    public static WebLocator waitFirst(Duration timeout, WebLocator... locators) {
+        WebLocator first = getExecutor().waitFirst(timeout, locators);
+        if (first == null) {
+            LOGGER.warn("None of elements was found after {} seconds: {}", timeout.getSeconds(), Arrays.toString(locators));
+        } else {
+            LOGGER.debug("First element found: {}", first);
+        }
+        return first;
+    }
+
+    /**
+     * Reads text of all elements found, with one command. It does not wait for elements to render.
+     *
+     * @return text of each element (trimmed, empty for hidden elements), empty list when no element is found
+     */
+    public List<String> getTexts() {
+        return getExecutor().getTexts(this, false);
+    }
+
+    /**
+     * @param normalize true to replace spaces and new lines with one space
+     * @return text of each element found, see {@link #getTexts()}
+     */
+    public List<String> getTexts(boolean normalize) {
+        return getExecutor().getTexts(this, normalize);
+    }
+
+    /**
+     * Reads an attribute of all elements found, with one command. It does not wait for elements to render.
+     *
+     * @param attribute e.g. class, id
+     * @return attribute of each element (null when element doesn't have it), empty list when no element is found
+     */
+    public List<String> getAttributes(String attribute) {
+        return getExecutor().getAttributes(this, attribute, false);
+    }
+
+    /**
+     * @param attribute e.g. class, id
+     * @param normalize true to trim values and replace spaces and new lines with one space
+     * @return attribute of each element found, see {@link #getAttributes(String)}
+     */
+    public List<String> getAttributes(String attribute, boolean normalize) {
+        return getExecutor().getAttributes(this, attribute, normalize);
+    }
+
+    /**
+     * Reads with one script tag, text, value, classes, style, displayed, enabled, selected, rect and other attributes.
+     * <p>Until weblocator.snapshotMillis pass or an action is done on this element, getters (getText, getAttribute, isDisplayed...)
+     * return values from snapshot, without asking the driver.</p>
+     *
+     * @param attributes other attributes to read (id, class, style and value are always read)
+     * @return state of element, or null when element is not found
+     */
+    public ElementSnapshot snapshot(String... attributes) {
+        return getExecutor().snapshot(this, attributes);
+    }
+
+    void setSnapshot(ElementSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Element found again (eg. by waitToRender) is equal to the one of snapshot while it's the same element in page.
+     *
+     * @return snapshot read for current element in last weblocator.snapshotMillis, or null
+     */
+    ElementSnapshot getFreshSnapshot() {
+        ElementSnapshot snapshot = this.snapshot;
+        if (snapshot != null && snapshot.getElement().equals(currentElement) && snapshot.isFresh(WebLocatorConfig.getSnapshotMillis())) {
+            return snapshot;
+        }
+        return null;
     }
 
     public boolean isVisible() {
-        boolean visible = isElementPresent();
+        ElementSnapshot snapshot = getFreshSnapshot();
+        boolean visible = snapshot != null || isElementPresent();
         if (visible) {
-            String style = getAttribute("style");
+            String style = snapshot != null ? snapshot.getStyle() : getAttribute("style");
             style = style == null ? "" : style.toLowerCase();
             style = style.replaceAll("\\s*:\\s*", ":");
             if (style.contains("visibility:hidden") || style.contains("display:none")) {
@@ -427,12 +607,40 @@ public class WebLocator extends WebLocatorAbstractBuilder {
     }
 
     public boolean waitToRender(final long millis) {
-        executor.waitElement(this, Duration.ofMillis(millis), true);
+        getExecutor().waitElement(this, Duration.ofMillis(millis), true);
         return currentElement != null;
     }
 
+    /**
+     * Like {@link #waitToRender(long)}, without blocking: runs on the serial executor of current driver context
+     * (see {@link DriverContext#supplyAsync}), so waits of different sessions can overlap.
+     *
+     * @param millis time to wait
+     * @return true when element was rendered
+     */
+    public CompletableFuture<Boolean> waitToRenderAsync(final long millis) {
+        return waitToRenderAsync(DriverContext.current(), millis);
+    }
+
+    /**
+     * @param context driver context (session) to run on, eg. from a thread that is not bound to it
+     * @param millis  time to wait
+     * @return true when element was rendered
+     */
+    public CompletableFuture<Boolean> waitToRenderAsync(DriverContext context, final long millis) {
+        return context.supplyAsync(() -> waitToRender(millis));
+    }
+
+    public CompletableFuture<Boolean> waitToRenderAsync() {
+        return waitToRenderAsync(DriverContext.current());
+    }
+
+    public CompletableFuture<Boolean> waitToRenderAsync(DriverContext context) {
+        return context.supplyAsync(this::waitToRender);
+    }
+
     public boolean waitToRender(final long millis, boolean showXPathLog) {
-        executor.waitElement(this, Duration.ofMillis(millis), showXPathLog);
+        getExecutor().waitElement(this, Duration.ofMillis(millis), showXPathLog);
         return currentElement != null;
     }
 
@@ -507,27 +715,53 @@ public class WebLocator extends WebLocatorAbstractBuilder {
         return waitToRender(seconds * 1000) && waitToActivate(seconds);
     }
 
+    /**
+     * Like {@link #ready()}, without blocking: runs on the serial executor of current driver context
+     * (see {@link DriverContext#supplyAsync}).
+     *
+     * @return true when element is rendered and active
+     */
+    public CompletableFuture<Boolean> readyAsync() {
+        return readyAsync(DriverContext.current());
+    }
+
+    /**
+     * @param context driver context (session) to run on, eg. from a thread that is not bound to it
+     * @return true when element is rendered and active
+     */
+    public CompletableFuture<Boolean> readyAsync(DriverContext context) {
+        return context.supplyAsync(this::ready);
+    }
+
+    public CompletableFuture<Boolean> readyAsync(int seconds) {
+        return readyAsync(DriverContext.current(), seconds);
+    }
+
+    public CompletableFuture<Boolean> readyAsync(DriverContext context, int seconds) {
+        return context.supplyAsync(() -> ready(seconds));
+    }
+
     /**
      * @return True if the element is disabled, false otherwise.
      * @deprecated use {@link #isEnabled}
      */
     @Deprecated
     public boolean isDisabled() {
-        return !executor.isEnabled(this);
+        return !getExecutor().isEnabled(this);
     }
 
     /**
      * @return True if the element is enable, false otherwise.
      */
     public boolean isEnabled() {
-        return executor.isEnabled(this);
+        return getExecutor().isEnabled(this);
     }
 
     /**
      * @return Whether or not the element is displayed
      */
     public boolean isDisplayed() {
-        return executor.isDisplayed(this);
+        return getExecutor().isDisplayed(this);
     }
 
     @Override
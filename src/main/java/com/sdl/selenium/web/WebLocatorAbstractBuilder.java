@@ -25,6 +25,7 @@ public abstract class WebLocatorAbstractBuilder {
     @SuppressWarnings("unchecked")
     public <T extends WebLocatorAbstractBuilder> T setPathBuilder(XPathBuilder pathBuilder) {
         this.pathBuilder = pathBuilder;
+        pathBuilder.markDirty();
         return (T) this;
     }
 
@@ -368,6 +369,17 @@ public abstract class WebLocatorAbstractBuilder {
         return (T) this;
     }
 
+    /**
+     * @param pollingStrategy delay between searches while waiting for this element to render (default weblocator.defaults.polling)
+     * @param <T>             the element which calls this method
+     * @return this element
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends WebLocatorAbstractBuilder> T setPollingStrategy(final PollingStrategy pollingStrategy) {
+        pathBuilder.setPollingStrategy(pollingStrategy);
+        return (T) this;
+    }
+
     /**
      * @param activateSeconds true or false
      * @param <T>             the element which calls this method
@@ -6,6 +6,7 @@ import com.sdl.selenium.WebLocatorSuggestions;
 import com.sdl.selenium.WebLocatorUtils;
 import com.sdl.selenium.utils.config.WebDriverConfig;
 import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.utils.FastMode;
 import com.sdl.selenium.web.utils.FileUtils;
 import com.sdl.selenium.web.utils.MultiThreadClipboardUtils;
 import com.sdl.selenium.web.utils.RetryUtils;
@@ -16,30 +17,142 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.Wait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 public class WebLocatorDriverExecutor implements WebLocatorExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebLocatorDriverExecutor.class);
 
     private WebDriver driver;
+    private final ElementCache elementCache = new ElementCache();
 
     public WebLocatorDriverExecutor(WebDriver driver) {
         this.driver = driver;
+        if (driver instanceof EventFiringWebDriver) {
+            ((EventFiringWebDriver) driver).register(new CacheListener(elementCache));
+        }
+    }
+
+    protected WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * @return elements found by this executor (weblocator.cacheElements)
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
     }
 
     private String currentElementPath = "";
 
+    /**
+     * Resolves (callback is last argument) with the first element matching the selector (arguments: selector, isCss, visibility, timeout millis),
+     * checked again on each page change, or with null at timeout.
+     */
+    private static final String OBSERVER_SCRIPT = "var selector = arguments[0], isCss = arguments[1], visibility = arguments[2], timeout = arguments[3];\n" +
+            "var done = arguments[arguments.length - 1];\n" +
+            "if (!window.MutationObserver) { return done('unsupported'); }\n" +
+            "function find() {\n" +
+            "  var e = isCss ? document.querySelector(selector) : document.evaluate(selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;\n" +
+            "  if (e && visibility) {\n" +
+            "    var style = window.getComputedStyle(e);\n" +
+            "    if (style.visibility === 'hidden' || !(e.offsetWidth || e.offsetHeight || e.getClientRects().length)) { return null; }\n" +
+            "  }\n" +
+            "  return e;\n" +
+            "}\n" +
+            "var found = find();\n" +
+            "if (found) { return done(found); }\n" +
+            "var observer, timer, interval;\n" +
+            "function finish(e) { observer.disconnect(); clearTimeout(timer); clearInterval(interval); done(e); }\n" +
+            "observer = new MutationObserver(function () { var e = find(); if (e) { finish(e); } });\n" +
+            "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+            "timer = setTimeout(function () { finish(find()); }, timeout);\n" +
+            // element can become visible without page changes (css transitions)
+            "if (visibility) { interval = setInterval(function () { var e = find(); if (e) { finish(e); } }, 100); }";
+
+    /**
+     * Returns [index, element] for first candidate ({selector, css, visibility}) found in page, or null.
+     */
+    private static final String FIND_FIRST = ElementSnapshot.IS_DISPLAYED +
+            "function findFirst(candidates) {\n" +
+            "  for (var i = 0; i < candidates.length; i++) {\n" +
+            "    var c = candidates[i];\n" +
+            "    var e = c.css ? document.querySelector(c.selector) : document.evaluate(c.selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;\n" +
+            "    if (e && (!c.visibility || isDisplayed(e))) { return [i, e]; }\n" +
+            "  }\n" +
+            "  return null;\n" +
+            "}\n";
+
+    /**
+     * Argument: candidates. One search of all candidates.
+     */
+    private static final String FIRST_SCRIPT = "var candidates = arguments[0];\n" + FIND_FIRST + "return findFirst(candidates);";
+
+    /**
+     * Arguments: candidates, timeout millis. Like {@link #OBSERVER_SCRIPT}, for first of many candidates.
+     */
+    private static final String FIRST_OBSERVER_SCRIPT = "var candidates = arguments[0], timeout = arguments[1];\n" +
+            "var done = arguments[arguments.length - 1];\n" +
+            "if (!window.MutationObserver) { return done('unsupported'); }\n" +
+            FIND_FIRST +
+            "var found = findFirst(candidates);\n" +
+            "if (found) { return done(found); }\n" +
+            "var observer, timer, interval;\n" +
+            "function finish(f) { observer.disconnect(); clearTimeout(timer); clearInterval(interval); done(f); }\n" +
+            "observer = new MutationObserver(function () { var f = findFirst(candidates); if (f) { finish(f); } });\n" +
+            "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+            "timer = setTimeout(function () { finish(findFirst(candidates)); }, timeout);\n" +
+            "for (var i = 0; i < candidates.length; i++) {\n" +
+            "  if (candidates[i].visibility) { interval = setInterval(function () { var f = findFirst(candidates); if (f) { finish(f); } }, 100); break; }\n" +
+            "}";
+
+    /**
+     * async scripts (or MutationObserver) can't be used with this driver, waits are done by polling
+     */
+    private volatile boolean observerUnsupported;
+
+    /**
+     * Returns text (or attribute when it is not null) of all elements matching the selector
+     * (arguments: selector, isCss, attribute, normalize).
+     */
+    private static final String TEXTS_SCRIPT = "var selector = arguments[0], isCss = arguments[1], attribute = arguments[2], normalize = arguments[3];\n" +
+            ElementSnapshot.IS_DISPLAYED +
+            "var elements = [];\n" +
+            "if (isCss) {\n" +
+            "  elements = document.querySelectorAll(selector);\n" +
+            "} else {\n" +
+            "  var found = document.evaluate(selector, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n" +
+            "  for (var i = 0; i < found.snapshotLength; i++) { elements.push(found.snapshotItem(i)); }\n" +
+            "}\n" +
+            "var values = [];\n" +
+            "for (var i = 0; i < elements.length; i++) {\n" +
+            "  var e = elements[i], v;\n" +
+            "  if (attribute) {\n" +
+            "    var p = e[attribute];\n" +
+            "    v = typeof p === 'boolean' ? (p ? 'true' : null) : (attribute === 'value' && p != null ? String(p) : e.getAttribute(attribute));\n" +
+            "  } else {\n" +
+            // options of closed select have no size, but driver returns their text
+            "    v = (e.tagName.toLowerCase() === 'option' ? e.text : isDisplayed(e) ? e.innerText || '' : '').trim();\n" +
+            "  }\n" +
+            "  values.push(v != null && normalize ? v.replace(/\\s+/g, ' ').trim() : v);\n" +
+            "}\n" +
+            "return values;";
+
     // animations or other Exception
     private static long RETRY_MS = 500;
 
@@ -48,14 +161,32 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
 //        if (highlight) {
 //            doHighlight();
 //        }
-        Boolean click = RetryUtils.retrySafe(6, () -> {
-            findAgain(el);
-            el.currentElement.click();
-            return el.currentElement != null;
-        });
+        el.setSnapshot(null);
+        Boolean click = RetryUtils.retrySafe(6, () -> doWithElement(el, element -> {
+            element.click();
+            return true;
+        }));
+        pageChanged();
         return click == null ? false : click;
     }
 
+    /**
+     * Called after actions that can load another page (click, submit, keys): cached elements are dropped and
+     * fast mode looks for its style again.
+     */
+    @Override
+    public void pageChanged() {
+        elementChanged();
+        FastMode.pageChanged(driver);
+    }
+
+    /**
+     * Called after actions that change the page in place (clear, set value): cached elements are dropped.
+     */
+    protected void elementChanged() {
+        elementCache.clear();
+    }
+
     @Override
     public boolean clickAt(WebLocator el) {
         focus(el);
@@ -65,6 +196,7 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
     @Override
     public boolean doubleClickAt(WebLocator el) {
         boolean clicked = false;
+        el.setSnapshot(null);
         if (ensureExists(el)) {
             try {
                 Actions builder = new Actions(driver);
@@ -75,32 +207,36 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
                 LOGGER.info("Exception in doubleClickAt {}", e);
                 clicked = fireEventWithJS(el, "dblclick") != null;
             }
+            pageChanged();
         }
         return clicked;
     }
 
     public boolean submit(WebLocator el) {
-        Boolean submit = RetryUtils.retry(6, () -> {
-            findAgain(el);
-            el.currentElement.submit();
-            return el.currentElement != null;
-        });
+        el.setSnapshot(null);
+        Boolean submit = RetryUtils.retry(6, () -> doWithElement(el, element -> {
+            element.submit();
+            return true;
+        }));
+        pageChanged();
         return submit == null ? false : submit;
     }
 
     @Override
     public boolean clear(WebLocator el) {
-        Boolean clear = RetryUtils.retry(6, () -> {
-            findAgain(el);
-            el.currentElement.clear();
-            return el.currentElement != null;
-        });
+        el.setSnapshot(null);
+        Boolean clear = RetryUtils.retry(6, () -> doWithElement(el, element -> {
+            element.clear();
+            return true;
+        }));
+        elementChanged();
         return clear == null ? false : clear;
     }
 
     @Override
     public boolean sendKeys(WebLocator el, java.lang.CharSequence... charSequences) {
         boolean sendKeys = false;
+        el.setSnapshot(null);
         if (ensureExists(el)) {
             try {
                 el.currentElement.sendKeys(charSequences);
@@ -124,6 +260,7 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
                 builder.sendKeys(charSequences);
                 sendKeys = true;
             }
+            pageChanged();
         }
         return sendKeys;
     }
@@ -140,7 +277,9 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
 
     @Override
     public boolean setValue(WebLocator el, String value) {
+        el.setSnapshot(null);
         Boolean retry = RetryUtils.retry(6, () -> doSetValue(el, value));
+        elementChanged();
         return retry == null ? false : retry;
     }
 
@@ -165,7 +304,7 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
         return true;
     }
 
-    private String getLogValue(WebLocator el, String value) {
+    protected String getLogValue(WebLocator el, String value) {
         String info = el.getPathBuilder().getInfoMessage();
         if (Strings.isNullOrEmpty(info)) {
             info = el.getPathBuilder().itemToString();
@@ -182,6 +321,10 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
 
     @Override
     public String getTagName(final WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.getTag();
+        }
         return ensureExists(el) ? el.currentElement.getTagName() : null;
     }
 
@@ -212,18 +355,20 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
 
     @Override
     public String getCurrentElementAttribute(final WebLocator el, final String attribute) {
-        return RetryUtils.retrySafe(5, () -> {
-            findAgain(el);
-            return el.currentElement.getAttribute(attribute);
-        });
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null && snapshot.hasAttribute(attribute)) {
+            return snapshot.getAttribute(attribute);
+        }
+        return RetryUtils.retrySafe(5, () -> doWithElement(el, element -> element.getAttribute(attribute)));
     }
 
     @Override
     public String getText(WebLocator el) {
-        return RetryUtils.retrySafe(6, () -> {
-            findAgain(el);
-            return el.currentElement.getText();
-        });
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.getText();
+        }
+        return RetryUtils.retrySafe(6, () -> doWithElement(el, WebElement::getText));
     }
 
     private String getSelector(WebLocator el) {
@@ -236,7 +381,47 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
         return isElementPresent(el);
     }
 
+    /**
+     * Finds the element for an action: it is taken from {@link ElementCache} when weblocator.cacheElements is enabled,
+     * otherwise it is always found again. When action fails (eg. element is stale) the element is removed from cache,
+     * so it is found again on retry.
+     */
+    private <V> V doWithElement(WebLocator el, Function<WebElement, V> action) {
+        if (el.isPrefetched() && isSamePath(el, getSelector(el))) {
+            el.setPrefetched(false);
+        } else if (!isCached(el)) {
+            findAgain(el);
+        }
+        try {
+            return action.apply(el.currentElement);
+        } catch (RuntimeException e) {
+            if (WebLocatorConfig.isCacheElements()) {
+                elementCache.evict(getSelector(el));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Element set by {@link WebLocator#prefetch(WebElement, String)} is used when selector is the same and it is not stale
+     * (and is displayed, for locators with visibility).
+     *
+     * @return true when prefetched element can be used
+     */
+    private boolean isPrefetchedValid(WebLocator el) {
+        if (!el.isPrefetched() || !isSamePath(el, getSelector(el))) {
+            return false;
+        }
+        try {
+            return el.currentElement.isDisplayed() || !el.getPathBuilder().isVisibility();
+        } catch (WebDriverException e) {
+            LOGGER.debug("Prefetched element can't be used, find it again: {}", el);
+            return false;
+        }
+    }
+
     private void invalidateCache(WebLocator el) {
+        el.setPrefetched(false);
         el.currentElement = null;
         el.setCurrentElementPath("");
     }
@@ -265,9 +450,82 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
     }
 
     public List<WebElement> findElements(WebLocator el) {
+        WebElement container = getContainerElement(el);
+        if (container != null) {
+            try {
+                return container.findElements(el.getPathBuilder().getRelativeSelector());
+            } catch (StaleElementReferenceException e) {
+                invalidateContainer(el);
+            }
+        }
         return driver.findElements(el.getSelector());
     }
 
+    @Override
+    public List<String> getTexts(WebLocator el, boolean normalize) {
+        return readAll(el, null, normalize);
+    }
+
+    @Override
+    public List<String> getAttributes(WebLocator el, String attribute, boolean normalize) {
+        return readAll(el, attribute, normalize);
+    }
+
+    /**
+     * Reads all values with one script, or with a command for each element when driver can't run it.
+     */
+    private List<String> readAll(WebLocator el, String attribute, boolean normalize) {
+        if (driver instanceof JavascriptExecutor) {
+            String css = el.getCssSelector();
+            boolean isCss = !Strings.isNullOrEmpty(css);
+            try {
+                Object values = ((JavascriptExecutor) driver).executeScript(TEXTS_SCRIPT, isCss ? css : el.getXPath(), isCss, attribute, normalize);
+                if (values instanceof List) {
+                    List<String> list = new ArrayList<>();
+                    for (Object value : (List<?>) values) {
+                        list.add(value == null ? null : String.valueOf(value));
+                    }
+                    return list;
+                }
+            } catch (WebDriverException e) {
+                LOGGER.debug("Could not read all values with script, read each element: {}", el, e);
+            }
+        }
+        return attribute == null ? WebLocatorExecutor.super.getTexts(el, normalize) : WebLocatorExecutor.super.getAttributes(el, attribute, normalize);
+    }
+
+    /**
+     * @return element already found for container of el, when el can be found relative to it (weblocator.relativeToContainer)
+     */
+    private WebElement getContainerElement(WebLocator el) {
+        if (!WebLocatorConfig.isRelativeToContainer()) {
+            return null;
+        }
+        WebLocator container = el.getPathBuilder().getContainer();
+        if (container == null || !isSamePath(container, getSelector(container)) || el.getPathBuilder().getRelativeSelector() == null) {
+            return null;
+        }
+        return container.currentElement;
+    }
+
+    private void invalidateContainer(WebLocator el) {
+        WebLocator container = el.getPathBuilder().getContainer();
+        LOGGER.debug("Container is stale, {} is searched from document root", el);
+        invalidateCache(container);
+    }
+
+    private WebElement find(WebLocator el, By selector) {
+        WebElement container = getContainerElement(el);
+        if (container != null) {
+            try {
+                return container.findElement(el.getPathBuilder().getRelativeSelector());
+            } catch (StaleElementReferenceException e) {
+                invalidateContainer(el);
+            }
+        }
+        return driver.findElement(selector);
+    }
+
     @Override
     public WebElement waitElement(final WebLocator el, final long millis, boolean showXPathLog) {
         return waitElement(el, Duration.ofMillis(millis), showXPathLog);
@@ -293,25 +551,157 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
     }
 
     private WebElement doWaitElement(final WebLocator el, Duration duration) {
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(duration)
-                .pollingEvery(Duration.ofMillis(1))
-                .ignoring(NoSuchElementException.class)
-                .ignoring(ElementNotVisibleException.class)
-                .ignoring(WebDriverException.class);
-
-        try {
+        if (isPrefetchedValid(el)) {
+            return el.currentElement;
+        }
+        el.setPrefetched(false);
+        final By selector = el.getSelector();
+        Function<WebDriver, WebElement> search;
+        if (WebLocatorConfig.isRelativeToContainer()) {
             if (el.getPathBuilder().isVisibility()) {
-                el.currentElement = wait.until(ExpectedConditions.visibilityOfElementLocated(el.getSelector()));
+                search = d -> {
+                    WebElement element = find(el, selector);
+                    return element.isDisplayed() ? element : null;
+                };
             } else {
-                el.currentElement = wait.until(d -> d.findElement(el.getSelector()));
+                search = d -> find(el, selector);
             }
-        } catch (TimeoutException e) {
-            el.currentElement = null;
+        } else if (el.getPathBuilder().isVisibility()) {
+            search = ExpectedConditions.visibilityOfElementLocated(selector);
+        } else {
+            search = d -> d.findElement(selector);
+        }
+        if (WebLocatorConfig.isMutationObserverWait() && !duration.isZero() && !observerUnsupported && driver instanceof JavascriptExecutor) {
+            String css = el.getCssSelector();
+            boolean isCss = !Strings.isNullOrEmpty(css);
+            el.currentElement = observe(el, duration, el.getPathBuilder().getPollingStrategy(), search, response -> (WebElement) response,
+                    OBSERVER_SCRIPT, isCss ? css : el.getXPath(), isCss, el.getPathBuilder().isVisibility(), duration.toMillis());
+        } else {
+            el.currentElement = poll(el.getPathBuilder().getPollingStrategy(), duration, search);
+        }
+        if (el.currentElement != null && WebLocatorConfig.isRelativeToContainer()) {
+            el.setCurrentElementPath(getSelector(el));
+        }
+        if (el.currentElement != null && WebLocatorConfig.isCacheElements()) {
+            elementCache.put(getSelector(el), el.currentElement);
         }
         return el.currentElement;
     }
 
+    /**
+     * Waits with one async script that checks the selector in page after each change (weblocator.mutationObserverWait).
+     * Falls back to polling when the driver or browser can't run it, or for the rest of the wait when script timeout of driver is shorter.
+     *
+     * @param found converts response of script ('unsupported' excluded) to element
+     */
+    private WebElement observe(Object el, Duration timeout, PollingStrategy strategy, Function<WebDriver, WebElement> search,
+                               Function<Object, WebElement> found, String script, Object... args) {
+        long end = System.nanoTime() + timeout.toNanos();
+        try {
+            Object response = ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+            if (!"unsupported".equals(response)) {
+                WebElement element = found.apply(response);
+                WaitMetrics.getInstance().record(element != null, 1);
+                return element;
+            }
+            LOGGER.info("MutationObserver is not supported by browser, elements are found by polling");
+            observerUnsupported = true;
+        } catch (UnsupportedCommandException e) {
+            LOGGER.info("Async scripts are not supported by driver, elements are found by polling: {}", e.getMessage());
+            observerUnsupported = true;
+        } catch (ScriptTimeoutException e) {
+            LOGGER.debug("Script timeout of driver is shorter than wait of {}", el);
+        } catch (WebDriverException e) {
+            LOGGER.debug("Can't wait with MutationObserver for {}: {}", el, e.getMessage());
+        }
+        return poll(strategy, Duration.ofNanos(Math.max(0, end - System.nanoTime())), search);
+    }
+
+    @Override
+    public WebLocator waitFirst(Duration timeout, WebLocator... locators) {
+        List<Map<String, Object>> candidates = new ArrayList<>();
+        for (WebLocator el : locators) {
+            String css = el.getCssSelector();
+            boolean isCss = !Strings.isNullOrEmpty(css);
+            Map<String, Object> candidate = new HashMap<>();
+            candidate.put("selector", isCss ? css : el.getXPath());
+            candidate.put("css", isCss);
+            candidate.put("visibility", el.getPathBuilder().isVisibility());
+            candidates.add(candidate);
+        }
+        int[] winner = {-1};
+        Function<Object, WebElement> found = response -> {
+            if (response instanceof List && ((List<?>) response).size() == 2) {
+                winner[0] = ((Number) ((List<?>) response).get(0)).intValue();
+                return (WebElement) ((List<?>) response).get(1);
+            }
+            return null;
+        };
+        Function<WebDriver, WebElement> search;
+        if (driver instanceof JavascriptExecutor) {
+            search = d -> found.apply(((JavascriptExecutor) d).executeScript(FIRST_SCRIPT, candidates));
+        } else {
+            search = d -> {
+                for (int i = 0; i < locators.length; i++) {
+                    for (WebElement element : d.findElements(locators[i].getSelector())) {
+                        if (!locators[i].getPathBuilder().isVisibility() || element.isDisplayed()) {
+                            winner[0] = i;
+                            return element;
+                        }
+                    }
+                }
+                return null;
+            };
+        }
+        PollingStrategy strategy = WebLocatorConfig.getDefaultPollingStrategy();
+        WebElement element;
+        if (WebLocatorConfig.isMutationObserverWait() && !timeout.isZero() && !observerUnsupported && driver instanceof JavascriptExecutor) {
+            element = observe(Arrays.toString(locators), timeout, strategy, search, found, FIRST_OBSERVER_SCRIPT, candidates, timeout.toMillis());
+        } else {
+            element = poll(strategy, timeout, search);
+        }
+        if (element == null) {
+            return null;
+        }
+        WebLocator el = locators[winner[0]];
+        el.currentElement = element;
+        el.setCurrentElementPath(getSelector(el));
+        return el;
+    }
+
+    /**
+     * Searches until element is found or timeout, last search is done at timeout.
+     *
+     * @return element or null when it was not found before timeout
+     */
+    private WebElement poll(PollingStrategy strategy, Duration timeout, Function<WebDriver, WebElement> search) {
+        long end = System.nanoTime() + timeout.toNanos();
+        int polls = 0;
+        while (true) {
+            polls++;
+            long start = System.nanoTime();
+            WebElement element = null;
+            try {
+                element = search.apply(driver);
+            } catch (WebDriverException e) {
+                // NoSuchElementException, ElementNotVisibleException, StaleElementReferenceException...
+            }
+            long now = System.nanoTime();
+            if (element != null || now - end >= 0) {
+                WaitMetrics.getInstance().record(element != null, polls);
+                return element;
+            }
+            long delay = Math.min(strategy.nextDelay(polls, Duration.ofNanos(now - start)).toNanos(), end - now);
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                WaitMetrics.getInstance().record(false, polls);
+                return null;
+            }
+        }
+    }
+
     @Override
     public int size(WebLocator el) {
         return findElements(el).size();
@@ -319,16 +709,28 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
 
     @Override
     public Point getLocation(WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.getLocation();
+        }
         return ensureExists(el) ? el.currentElement.getLocation() : null;
     }
 
     @Override
     public Dimension getSize(WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSize();
+        }
         return ensureExists(el) ? el.currentElement.getSize() : null;
     }
 
     @Override
     public Rectangle getRect(WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.getRect();
+        }
         return ensureExists(el) ? el.currentElement.getRect() : null;
     }
 
@@ -340,6 +742,7 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
     @Override
     public boolean mouseOver(WebLocator el) {
         boolean mouseOver;
+        el.setSnapshot(null);
         try {
             if (ensureExists(el)) {
                 Actions builder = new Actions(driver);
@@ -362,14 +765,26 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
 
     @Override
     public boolean isSelected(WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.isSelected();
+        }
         return ensureExists(el) && el.currentElement.isSelected();
     }
 
     public boolean isDisplayed(WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.isDisplayed();
+        }
         return ensureExists(el) && el.currentElement.isDisplayed();
     }
 
     public boolean isEnabled(WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.isEnabled();
+        }
         return ensureExists(el) && el.currentElement.isEnabled();
     }
 
@@ -377,9 +792,54 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
         return el.currentElement != null && (el.getCurrentElementPath().equals(path));
     }
 
+    @Override
+    public ElementSnapshot snapshot(WebLocator el, String... attributes) {
+        ElementSnapshot snapshot = null;
+        if (ensureExists(el)) {
+            JavascriptExecutor javascriptExecutor = (JavascriptExecutor) driver;
+            List<String> names = Arrays.asList(attributes);
+            Object values;
+            try {
+                values = javascriptExecutor.executeScript(ElementSnapshot.SCRIPT, el.currentElement, names);
+            } catch (StaleElementReferenceException e) {
+                LOGGER.debug("Element is stale, find it again for snapshot: {}", el);
+                values = findAgain(el) ? javascriptExecutor.executeScript(ElementSnapshot.SCRIPT, el.currentElement, names) : null;
+            }
+            snapshot = ElementSnapshot.of(values, el.currentElement);
+        }
+        el.setSnapshot(snapshot);
+        return snapshot;
+    }
+
     private boolean isCached(WebLocator el) {
-        boolean cached = false; // TODO config
-        return cached;
+        if (!WebLocatorConfig.isCacheElements()) {
+            return false;
+        }
+        String path = getSelector(el);
+        WebElement element = elementCache.get(path);
+        if (element != null && el.getPathBuilder().isVisibility() && !isDisplayed(element)) {
+            LOGGER.debug("Cached element is not displayed, find it again: {}", el);
+            elementCache.evict(path);
+            element = null;
+        }
+        if (element != null) {
+            el.currentElement = element;
+            el.setCurrentElementPath(path);
+        }
+        return element != null;
+    }
+
+    private static boolean isDisplayed(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean scrollIntoView(WebLocator el) {
+        return ensureExists(el) && executeScript("arguments[0].scrollIntoView(); return true;", el.currentElement) != null;
     }
 
     @Override
@@ -413,6 +873,7 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
                     "evObj.initEvent( '" + eventName + "', true, true );\n" +
                     "return fireOnThis.dispatchEvent(evObj);";
         }
+        el.setSnapshot(null);
         return executeScript(script);
     }
 
@@ -491,4 +952,50 @@ public class WebLocatorDriverExecutor implements WebLocatorExecutor {
 //            js.executeScript("arguments[0].setAttribute('style', arguments[1]);", element, "");
 //        }
     }
+
+    /**
+     * Drops cached elements when EventFiringWebDriver navigates, switches window or changes the page (not through this executor).
+     */
+    private static final class CacheListener extends AbstractWebDriverEventListener {
+        private final ElementCache cache;
+
+        private CacheListener(ElementCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public void afterNavigateTo(String url, WebDriver driver) {
+            cache.clear();
+        }
+
+        @Override
+        public void afterNavigateBack(WebDriver driver) {
+            cache.clear();
+        }
+
+        @Override
+        public void afterNavigateForward(WebDriver driver) {
+            cache.clear();
+        }
+
+        @Override
+        public void afterNavigateRefresh(WebDriver driver) {
+            cache.clear();
+        }
+
+        @Override
+        public void afterSwitchToWindow(String windowName, WebDriver driver) {
+            cache.clear();
+        }
+
+        @Override
+        public void afterClickOn(WebElement element, WebDriver driver) {
+            cache.clear();
+        }
+
+        @Override
+        public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+            cache.clear();
+        }
+    }
 }
\ No newline at end of file
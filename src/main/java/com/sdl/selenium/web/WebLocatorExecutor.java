@@ -1,13 +1,17 @@
 package com.sdl.selenium.web;
 
 import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.utils.Utils;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebElement;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public interface WebLocatorExecutor {
 
@@ -25,6 +29,13 @@ public interface WebLocatorExecutor {
 
     boolean setValue(WebLocator el, String value);
 
+    /**
+     * Forgets what is known about current page (eg. elements found before), after the page was changed without this
+     * executor: navigation, window switch.
+     */
+    default void pageChanged() {
+    }
+
     String getCssValue(final WebLocator el, final String propertyName);
 
     String getTagName(WebLocator el);
@@ -45,11 +56,64 @@ public interface WebLocatorExecutor {
 
     List<WebElement> findElements(WebLocator webLocator);
 
+    /**
+     * @param el        element
+     * @param normalize true to replace spaces and new lines with one space
+     * @return text of each element found, read with one script (by default with a command for each element)
+     */
+    default List<String> getTexts(WebLocator el, boolean normalize) {
+        List<String> texts = new ArrayList<>();
+        for (WebElement element : findElements(el)) {
+            String text = element.getText();
+            texts.add(text != null && normalize ? text.replaceAll("\\s+", " ").trim() : text);
+        }
+        return texts;
+    }
+
+    /**
+     * @param el        element
+     * @param attribute e.g. class, id
+     * @param normalize true to trim values and replace spaces and new lines with one space
+     * @return attribute of each element found, read with one script (by default with a command for each element)
+     */
+    default List<String> getAttributes(WebLocator el, String attribute, boolean normalize) {
+        List<String> values = new ArrayList<>();
+        for (WebElement element : findElements(el)) {
+            String value = element.getAttribute(attribute);
+            values.add(value != null && normalize ? value.replaceAll("\\s+", " ").trim() : value);
+        }
+        return values;
+    }
+
     @Deprecated
     WebElement waitElement(WebLocator el, final long millis, boolean showXPathLog);
 
     WebElement waitElement(WebLocator el, Duration duration, boolean showXPathLog);
 
+    /**
+     * @param timeout  max wait
+     * @param locators candidates, all searched in each poll
+     * @return first locator found (with its currentElement), or null when none is found before timeout
+     */
+    default WebLocator waitFirst(Duration timeout, WebLocator... locators) {
+        PollingStrategy strategy = WebLocatorConfig.getDefaultPollingStrategy();
+        long end = System.nanoTime() + timeout.toNanos();
+        for (int polls = 1; ; polls++) {
+            long start = System.nanoTime();
+            for (WebLocator el : locators) {
+                if (isElementPresent(el)) {
+                    return el;
+                }
+            }
+            long now = System.nanoTime();
+            if (now - end >= 0) {
+                return null;
+            }
+            long delay = Math.min(strategy.nextDelay(polls, Duration.ofNanos(now - start)).toNanos(), end - now);
+            Utils.sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(delay)));
+        }
+    }
+
     int size(WebLocator el);
 
     Point getLocation(WebLocator el);
@@ -64,6 +128,11 @@ public interface WebLocatorExecutor {
 
     boolean blur(WebLocator el);
 
+    default boolean scrollIntoView(WebLocator el) {
+        WebElement element = findElement(el);
+        return element != null && executeScript("arguments[0].scrollIntoView(); return true;", element) != null;
+    }
+
     boolean isSelected(WebLocator el);
 
     boolean isDisplayed(WebLocator el);
@@ -72,6 +141,18 @@ public interface WebLocatorExecutor {
 
     boolean isSamePath(WebLocator el, String path);
 
+    /**
+     * @param el         element
+     * @param attributes other attributes to read
+     * @return state of element read with one script, or null when element is not found
+     */
+    default ElementSnapshot snapshot(WebLocator el, String... attributes) {
+        WebElement element = findElement(el);
+        ElementSnapshot snapshot = element == null ? null : ElementSnapshot.of(executeScript(ElementSnapshot.SCRIPT, element, Arrays.asList(attributes)), element);
+        el.setSnapshot(snapshot);
+        return snapshot;
+    }
+
     Object executeScript(String script, Object... objects);
 
     Object fireEventWithJS(WebLocator el, String eventName);
@@ -0,0 +1,147 @@
+package com.sdl.selenium.web;
+
+import com.google.common.base.Strings;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Executor that finds the element and does the action in one script (weblocator.executor=script):
+ * click, clickAt, setValue, getText, getAttribute, focus, blur, mouseOver, scrollIntoView and fireEventWithJS.
+ * <p>Events of these actions are not trusted (event.isTrusted is false, css :hover is not applied, no key events for setValue),
+ * so other actions (sendKeys, clear, submit, doubleClickAt...) use native WebDriver commands, like {@link WebLocatorDriverExecutor}.
+ * When the script does not find the element or fails, the action is done by {@link WebLocatorDriverExecutor}, with its waits and retries.</p>
+ */
+public class WebLocatorScriptExecutor extends WebLocatorDriverExecutor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebLocatorScriptExecutor.class);
+
+    /**
+     * Arguments: selector, isCss, visibility, action, value (text for setValue, name for getAttribute and fireEvent).
+     * Returns {found: false} or {found: true, element, result}.
+     */
+    static final String SCRIPT = "var selector = arguments[0], isCss = arguments[1], visibility = arguments[2], action = arguments[3], value = arguments[4];\n" +
+            ElementSnapshot.IS_DISPLAYED +
+            "var e = isCss ? document.querySelector(selector) : document.evaluate(selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;\n" +
+            "if (!e || (visibility && !isDisplayed(e))) { return {found: false}; }\n" +
+            "function fire(name, type) { var ev = document.createEvent(type || 'MouseEvents'); ev.initEvent(name, true, true); return e.dispatchEvent(ev); }\n" +
+            "var result = true;\n" +
+            "switch (action) {\n" +
+            "  case 'click': e.click(); break;\n" +
+            "  case 'setValue':\n" +
+            "    if (e.focus) { e.focus(); }\n" +
+            // setter of prototype, so frameworks that track value (eg. React) see the change
+            "    var property = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(e), 'value');\n" +
+            "    if (property && property.set) { property.set.call(e, value); } else { e.value = value; }\n" +
+            "    fire('input', 'HTMLEvents'); fire('change', 'HTMLEvents'); break;\n" +
+            "  case 'getText': result = isDisplayed(e) ? (e.innerText || '').trim() : ''; break;\n" +
+            "  case 'getAttribute':\n" +
+            "    var p = e[value];\n" +
+            "    result = typeof p === 'boolean' ? (p ? 'true' : null) : (value === 'value' && p != null ? String(p) : e.getAttribute(value)); break;\n" +
+            "  case 'mouseOver': fire('mouseover'); break;\n" +
+            "  case 'scrollIntoView': try { e.scrollIntoView({block: 'center', inline: 'nearest'}); } catch (err) { e.scrollIntoView(); } break;\n" +
+            "  case 'fireEvent': result = fire(value); break;\n" +
+            "  default: throw new Error('Unknown action: ' + action);\n" +
+            "}\n" +
+            "return {found: true, element: e, result: result};";
+
+    public WebLocatorScriptExecutor(WebDriver driver) {
+        super(driver);
+    }
+
+    @Override
+    public boolean click(WebLocator el) {
+        el.setSnapshot(null);
+        if (run(el, "click", null) != null) {
+            pageChanged();
+            return true;
+        }
+        return super.click(el);
+    }
+
+    @Override
+    public boolean setValue(WebLocator el, String value) {
+        el.setSnapshot(null);
+        if (run(el, "setValue", value) != null) {
+            elementChanged();
+            LOGGER.info("Set value({}): '{}'", el, getLogValue(el, value));
+            return true;
+        }
+        return super.setValue(el, value);
+    }
+
+    @Override
+    public String getText(WebLocator el) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null) {
+            return snapshot.getText();
+        }
+        Map<?, ?> response = run(el, "getText", null);
+        return response != null ? (String) response.get("result") : super.getText(el);
+    }
+
+    @Override
+    public String getAttribute(WebLocator el, String attribute) {
+        ElementSnapshot snapshot = el.getFreshSnapshot();
+        if (snapshot != null && snapshot.hasAttribute(attribute)) {
+            return snapshot.getAttribute(attribute);
+        }
+        Map<?, ?> response = run(el, "getAttribute", attribute);
+        return response != null ? (String) response.get("result") : super.getAttribute(el, attribute);
+    }
+
+    @Override
+    public boolean mouseOver(WebLocator el) {
+        el.setSnapshot(null);
+        return run(el, "mouseOver", null) != null || super.mouseOver(el);
+    }
+
+    @Override
+    public boolean scrollIntoView(WebLocator el) {
+        el.setSnapshot(null);
+        return run(el, "scrollIntoView", null) != null || super.scrollIntoView(el);
+    }
+
+    /**
+     * Used also by focus (mouseover event) and blur.
+     */
+    @Override
+    public Object fireEventWithJS(WebLocator el, String eventName) {
+        el.setSnapshot(null);
+        Map<?, ?> response = run(el, "fireEvent", eventName);
+        return response != null ? response.get("result") : super.fireEventWithJS(el, eventName);
+    }
+
+    /**
+     * @return response of {@link #SCRIPT} when element was found, null when action must be done with driver
+     */
+    private Map<?, ?> run(WebLocator el, String action, Object value) {
+        WebDriver driver = getDriver();
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        String css = el.getCssSelector();
+        boolean isCss = !Strings.isNullOrEmpty(css);
+        String selector = isCss ? css : el.getXPath();
+        try {
+            Object response = ((JavascriptExecutor) driver).executeScript(SCRIPT, selector, isCss, el.getPathBuilder().isVisibility(), action, value);
+            if (response instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) response).get("found"))) {
+                Map<?, ?> found = (Map<?, ?>) response;
+                Object element = found.get("element");
+                if (element instanceof WebElement) {
+                    el.currentElement = (WebElement) element;
+                    el.setCurrentElementPath(selector);
+                }
+                return found;
+            }
+            LOGGER.debug("Element not found by script for {}, try with driver: {}", action, el);
+        } catch (WebDriverException e) {
+            LOGGER.debug("Script for {} failed, try with driver: {}", action, el, e);
+        }
+        return null;
+    }
+}
@@ -5,14 +5,15 @@ import com.sdl.selenium.utils.config.WebDriverConfig;
 import com.sdl.selenium.utils.config.WebLocatorConfig;
 import com.sdl.selenium.web.utils.Utils;
 import com.sdl.selenium.web.utils.internationalization.InternationalizationUtils;
+import com.sdl.selenium.web.xpath.XPathOptimizer;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.By;
 
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +22,12 @@ import java.util.stream.Collectors;
 @Getter
 @Slf4j
 public class XPathBuilder implements Cloneable {
+    /**
+     * Global modification counter: every change of a builder takes the next value,
+     * so a changed builder always has a newer stamp than any selector compiled before.
+     */
+    private static final AtomicLong MOD_COUNT = new AtomicLong();
+
     public List<SearchType> defaultSearchTextType = new ArrayList<>();
     private String className = "WebLocator";
     private String root = "//";
@@ -39,10 +46,12 @@ public class XPathBuilder implements Cloneable {
     private List<SearchType> searchLabelType = new ArrayList<>();
     private String style;
     private String title;
-    private Map<String, String> templates = new LinkedHashMap<>();
-    private Map<String, WebLocator> templateTitle = new LinkedHashMap<>();
-    private Map<String, String[]> templatesValues = new LinkedHashMap<>();
-    private Map<String, String> elPathSuffix = new LinkedHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private Templates templates = Templates.DEFAULTS;
+    // next maps are created only when first value is set (most locators don't use them); getters return read-only views
+    private Map<String, WebLocator> templateTitle = Collections.emptyMap();
+    private Map<String, String[]> templatesValues = Collections.emptyMap();
+    private Map<String, String> elPathSuffix = Collections.emptyMap();
 
     private String infoMessage;
 
@@ -53,32 +62,28 @@ public class XPathBuilder implements Cloneable {
     private String position;
     private String resultIdx;
     private String type;
-    private Map<String, SearchText> attribute = new LinkedHashMap<>();
+    private Map<String, SearchText> attribute = Collections.emptyMap();
 
     //private int elIndex; // TODO try to find how can be used
 
     private boolean visibility;
     private long renderMillis = WebLocatorConfig.getDefaultRenderMillis();
+    private PollingStrategy pollingStrategy = WebLocatorConfig.getDefaultPollingStrategy();
     private int activateSeconds = 60;
 
     private WebLocator container;
     private List<WebLocator> childNodes;
 
+    @Getter(AccessLevel.NONE)
+    private volatile long modStamp = MOD_COUNT.incrementAndGet();
+    @Getter(AccessLevel.NONE)
+    private volatile CompiledSelector compiled;
+
+    /**
+     * Default templates are shared by all builders (see {@link Templates}), they are copied only when changed with
+     * {@link #setTemplate(String, String)} or {@link #addToTemplate(String, String)}.
+     */
     protected XPathBuilder() {
-        setTemplate("visibility", "count(ancestor-or-self::*[contains(@style, 'display: none')]) = 0");
-        setTemplate("id", "@id='%s'");
-        setTemplate("name", "@name='%s'");
-        setTemplate("class", "contains(concat(' ', @class, ' '), ' %s ')");
-        setTemplate("excludeClass", "not(contains(@class, '%s'))");
-        setTemplate("cls", "@class='%s'");
-        setTemplate("type", "@type='%s'");
-        setTemplate("title", "@title='%s'");
-        setTemplate("titleEl", "count(.%s) > 0");
-        setTemplate("DEEP_CHILD_NODE_OR_SELF", "(%1$s or count(*//text()[%1$s]) > 0)");
-        setTemplate("DEEP_CHILD_NODE", "count(*//text()[%s]) > 0");
-        setTemplate("CHILD_NODE", "count(text()[%s]) > 0");
-        setTemplate("HTML_NODE", "(normalize-space(concat(./*[1]//text(), ' ', text()[1], ' ', ./*[2]//text(), ' ', text()[2], ' ', ./*[3]//text(), ' ', text()[3], ' ', ./*[4]//text(), ' ', text()[4], ' ', ./*[5]//text(), ' ', text()[5]))=%1$s or normalize-space(concat(text()[1], ' ', ./*[1]//text(), ' ', text()[2], ' ', ./*[2]//text(), ' ', text()[3], ' ', ./*[3]//text(), ' ', text()[4], ' ', ./*[4]//text(), ' ', text()[5], ' ', ./*[5]//text()))=%1$s)");
-        setTemplate("childNodes", "count(.%s) > 0");
     }
 
     // =========================================
@@ -95,6 +100,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setRoot(final String root) {
         this.root = root;
+        markDirty();
         return (T) this;
     }
 
@@ -108,6 +114,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setTag(final String tag) {
         this.tag = tag;
+        markDirty();
         return (T) this;
     }
 
@@ -121,6 +128,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setId(final String id) {
         this.id = id;
+        markDirty();
         return (T) this;
     }
 
@@ -135,6 +143,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setElPath(final String elPath) {
         this.elPath = elPath;
+        markDirty();
         return (T) this;
     }
 
@@ -149,6 +158,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setElCssSelector(final String elCssSelector) {
         this.elCssSelector = elCssSelector;
+        markDirty();
         return (T) this;
     }
 
@@ -162,6 +172,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setBaseCls(final String baseCls) {
         this.baseCls = baseCls;
+        markDirty();
         return (T) this;
     }
 
@@ -176,6 +187,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setCls(final String cls) {
         this.cls = cls;
+        markDirty();
         return (T) this;
     }
 
@@ -199,6 +211,7 @@ public class XPathBuilder implements Cloneable {
         if (classes != null) {
             this.classes = Arrays.asList(classes);
         }
+        markDirty();
         return (T) this;
     }
 
@@ -214,6 +227,7 @@ public class XPathBuilder implements Cloneable {
         if (excludeClasses != null) {
             this.excludeClasses = Arrays.asList(excludeClasses);
         }
+        markDirty();
         return (T) this;
     }
 
@@ -222,6 +236,7 @@ public class XPathBuilder implements Cloneable {
         if (childNodes != null) {
             this.childNodes = Arrays.asList(childNodes);
         }
+        markDirty();
         return (T) this;
     }
 
@@ -235,6 +250,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setName(final String name) {
         this.name = name;
+        markDirty();
         return (T) this;
     }
 
@@ -256,6 +272,7 @@ public class XPathBuilder implements Cloneable {
 //            xpath.add("text");
 //        }
         setSearchTextType(searchTypes);
+        markDirty();
         return (T) this;
     }
 
@@ -276,6 +293,7 @@ public class XPathBuilder implements Cloneable {
         }
         this.searchTextType.addAll(defaultSearchTextType);
         this.searchTextType = cleanUpSearchType(this.searchTextType);
+        markDirty();
         return (T) this;
     }
 
@@ -293,6 +311,7 @@ public class XPathBuilder implements Cloneable {
             this.searchTextType.addAll(0, Arrays.asList(searchTextTypes));
         }
         this.searchTextType = cleanUpSearchType(this.searchTextType);
+        markDirty();
         return (T) this;
     }
 
@@ -321,6 +340,7 @@ public class XPathBuilder implements Cloneable {
             this.searchLabelType.addAll(0, Arrays.asList(searchLabelTypes));
         }
         this.searchLabelType = cleanUpSearchType(this.searchLabelType);
+        markDirty();
         return (T) this;
     }
 
@@ -334,6 +354,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setStyle(final String style) {
         this.style = style;
+        markDirty();
         return (T) this;
     }
 
@@ -354,6 +375,7 @@ public class XPathBuilder implements Cloneable {
         } else {
             this.searchTitleType.addAll(defaultSearchTextType);
         }
+        markDirty();
         return (T) this;
     }
 
@@ -366,17 +388,29 @@ public class XPathBuilder implements Cloneable {
         }
         this.searchTitleType.addAll(defaultSearchTextType);
         this.searchTitleType = cleanUpSearchType(this.searchTitleType);
+        markDirty();
         return (T) this;
     }
 
+    /**
+     * @return read-only view, use {@link #setTemplateTitle(WebLocator)} to change it
+     */
+    public Map<String, WebLocator> getTemplateTitle() {
+        return Collections.unmodifiableMap(templateTitle);
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setTemplateTitle(WebLocator titleEl) {
         if (titleEl == null) {
             templateTitle.remove("title");
         } else {
+            if (templateTitle.isEmpty()) {
+                templateTitle = new LinkedHashMap<>();
+            }
             templateTitle.put("title", titleEl);
             setSearchTitleType(titleEl.getPathBuilder().getSearchTitleType().stream().toArray(SearchType[]::new));
         }
+        markDirty();
         return (T) this;
     }
 
@@ -397,13 +431,27 @@ public class XPathBuilder implements Cloneable {
         if (Strings.isNullOrEmpty(elPathSuffix)) {
             this.elPathSuffix.remove(key);
         } else {
+            if (this.elPathSuffix.isEmpty()) {
+                this.elPathSuffix = new LinkedHashMap<>();
+            }
             this.elPathSuffix.put(key, elPathSuffix);
         }
+        markDirty();
         return (T) this;
     }
 
+    /**
+     * @return read-only view, use {@link #setElPathSuffix(String, String)} to change it
+     */
+    public Map<String, String> getElPathSuffix() {
+        return Collections.unmodifiableMap(elPathSuffix);
+    }
+
+    /**
+     * @return read-only view, use {@link #setTemplateValue(String, String...)} to change it
+     */
     public Map<String, String[]> getTemplatesValues() {
-        return templatesValues;
+        return Collections.unmodifiableMap(templatesValues);
     }
 
     /**
@@ -423,8 +471,12 @@ public class XPathBuilder implements Cloneable {
         if (value == null) {
             this.templatesValues.remove(key);
         } else {
+            if (this.templatesValues.isEmpty()) {
+                this.templatesValues = new LinkedHashMap<>();
+            }
             this.templatesValues.put(key, value);
         }
+        markDirty();
         return (T) this;
     }
 
@@ -438,11 +490,8 @@ public class XPathBuilder implements Cloneable {
      */
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setTemplate(final String key, final String value) {
-        if (value == null) {
-            templates.remove(key);
-        } else {
-            templates.put(key, value);
-        }
+        templates = templates.with(key, value);
+        markDirty();
         return (T) this;
     }
 
@@ -455,6 +504,7 @@ public class XPathBuilder implements Cloneable {
             template = "";
         }
         setTemplate(key, template + value);
+        markDirty();
         return (T) this;
     }
 
@@ -462,6 +512,13 @@ public class XPathBuilder implements Cloneable {
         return templates.get(key);
     }
 
+    /**
+     * @return read-only view of all templates, use {@link #setTemplate(String, String)} to change them
+     */
+    public Map<String, String> getTemplates() {
+        return templates.asMap();
+    }
+
     /**
      * <p><b><i>Used in logging process</i></b></p>
      *
@@ -478,6 +535,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setVisibility(final boolean visibility) {
         this.visibility = visibility;
+        markDirty();
         return (T) this;
     }
 
@@ -487,6 +545,17 @@ public class XPathBuilder implements Cloneable {
         return (T) this;
     }
 
+    /**
+     * @param pollingStrategy delay between searches while waiting for this element to render (default weblocator.defaults.polling)
+     * @param <T>             the element which calls this method
+     * @return this element
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends XPathBuilder> T setPollingStrategy(final PollingStrategy pollingStrategy) {
+        this.pollingStrategy = pollingStrategy;
+        return (T) this;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setActivateSeconds(final int activateSeconds) {
         this.activateSeconds = activateSeconds;
@@ -503,6 +572,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setContainer(WebLocator container) {
         this.container = container;
+        markDirty();
         return (T) this;
     }
 
@@ -520,6 +590,7 @@ public class XPathBuilder implements Cloneable {
         if (searchTypes != null && searchTypes.length > 0) {
             setSearchLabelType(searchTypes);
         }
+        markDirty();
         return (T) this;
     }
 
@@ -533,6 +604,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setLabelTag(final String labelTag) {
         this.labelTag = labelTag;
+        markDirty();
         return (T) this;
     }
 
@@ -547,6 +619,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setLabelPosition(final String labelPosition) {
         this.labelPosition = labelPosition;
+        markDirty();
         return (T) this;
     }
 
@@ -564,6 +637,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setPosition(final int position) {
         this.position = position + "";
+        markDirty();
         return (T) this;
     }
 
@@ -581,6 +655,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setPosition(final Position position) {
         this.position = position.getValue();
+        markDirty();
         return (T) this;
     }
 
@@ -599,6 +674,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setResultIdx(final int resultIdx) {
         this.resultIdx = resultIdx + "";
+        markDirty();
         return (T) this;
     }
 
@@ -617,6 +693,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setResultIdx(final Position resultIdx) {
         this.resultIdx = resultIdx.getValue();
+        markDirty();
         return (T) this;
     }
 
@@ -634,6 +711,7 @@ public class XPathBuilder implements Cloneable {
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setType(final String type) {
         this.type = type;
+        markDirty();
         return (T) this;
     }
 
@@ -650,6 +728,13 @@ public class XPathBuilder implements Cloneable {
      * @param <T>         the element which calls this method
      * @return this element
      */
+    /**
+     * @return read-only view, use {@link #setAttribute(String, String, SearchType...)} to change it
+     */
+    public Map<String, SearchText> getAttribute() {
+        return Collections.unmodifiableMap(attribute);
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends XPathBuilder> T setAttribute(final String attribute, String value, final SearchType... searchTypes) {
         if (attribute != null) {
@@ -661,9 +746,13 @@ public class XPathBuilder implements Cloneable {
                         value = InternationalizationUtils.getInternationalizedText(value);
                     }
                 }
+                if (this.attribute.isEmpty()) {
+                    this.attribute = new LinkedHashMap<>();
+                }
                 this.attribute.put(attribute, new SearchText(value, searchTypes));
             }
         }
+        markDirty();
         return (T) this;
     }
 
@@ -728,23 +817,35 @@ public class XPathBuilder implements Cloneable {
     }
 
     protected boolean hasPosition() {
-        int anInt;
-        try {
-            anInt = Integer.parseInt(position);
-        } catch (NumberFormatException e) {
-            anInt = 1;
-        }
-        return !Strings.isNullOrEmpty(position) && anInt > 0;
+        return isIndex(position);
     }
 
     protected boolean hasResultIdx() {
-        int anInt;
+        return isIndex(resultIdx);
+    }
+
+    /**
+     * @param value position or result index
+     * @return true for positive numbers and for expressions like last()
+     */
+    private static boolean isIndex(String value) {
+        if (Strings.isNullOrEmpty(value)) {
+            return false;
+        }
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        if (start == value.length()) {
+            return true;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return true; // not a number, checked without throwing NumberFormatException on every compile
+            }
+        }
         try {
-            anInt = Integer.parseInt(resultIdx);
+            return Integer.parseInt(value) > 0;
         } catch (NumberFormatException e) {
-            anInt = 1;
+            return true;
         }
-        return !Strings.isNullOrEmpty(resultIdx) && anInt > 0;
     }
 
     protected boolean hasType() {
@@ -761,51 +862,66 @@ public class XPathBuilder implements Cloneable {
      * @return baseSelector
      */
     protected String getBasePathSelector() {
+        StringBuilder path = new StringBuilder(64);
+        appendBasePathSelector(new Predicates(path));
+        return path.toString();
+    }
+
+    private void appendBasePathSelector(Predicates selector) {
         // TODO use disabled
         // TODO verify what need to be equal OR contains
-        List<String> selector = new ArrayList<>();
-        CollectionUtils.addIgnoreNull(selector, getBasePath());
+        appendBasePath(selector);
 
         if (!WebDriverConfig.isIE()) {
             if (hasStyle()) {
-                selector.add("contains(@style ,'" + getStyle() + "')");
+                selector.next().append("contains(@style ,'").append(getStyle()).append("')");
             }
             // TODO make specific for WebLocator
             if (isVisibility()) {
 //               TODO selector.append(" and count(ancestor-or-self::*[contains(replace(@style, '\s*:\s*', ':'), 'display:none')]) = 0");
-                CollectionUtils.addIgnoreNull(selector, applyTemplate("visibility", isVisibility()));
+                Templates.Template visibility = templates.template("visibility");
+                if (visibility != null) {
+                    visibility.appendTo(selector.next(), isVisibility());
+                }
             }
         }
-
-        return selector.isEmpty() ? "" : StringUtils.join(selector, " and ");
     }
 
     public String getBasePath() {
-        List<String> selector = new ArrayList<>();
+        StringBuilder path = new StringBuilder(64);
+        Predicates selector = new Predicates(path);
+        appendBasePath(selector);
+        return selector.isEmpty() ? null : path.toString();
+    }
+
+    private void appendBasePath(Predicates selector) {
         if (hasId()) {
-            selector.add(applyTemplate("id", getId()));
+            appendTemplateOrEmpty(selector, "id", getId());
         }
         if (hasName()) {
-            selector.add(applyTemplate("name", getName()));
+            appendTemplateOrEmpty(selector, "name", getName());
         }
         if (hasBaseCls()) {
-            selector.add(applyTemplate("class", getBaseCls()));
+            appendTemplateOrEmpty(selector, "class", getBaseCls());
         }
         if (hasCls()) {
-            selector.add(applyTemplate("cls", getCls()));
+            appendTemplateOrEmpty(selector, "cls", getCls());
         }
         if (hasClasses()) {
-            selector.addAll(getClasses().stream().map(cls -> applyTemplate("class", cls)).collect(Collectors.toList()));
+            for (String cls : getClasses()) {
+                appendTemplateOrEmpty(selector, "class", cls);
+            }
         }
         if (hasExcludeClasses()) {
-            selector.addAll(getExcludeClasses().stream().map(excludeClass -> applyTemplate("excludeClass", excludeClass)).collect(Collectors.toList()));
+            for (String excludeClass : getExcludeClasses()) {
+                appendTemplateOrEmpty(selector, "excludeClass", excludeClass);
+            }
         }
         if (hasTitle()) {
             String title = getTitle();
             WebLocator titleTplEl = templateTitle.get("title");
             if (titleTplEl != null) {
-                titleTplEl.setText(title, searchTitleType.stream().toArray(SearchType[]::new));
-                addTemplate(selector, "titleEl", titleTplEl.getXPath());
+                addTemplate(selector, "titleEl", getTitleElPath(titleTplEl, title));
             } else if (searchTitleType.isEmpty()) {
 //                title = getTextAfterEscapeQuotes(title, searchTitleType);
                 addTemplate(selector, "title", title);
@@ -827,106 +943,173 @@ public class XPathBuilder implements Cloneable {
             addTextInPath(selector, getText(), ".", searchTextType);
         }
         for (Map.Entry<String, String[]> entry : getTemplatesValues().entrySet()) {
-            addTemplate(selector, entry.getKey(), entry.getValue());
+            addTemplate(selector, entry.getKey(), (Object[]) entry.getValue());
+        }
+        for (String suffix : elPathSuffix.values()) {
+            selector.add(suffix);
+        }
+        if (hasChildNodes()) {
+            for (WebLocator child : getChildNodes()) {
+                selector.add(getChildNodeSelector(child));
+            }
         }
-        selector.addAll(elPathSuffix.values().stream().collect(Collectors.toList()));
-        selector.addAll(getChildNodesToSelector());
-        return selector.isEmpty() ? null : StringUtils.join(selector, " and ");
     }
 
     public void addTextInPath(List<String> selector, String text, String pattern, List<SearchType> searchTextType) {
-        text = getTextAfterEscapeQuotes(text, searchTextType);
+        if (selector instanceof Predicates) {
+            appendTextInPath((Predicates) selector, text, pattern, toSet(searchTextType));
+        } else {
+            StringBuilder path = new StringBuilder();
+            Predicates predicates = new Predicates(path);
+            appendTextInPath(predicates, text, pattern, toSet(searchTextType));
+            if (!predicates.isEmpty()) {
+                selector.add(path.toString());
+            }
+        }
+    }
+
+    private void appendTextInPath(Predicates selector, String text, String pattern, Set<SearchType> searchTextType) {
         boolean hasContainsAll = searchTextType.contains(SearchType.CONTAINS_ALL) || searchTextType.contains(SearchType.CONTAINS_ALL_CHILD_NODES);
-        if (!Strings.isNullOrEmpty(getTemplate("text"))) {
-            selector.add(String.format(templates.get("text"), text));
-        } else if (hasContainsAll || searchTextType.contains(SearchType.CONTAINS_ANY)) {
-            String splitChar = String.valueOf(text.charAt(0));
-            String[] strings = Pattern.compile(Pattern.quote(splitChar)).split(text.substring(1));
+        boolean split = hasContainsAll || searchTextType.contains(SearchType.CONTAINS_ANY);
+        if (!split) {
+            text = Utils.getEscapeQuotesText(text);
+        }
+        Templates.Template textTemplate = templates.template("text");
+        if (textTemplate != null) {
+            textTemplate.appendTo(selector.next(), text);
+        } else if (split) {
+            StringBuilder path = selector.next();
+            if (!hasContainsAll) {
+                path.append('(');
+            }
+            String[] strings = split(text.substring(1), text.charAt(0));
             for (int i = 0; i < strings.length; i++) {
+                if (i > 0) {
+                    path.append(hasContainsAll ? " and " : " or ");
+                }
                 String escapeQuotesText = Utils.getEscapeQuotesText(strings[i]);
                 if (searchTextType.contains(SearchType.CONTAINS_ALL_CHILD_NODES)) {
                     if (searchTextType.contains(SearchType.CASE_INSENSITIVE)) {
-                        strings[i] = "count(*//text()[contains(translate(.," + escapeQuotesText.toUpperCase().replaceAll("CONCAT\\(", "concat(") + "," + escapeQuotesText.toLowerCase() + ")," + escapeQuotesText.toLowerCase() + ")]) > 0";
+                        String lowerCase = escapeQuotesText.toLowerCase();
+                        path.append("count(*//text()[contains(translate(.,").append(toUpperCase(escapeQuotesText)).append(',').append(lowerCase)
+                                .append("),").append(lowerCase).append(")]) > 0");
                     } else {
-                        strings[i] = "count(*//text()[contains(.," + escapeQuotesText + ")]) > 0";
+                        path.append("count(*//text()[contains(.,").append(escapeQuotesText).append(")]) > 0");
                     }
+                } else if (searchTextType.contains(SearchType.DEEP_CHILD_NODE_OR_SELF)) {
+                    appendTemplate(path, "DEEP_CHILD_NODE_OR_SELF", escapeQuotesText);
+                } else if (searchTextType.contains(SearchType.DEEP_CHILD_NODE)) {
+                    appendTemplate(path, "DEEP_CHILD_NODE", escapeQuotesText);
                 } else {
-                    if (searchTextType.contains(SearchType.DEEP_CHILD_NODE_OR_SELF)) {
-                        strings[i] = applyTemplate("DEEP_CHILD_NODE_OR_SELF", escapeQuotesText);
-                    } else if (searchTextType.contains(SearchType.DEEP_CHILD_NODE)) {
-                        strings[i] = applyTemplate("DEEP_CHILD_NODE", escapeQuotesText);
-                    } else {
-                        strings[i] = "contains(" + (".".equals(pattern) ? "." : pattern) + "," + escapeQuotesText + ")";
-                    }
+                    path.append("contains(").append(pattern).append(',').append(escapeQuotesText).append(')');
                 }
             }
-            selector.add(hasContainsAll ? StringUtils.join(strings, " and ") : "(" + StringUtils.join(strings, " or ") + ")");
+            if (!hasContainsAll) {
+                path.append(')');
+            }
         } else if (searchTextType.contains(SearchType.DEEP_CHILD_NODE_OR_SELF)) {
-            String selfPath = getTextWithSearchType(searchTextType, text, pattern);
-            addTemplate(selector, "DEEP_CHILD_NODE_OR_SELF", selfPath);
+            addTemplate(selector, "DEEP_CHILD_NODE_OR_SELF", getTextWithSearchType(searchTextType, text, pattern));
         } else if (searchTextType.contains(SearchType.DEEP_CHILD_NODE)) {
-            String selfPath = getTextWithSearchType(searchTextType, text, pattern);
-            addTemplate(selector, "DEEP_CHILD_NODE", selfPath);
+            addTemplate(selector, "DEEP_CHILD_NODE", getTextWithSearchType(searchTextType, text, pattern));
         } else if (searchTextType.contains(SearchType.CHILD_NODE)) {
-            String selfPath = getTextWithSearchType(searchTextType, text, pattern);
-            addTemplate(selector, "CHILD_NODE", selfPath);
+            addTemplate(selector, "CHILD_NODE", getTextWithSearchType(searchTextType, text, pattern));
         } else if (searchTextType.contains(SearchType.HTML_NODE)) {
             addTemplate(selector, "HTML_NODE", text);
         } else {
-            selector.add(getTextWithSearchType(searchTextType, text, ".".equals(pattern) ? "text()" : pattern));
+            appendTextWithSearchType(selector.next(), searchTextType, text, ".".equals(pattern) ? "text()" : pattern);
         }
     }
 
-    private List<String> getChildNodesToSelector() {
-        List<String> selector = new ArrayList<>();
-        if (hasChildNodes()) {
-            selector.addAll(getChildNodes().stream().map(this::getChildNodeSelector).collect(Collectors.toList()));
+    private static Set<SearchType> toSet(List<SearchType> searchTypes) {
+        Set<SearchType> set = EnumSet.noneOf(SearchType.class);
+        set.addAll(searchTypes);
+        return set;
+    }
+
+    /**
+     * Same result as {@code Pattern.compile(Pattern.quote(String.valueOf(separator))).split(text)}
+     */
+    private static String[] split(String text, char separator) {
+        int index = text.indexOf(separator);
+        if (index == -1) {
+            return new String[]{text};
         }
-        return selector;
+        List<String> strings = new ArrayList<>();
+        int start = 0;
+        while (index != -1) {
+            strings.add(text.substring(start, index));
+            start = index + 1;
+            index = text.indexOf(separator, start);
+        }
+        strings.add(text.substring(start));
+        int size = strings.size();
+        while (size > 0 && strings.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return strings.subList(0, size).toArray(new String[size]);
     }
 
+    /**
+     * When child has this element in its container chain, the chain ends before this element
+     * (child path is relative to this element), nothing is changed in child or its containers.
+     */
     private String getChildNodeSelector(WebLocator child) {
-        WebLocator breakElement = null;
-        WebLocator childIterator = child;
-        WebLocator parentElement = null;
-        // break parent tree if is necessary
-        while (childIterator.getPathBuilder().getContainer() != null && breakElement == null) {
-            WebLocator parentElementIterator = childIterator.getPathBuilder().getContainer();
-
-            // child element has myself as parent
-            if (parentElementIterator.getPathBuilder() == this) {
-                childIterator.setContainer(null); // break parent tree while generating child address
-                parentElement = parentElementIterator;
-                breakElement = childIterator;
-            } else {
-                childIterator = parentElementIterator;
+        XPathBuilder childBuilder = child.getPathBuilder();
+        String childPath = childBuilder.hasInContainers(this) ? childBuilder.compileXPath(false, this) : child.getXPath();
+        return applyTemplate("childNodes", childPath);
+    }
+
+    private boolean hasInContainers(XPathBuilder builder) {
+        for (WebLocator parent = container; parent != null; parent = parent.getPathBuilder().container) {
+            if (parent.getPathBuilder() == builder) {
+                return true;
             }
         }
+        return false;
+    }
 
-        String selector = applyTemplate("childNodes", child.getXPath());
-        if (breakElement != null) {
-            breakElement.setContainer(parentElement);
+    /**
+     * @return xpath of title element having this title, titleTplEl can be shared so a copy of it gets the text
+     */
+    private String getTitleElPath(WebLocator titleTplEl, String title) {
+        XPathBuilder titleEl;
+        try {
+            titleEl = (XPathBuilder) titleTplEl.getPathBuilder().clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
         }
-        return selector;
+        titleEl.setText(title, searchTitleType.stream().toArray(SearchType[]::new));
+        return titleEl.getXPath();
     }
 
-    private void addTemplate(List<String> selector, String key, Object... arguments) {
-        String tpl = applyTemplate(key, arguments);
-        if (StringUtils.isNotEmpty(tpl)) {
-            selector.add(tpl);
+    /**
+     * Adds template only when it generates something
+     */
+    private void addTemplate(Predicates selector, String key, Object... arguments) {
+        Templates.Template template = templates.template(key);
+        if (template != null) {
+            selector.addTemplate(template, arguments);
         }
     }
 
-    protected String applyTemplate(String key, Object... arguments) {
-        String tpl = templates.get(key);
-        if (StringUtils.isNotEmpty(tpl)) {
-            return String.format(tpl, arguments);
+    /**
+     * Adds template, or an empty predicate when template is missing
+     */
+    private void appendTemplateOrEmpty(Predicates selector, String key, Object... arguments) {
+        StringBuilder path = selector.next();
+        appendTemplate(path, key, arguments);
+    }
+
+    private void appendTemplate(StringBuilder path, String key, Object... arguments) {
+        Templates.Template template = templates.template(key);
+        if (template != null) {
+            template.appendTo(path, arguments);
         }
-        return null;
     }
 
-    private String applyTemplateValue(String key) {
-        return applyTemplate(key, getTemplate(key));
+    protected String applyTemplate(String key, Object... arguments) {
+        Templates.Template template = templates.template(key);
+        return template == null ? null : template.apply(arguments);
     }
 
     /**
@@ -936,75 +1119,102 @@ public class XPathBuilder implements Cloneable {
      * @return String
      */
     protected String getItemPath(boolean disabled) {
-        String selector = getBaseItemPath();
-        String subPath = applyTemplateValue(disabled ? "disabled" : "enabled");
+        StringBuilder path = new StringBuilder(128).append(getRoot()).append(getTag()).append('[');
+        int start = path.length();
+        appendBasePathSelector(new Predicates(path));
+        String key = disabled ? "disabled" : "enabled";
+        Templates.Template subPath = templates.template(key);
         if (subPath != null) {
-            selector += StringUtils.isNotEmpty(selector) ? " and " + subPath : subPath;
+            if (path.length() > start) {
+                path.append(" and ");
+            }
+            subPath.appendTo(path, getTemplate(key));
         }
-        selector = getRoot() + getTag() + (StringUtils.isNotEmpty(selector) ? "[" + selector + "]" : "");
-        return selector;
+        if (path.length() == start) {
+            path.setLength(start - 1);
+        } else {
+            path.append(']');
+        }
+        return path.toString();
     }
 
-    private String getTextWithSearchType(List<SearchType> searchType, String text, String pattern) {
-        if (searchType.contains(SearchType.TRIM)) {
-            pattern = "normalize-space(" + pattern + ")";
+    private String getTextWithSearchType(Set<SearchType> searchType, String text, String pattern) {
+        return appendTextWithSearchType(new StringBuilder(), searchType, text, pattern).toString();
+    }
+
+    private StringBuilder appendTextWithSearchType(StringBuilder path, Set<SearchType> searchType, String text, String pattern) {
+        boolean equals = searchType.contains(SearchType.EQUALS);
+        if (equals) {
+            // pattern=text
+        } else if (searchType.contains(SearchType.STARTS_WITH)) {
+            path.append("starts-with(");
+        } else {
+            path.append("contains(");
         }
+        boolean trim = searchType.contains(SearchType.TRIM);
         if (searchType.contains(SearchType.CASE_INSENSITIVE)) {
-            pattern = "translate(" + pattern + "," + text.toUpperCase().replaceAll("CONCAT\\(", "concat(") + "," + text.toLowerCase() + ")";
+            String upperCase = toUpperCase(text);
             text = text.toLowerCase();
-        }
-        if (searchType.contains(SearchType.EQUALS)) {
-            text = pattern + "=" + text;
-        } else if (searchType.contains(SearchType.STARTS_WITH)) {
-            text = "starts-with(" + pattern + "," + text + ")";
+            path.append("translate(");
+            appendPattern(path, pattern, trim).append(',').append(upperCase).append(',').append(text).append(')');
         } else {
-            text = "contains(" + pattern + "," + text + ")";
+            appendPattern(path, pattern, trim);
         }
-        return text;
+        path.append(equals ? '=' : ',').append(text);
+        return equals ? path : path.append(')');
     }
 
-    private String getTextAfterEscapeQuotes(String text, List<SearchType> searchType) {
-        if (searchType.contains(SearchType.CONTAINS_ALL) || searchType.contains(SearchType.CONTAINS_ANY) || searchType.contains(SearchType.CONTAINS_ALL_CHILD_NODES)) {
-            return text;
-        }
-        return Utils.getEscapeQuotesText(text);
+    private static StringBuilder appendPattern(StringBuilder path, String pattern, boolean trim) {
+        return trim ? path.append("normalize-space(").append(pattern).append(')') : path.append(pattern);
     }
 
-    private String getBaseItemPath() {
-        return getBasePathSelector();
+    private static String toUpperCase(String text) {
+        return text.toUpperCase().replace("CONCAT(", "concat(");
     }
 
     private String getItemCssSelector() {
-        List<String> selector = new ArrayList<>();
+        StringBuilder selector = new StringBuilder(64);
         if (hasTag()) {
-            selector.add(getTag());
+            selector.append(getTag());
         }
         if (hasId()) {
-            selector.add("#" + getId());
+            selector.append('#').append(getId());
         }
         if (hasBaseCls()) {
-            selector.add("." + getBaseCls());
+            selector.append('.').append(getBaseCls());
         }
         if (hasCls()) {
-            selector.add("[class=" + getCls() + "]");
+            selector.append("[class=").append(getCls()).append(']');
         }
         if (hasClasses()) {
-            selector.addAll(getClasses().stream().map(cls -> "." + cls).collect(Collectors.toList()));
+            for (String cls : getClasses()) {
+                selector.append('.').append(cls);
+            }
         }
         if (hasExcludeClasses()) {
 //            LOGGER.warn("excludeClasses is not supported yet");
-            selector.addAll(getExcludeClasses().stream().map(excludeClass -> ":not(." + excludeClass + ")").collect(Collectors.toList()));
+            for (String excludeClass : getExcludeClasses()) {
+                selector.append(":not(.").append(excludeClass).append(')');
+            }
         }
         if (hasName()) {
-            selector.add("[name='" + getName() + "']");
+            selector.append("[name='").append(getName()).append("']");
         }
         if (hasType()) {
-            selector.add("[type='" + getType() + "']");
+            selector.append("[type='").append(getType()).append("']");
         }
-        if (!attribute.isEmpty()) {
-            selector.addAll(attribute.entrySet().stream()
-                    .map(e -> "[" + e.getKey() + "='" + e.getValue().getValue() + "']")
-                    .collect(Collectors.toList()));
+        for (Map.Entry<String, SearchText> e : attribute.entrySet()) {
+            appendCssAttribute(selector, e.getKey(), e.getValue().getValue(), toSet(e.getValue().getSearchTypes()));
+        }
+        if (hasTitle()) {
+            if (searchTitleType.isEmpty()) {
+                appendCssAttribute(selector, "title", getTitle(), EnumSet.of(SearchType.EQUALS));
+            } else {
+                appendCssAttribute(selector, "title", getTitle(), toSet(searchTitleType));
+            }
+        }
+        if (hasStyle() && !WebDriverConfig.isIE()) {
+            appendCssAttribute(selector, "style", getStyle(), EnumSet.of(SearchType.CONTAINS));
         }
 //        for (Map.Entry<String, String> entry : getTemplatesValues().entrySet()) {
 //            addTemplate(selector, entry.getKey(), entry.getValue());
@@ -1012,43 +1222,161 @@ public class XPathBuilder implements Cloneable {
 //        for (String suffix : elPathSuffix.values()) {
 //            selector.add(suffix);
 //        }
-        return selector.isEmpty() ? "*" : StringUtils.join(selector, "");
+        return selector.length() == 0 ? "*" : selector.toString();
     }
 
     public final By getSelector() {
+        CompiledSelector compiled = getCompiled();
+        if (compiled == null) {
+            return compileSelector();
+        }
+        By selector = compiled.selector;
+        if (selector == null) {
+            selector = compileSelector();
+            compiled.selector = selector;
+        }
+        return selector;
+    }
+
+    private By compileSelector() {
         String cssSelector = getCssSelector();
-        return !Strings.isNullOrEmpty(cssSelector) ? By.cssSelector(cssSelector) : By.xpath(getXPath());
+        if (!Strings.isNullOrEmpty(cssSelector)) {
+            return By.cssSelector(cssSelector);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("xpath is used for {}: {}", this, getCssFallbackReason());
+        }
+        return By.xpath(getXPath());
     }
 
-    private boolean isCssSelectorSupported() {
-        return !(hasText() || hasElPath() || hasChildNodes() || hasStyle() || hasLabel() || hasTitle() || hasResultIdx());
+    /**
+     * Same condition as {@link #appendTextInPath(Predicates, String, String, Set)} generates for an attribute:
+     * [name='value'], [name^='value'] or [name*='value'] (one for each value of CONTAINS_ALL)
+     */
+    private static void appendCssAttribute(StringBuilder selector, String name, String value, Set<SearchType> searchTypes) {
+        if (searchTypes.contains(SearchType.CONTAINS_ALL)) {
+            for (String part : split(value.substring(1), value.charAt(0))) {
+                appendCssAttribute(selector, name, "*=", part);
+            }
+        } else if (searchTypes.contains(SearchType.EQUALS)) {
+            appendCssAttribute(selector, name, "=", value);
+        } else if (searchTypes.contains(SearchType.STARTS_WITH)) {
+            appendCssAttribute(selector, name, "^=", value);
+        } else {
+            appendCssAttribute(selector, name, "*=", value);
+        }
     }
 
-    public final String getCssSelector() {
-        String cssSelector = null;
+    private static void appendCssAttribute(StringBuilder selector, String name, String operator, String value) {
+        selector.append('[').append(name);
+        if (value.isEmpty() && !"=".equals(operator)) {
+            // contains(@name, '') only checks that attribute exists, [name*=''] matches nothing
+            selector.append(']');
+            return;
+        }
+        selector.append(operator).append('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\'' || c == '\\') {
+                selector.append('\\');
+            }
+            selector.append(c);
+        }
+        selector.append("']");
+    }
 
-        cssSelector = getElCssSelector();
-        if (WebLocatorConfig.isGenerateCssSelector()) {
-            if (StringUtils.isEmpty(cssSelector)) {
-                if (isCssSelectorSupported()) {
-                    cssSelector = getItemCssSelector();
-                    if (hasPosition()) {
-                        if ("first()".equals(position)) {
-                            cssSelector += ":first-child";
-                        } else if ("last()".equals(position)) {
-                            cssSelector += ":last-child";
-                        } else {
-                            cssSelector += ":nth-child(" + getPosition() + ")";
-                        }
-                    }
+    /**
+     * @return the feature that can't be expressed exactly as css selector (so xpath is used), or null when css selector is generated
+     */
+    public String getCssFallbackReason() {
+        if (StringUtils.isEmpty(getElCssSelector())) {
+            if (!WebLocatorConfig.isGenerateCssSelector()) {
+                return "generateCssSelector is disabled";
+            }
+            String reason = getItemCssFallbackReason();
+            if (reason != null) {
+                return reason;
+            }
+        }
+        if (getContainer() != null) {
+            String reason = getContainer().getPathBuilder().getCssFallbackReason();
+            if (reason != null) {
+                return "container: " + reason;
+            }
+        }
+        return null;
+    }
+
+    private String getItemCssFallbackReason() {
+        if (hasText()) {
+            return "text";
+        } else if (hasElPath()) {
+            return "elPath";
+        } else if (hasChildNodes()) {
+            return "childNodes";
+        } else if (hasLabel()) {
+            return "label";
+        } else if (hasResultIdx()) {
+            return "resultIdx"; // index in all matches of the path, css can only select by position in parent
+        }
+        if (hasTitle()) {
+            if (templateTitle.get("title") != null) {
+                return "templateTitle";
+            } else if (searchTitleType.isEmpty()) {
+                if (!"@title='%s'".equals(getTemplate("title"))) {
+                    return "title template";
                 }
-            } //else {
-//            String baseCssSelector = getItemCssSelector();
-//            if (StringUtils.isNotEmpty(baseCssSelector)) {
-//                 TODO "inject" baseItemPath to elPath
-//            }
-//            }
+            } else {
+                String reason = getCssAttributeFallbackReason("title", searchTitleType);
+                if (reason != null) {
+                    return reason;
+                }
+            }
+        }
+        for (Map.Entry<String, SearchText> entry : attribute.entrySet()) {
+            String reason = getCssAttributeFallbackReason(entry.getKey(), entry.getValue().getSearchTypes());
+            if (reason != null) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    private String getCssAttributeFallbackReason(String name, List<SearchType> searchTypes) {
+        if (templates.template("text") != null) {
+            return "text template";
+        }
+        for (SearchType searchType : searchTypes) {
+            switch (searchType) {
+                case EQUALS:
+                case CONTAINS:
+                case STARTS_WITH:
+                case CONTAINS_ALL:
+                case NO_TRIM:
+                case CASE_SENSITIVE:
+                case NOT_INTERNATIONALIZED:
+                    break;
+                default:
+                    return "@" + name + " " + searchType;
+            }
+        }
+        return null;
+    }
+
+    public final String getCssSelector() {
+        CompiledSelector compiled = getCompiled();
+        if (compiled == null) {
+            return compileCssSelector();
+        }
+        if (!compiled.cssCompiled) {
+            compiled.cssSelector = compileCssSelector();
+            compiled.cssCompiled = true;
         }
+        return compiled.cssSelector;
+    }
+
+    private String compileCssSelector() {
+        String cssSelector = compileItemCssSelector();
         // add container path
         if (cssSelector != null && getContainer() != null) {
             String parentCssSelector = getContainer().getCssSelector();
@@ -1074,6 +1402,72 @@ public class XPathBuilder implements Cloneable {
         return cssSelector;
     }
 
+    /**
+     * @return css selector of this element, without container
+     */
+    private String compileItemCssSelector() {
+        String cssSelector = getElCssSelector();
+        if (WebLocatorConfig.isGenerateCssSelector()) {
+            if (StringUtils.isEmpty(cssSelector)) {
+                if (getItemCssFallbackReason() == null) {
+                    cssSelector = getItemCssSelector();
+                    if (hasPosition()) {
+                        if ("first()".equals(position)) {
+                            cssSelector += ":first-child";
+                        } else if ("last()".equals(position)) {
+                            cssSelector += ":last-child";
+                        } else {
+                            cssSelector += ":nth-child(" + getPosition() + ")";
+                        }
+                    }
+                }
+            } //else {
+//            String baseCssSelector = getItemCssSelector();
+//            if (StringUtils.isNotEmpty(baseCssSelector)) {
+//                 TODO "inject" baseItemPath to elPath
+//            }
+//            }
+        }
+        return cssSelector;
+    }
+
+    /**
+     * Used to find this element inside the element already found for its container (see weblocator.relativeToContainer),
+     * instead of sending the full path from document root.
+     *
+     * @return selector relative to container element, or null when element has no container or can't be found relative to it
+     */
+    public final By getRelativeSelector() {
+        CompiledSelector compiled = getCompiled();
+        if (compiled == null) {
+            return compileRelativeSelector();
+        }
+        if (!compiled.relativeCompiled) {
+            compiled.relativeSelector = compileRelativeSelector();
+            compiled.relativeCompiled = true;
+        }
+        return compiled.relativeSelector;
+    }
+
+    private By compileRelativeSelector() {
+        if (getContainer() == null) {
+            return null;
+        }
+        String cssSelector = compileItemCssSelector();
+        if (!Strings.isNullOrEmpty(cssSelector) && "//".equals(getRoot())) {
+            return By.cssSelector(cssSelector);
+        }
+        String itemPath = compileItemXPath(false);
+        if (!itemPath.startsWith("/")) {
+            return null;
+        }
+        String path = "." + itemPath;
+        if (hasResultIdx()) {
+            path = "(" + path + ")[" + getResultIdx() + "]";
+        }
+        return By.xpath(optimize(path));
+    }
+
     /**
      * @return final xpath (including containers xpath), used for interacting with browser
      */
@@ -1082,6 +1476,52 @@ public class XPathBuilder implements Cloneable {
     }
 
     public final String getXPath(boolean disabled) {
+        CompiledSelector compiled = disabled ? null : getCompiled();
+        if (compiled == null) {
+            return compileXPath(disabled, null);
+        }
+        String xPath = compiled.xPath;
+        if (xPath == null) {
+            xPath = compileXPath(false, null);
+            compiled.xPath = xPath;
+        }
+        return xPath;
+    }
+
+    /**
+     * @param stop builder whose childNodes are compiled: the container chain ends before it, or null for the full path.
+     *             Path compiled with stop is not cached, it is only a part of the stop builder path.
+     */
+    private String compileXPath(boolean disabled, XPathBuilder stop) {
+        String returnPath = compileItemXPath(disabled);
+
+        boolean hasResultIdx = hasResultIdx();
+        WebLocator container = getContainer();
+        if (container != null && container.getPathBuilder() == stop) {
+            container = null;
+        }
+        if (container == null && !hasResultIdx) {
+            return optimize(returnPath);
+        }
+        StringBuilder path = new StringBuilder(256);
+        if (hasResultIdx) {
+            path.append('(');
+        }
+        // add container path
+        if (container != null) {
+            path.append(stop == null ? container.getXPath() : container.getPathBuilder().compileXPath(false, stop));
+        }
+        path.append(returnPath);
+        if (hasResultIdx) {
+            path.append(")[").append(getResultIdx()).append(']');
+        }
+        return optimize(path.toString());
+    }
+
+    /**
+     * @return xpath of this element, without container and resultIdx
+     */
+    private String compileItemXPath(boolean disabled) {
         String returnPath;
         if (hasElPath()) {
             returnPath = getElPath();
@@ -1093,21 +1533,75 @@ public class XPathBuilder implements Cloneable {
         } else {
             returnPath = getItemPath(disabled);
         }
+        return afterItemPathCreated(returnPath);
+    }
 
-        returnPath = afterItemPathCreated(returnPath);
+    private static String optimize(String xPath) {
+        return WebLocatorConfig.isOptimizeXPath() ? XPathOptimizer.optimize(xPath) : xPath;
+    }
 
-        // add container path
-        if (getContainer() != null) {
-            returnPath = getContainer().getXPath() + returnPath;
+    /**
+     * Marks this builder as changed, so selectors compiled from it (or from any locator having it in its container chain)
+     * are generated again on next use. All setters call it; call it after changing state that is used
+     * in an overridden path method but is not kept in this builder (eg. a field of the component).
+     */
+    public void markDirty() {
+        modStamp = MOD_COUNT.incrementAndGet();
+    }
+
+    /**
+     * Uses selectors generated at build time for the current state of the builder chain (see {@link com.sdl.selenium.web.precompiled.PrecompiledLocators}),
+     * so they are not generated again; like selectors generated at runtime, they are dropped on the first change of the chain.
+     * Does nothing when weblocator.cacheSelectors is disabled.
+     *
+     * @param xPath       same value as {@link #getXPath()} returns for current state
+     * @param cssSelector same value as {@link #getCssSelector()} returns for current state (null when css selector can't be generated)
+     */
+    public void usePrecompiled(String xPath, String cssSelector) {
+        CompiledSelector compiled = getCompiled();
+        if (compiled != null) {
+            compiled.xPath = xPath;
+            compiled.cssSelector = cssSelector;
+            compiled.cssCompiled = true;
         }
-        return addResultIndexToPath(returnPath);
     }
 
-    private String addResultIndexToPath(String xPath) {
-        if (hasResultIdx()) {
-            xPath = "(" + xPath + ")[" + getResultIdx() + "]";
+    /**
+     * @param stop builder where the container chain is broken (the owner of childNodes or of the title element), or null
+     * @return the newest stamp of all builders this selector is generated from
+     */
+    private long getChainStamp(XPathBuilder stop) {
+        long stamp = modStamp;
+        if (container != null && container.getPathBuilder() != stop) {
+            stamp = Math.max(stamp, container.getPathBuilder().getChainStamp(stop));
         }
-        return xPath;
+        if (hasChildNodes()) {
+            for (WebLocator child : childNodes) {
+                stamp = Math.max(stamp, child.getPathBuilder().getChainStamp(this));
+            }
+        }
+        WebLocator titleEl = templateTitle.get("title");
+        if (titleEl != null) {
+            stamp = Math.max(stamp, titleEl.getPathBuilder().getChainStamp(this));
+        }
+        return stamp;
+    }
+
+    private CompiledSelector getCompiled() {
+        if (!WebLocatorConfig.isCacheSelectors()) {
+            return null;
+        }
+        long stamp = getChainStamp(null);
+        boolean ie = WebDriverConfig.isIE();
+        boolean generateCssSelector = WebLocatorConfig.isGenerateCssSelector();
+        boolean optimizeXPath = WebLocatorConfig.isOptimizeXPath();
+        CompiledSelector compiled = this.compiled;
+        if (compiled == null || compiled.stamp != stamp || compiled.ie != ie || compiled.generateCssSelector != generateCssSelector
+                || compiled.optimizeXPath != optimizeXPath) {
+            compiled = new CompiledSelector(stamp, ie, generateCssSelector, optimizeXPath);
+            this.compiled = compiled;
+        }
+        return compiled;
     }
 
     @Override
@@ -1178,35 +1672,121 @@ public class XPathBuilder implements Cloneable {
     }
 
     protected String getLabelPath() {
-        if (searchLabelType.size() == 0) {
-            searchLabelType.add(SearchType.EQUALS);
-        }
-        SearchType[] st = searchLabelType.stream().toArray(SearchType[]::new);
+        SearchType[] st = searchLabelType.isEmpty() ? new SearchType[]{SearchType.EQUALS} : searchLabelType.stream().toArray(SearchType[]::new);
         return new WebLocator().setText(getLabel(), st).setTag(getLabelTag()).getXPath();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Object clone() throws CloneNotSupportedException {
         XPathBuilder builder = (XPathBuilder) super.clone();
 
-        LinkedHashMap<String, String> templates = (LinkedHashMap<String, String>) builder.templates;
-        LinkedHashMap<String, WebLocator> templateTitle = (LinkedHashMap<String, WebLocator>) builder.templateTitle;
-        LinkedHashMap<String, String[]> templatesValues = (LinkedHashMap<String, String[]>) builder.templatesValues;
-        LinkedHashMap<String, String> elPathSuffix = (LinkedHashMap<String, String>) builder.elPathSuffix;
+        // search types are changed in place by setters
+        builder.defaultSearchTextType = new ArrayList<>(defaultSearchTextType);
+        builder.searchTextType = new ArrayList<>(searchTextType);
+        builder.searchTitleType = new ArrayList<>(searchTitleType);
+        builder.searchLabelType = new ArrayList<>(searchLabelType);
 
-        builder.templates = (Map<String, String>) templates.clone();
-        builder.templatesValues = (Map<String, String[]>) templatesValues.clone();
-        builder.elPathSuffix = (Map<String, String>) elPathSuffix.clone();
+        // templates are immutable and can be shared, other maps are copied only when they have values
+        builder.templatesValues = copyOf(templatesValues);
+        builder.elPathSuffix = copyOf(elPathSuffix);
+        builder.attribute = copyOf(attribute);
 
-        builder.templateTitle = (Map<String, WebLocator>) templateTitle.clone();
+        builder.templateTitle = copyOf(templateTitle);
         WebLocator titleTplEl = templateTitle.get("title");
         if (titleTplEl != null) {
             XPathBuilder titleTplElBuilder = (XPathBuilder) titleTplEl.getPathBuilder().clone();
             WebLocator titleTplElCloned = new WebLocator().setPathBuilder(titleTplElBuilder);
             builder.templateTitle.put("title", titleTplElCloned);
         }
+        builder.compiled = null;
+        builder.markDirty();
 
         return builder;
     }
+
+    /**
+     * Predicates of one xpath step: each added predicate is written directly (joined with " and ") in the path being generated.
+     */
+    private static final class Predicates extends AbstractList<String> {
+        private final StringBuilder path;
+        private int size;
+
+        private Predicates(StringBuilder path) {
+            this.path = path;
+        }
+
+        /**
+         * @return path, ready to append the next predicate
+         */
+        private StringBuilder next() {
+            if (size++ > 0) {
+                path.append(" and ");
+            }
+            return path;
+        }
+
+        /**
+         * Adds template only when it generates something
+         */
+        private void addTemplate(Templates.Template template, Object... arguments) {
+            int mark = path.length();
+            int start = next().length();
+            template.appendTo(path, arguments);
+            if (path.length() == start) {
+                path.setLength(mark);
+                size--;
+            }
+        }
+
+        @Override
+        public boolean add(String predicate) {
+            next().append(predicate == null ? "" : predicate);
+            return true;
+        }
+
+        @Override
+        public void add(int index, String predicate) {
+            if (index != size) {
+                throw new UnsupportedOperationException("predicates can only be appended");
+            }
+            add(predicate);
+        }
+
+        @Override
+        public String get(int index) {
+            throw new UnsupportedOperationException("predicates are written directly in path");
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static <K, V> Map<K, V> copyOf(Map<K, V> map) {
+        return map.isEmpty() ? Collections.emptyMap() : new LinkedHashMap<>(map);
+    }
+
+    /**
+     * Selectors compiled for one state (stamp) of the builder chain; a new instance is created when the chain changes.
+     */
+    private static final class CompiledSelector {
+        private final long stamp;
+        private final boolean ie;
+        private final boolean generateCssSelector;
+        private final boolean optimizeXPath;
+        private volatile String xPath;
+        private volatile String cssSelector;
+        private volatile boolean cssCompiled;
+        private volatile By selector;
+        private volatile By relativeSelector;
+        private volatile boolean relativeCompiled;
+
+        private CompiledSelector(long stamp, boolean ie, boolean generateCssSelector, boolean optimizeXPath) {
+            this.stamp = stamp;
+            this.ie = ie;
+            this.generateCssSelector = generateCssSelector;
+            this.optimizeXPath = optimizeXPath;
+        }
+    }
 }
\ No newline at end of file
@@ -22,6 +22,6 @@ public class CheckBox extends WebLocator implements ICheck {
 
     @Override
     public boolean isSelected() {
-        return ready() && executor.isSelected(this);
+        return ready() && getExecutor().isSelected(this);
     }
 }
\ No newline at end of file
@@ -0,0 +1,275 @@
+package com.sdl.selenium.web.form;
+
+import com.google.common.base.Strings;
+import com.sdl.selenium.web.ElementSnapshot;
+import com.sdl.selenium.web.IWebLocator;
+import com.sdl.selenium.web.WebLocator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Fills many fields of a form with one script, instead of finding, clearing and typing in each field.
+ * <p>In Java write this:</p>
+ * <pre>{@code
+ * List<FormBatch.Outcome> outcomes = new FormBatch()
+ *         .setValue(firstName, "John")
+ *         .check(agree, true)
+ *         .select(country, "Romania")
+ *         .type(search, "Bucharest")
+ *         .apply();
+ * }</pre>
+ * <p>The script sets text fields with setValue of ExtJS component when there is one, otherwise with the value setter and
+ * input, keyup, change and blur events; selects options of native select by text (and refreshes bootstrap selectpicker);
+ * clicks check boxes that are not in the wanted state.
+ * Fields the script can't fill (not found, disabled, ExtJS or bootstrap combos, not an input) and fields added with
+ * {@link #type(ITextField, String)} are filled after the script with their own setValue, select or click,
+ * in the order they were added.</p>
+ */
+@Slf4j
+public class FormBatch {
+    /**
+     * Argument: list of fields {selector, css, visibility, kind (text, check or select), value, checked}.
+     * Returns for each field null when it was filled, or why it was not.
+     */
+    static final String SCRIPT = "var fields = arguments[0], results = [];\n" + ElementSnapshot.IS_DISPLAYED +
+            "function fire(e, name) { var ev = document.createEvent('HTMLEvents'); ev.initEvent(name, true, true); e.dispatchEvent(ev); }\n" +
+            "function fill(f) {\n" +
+            "  var e = f.css ? document.querySelector(f.selector) : document.evaluate(f.selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;\n" +
+            "  if (!e || (f.visibility && !isDisplayed(e))) { return 'not found'; }\n" +
+            "  if (e.disabled || e.readOnly) { return 'disabled or read only'; }\n" +
+            "  var tag = e.tagName.toLowerCase();\n" +
+            "  if (f.kind === 'check') {\n" +
+            "    if (tag !== 'input') { return 'not an input'; }\n" +
+            "    if (!!e.checked !== f.checked) { e.click(); }\n" +
+            "    return !!e.checked === f.checked ? null : 'not changed by click';\n" +
+            "  }\n" +
+            "  if (f.kind === 'select') {\n" +
+            "    if (tag !== 'select') { return 'not a select'; }\n" +
+            "    for (var i = 0; i < e.options.length; i++) {\n" +
+            "      if ((e.options[i].text || '').replace(/\\s+/g, ' ').trim() === f.value) {\n" +
+            "        e.selectedIndex = i; fire(e, 'input'); fire(e, 'change');\n" +
+            "        if (window.jQuery && jQuery.fn.selectpicker) { jQuery(e).selectpicker('refresh'); }\n" +
+            "        return null;\n" +
+            "      }\n" +
+            "    }\n" +
+            "    return 'option not found';\n" +
+            "  }\n" +
+            "  if ((tag !== 'input' && tag !== 'textarea') || e.type === 'file') { return 'not a text input'; }\n" +
+            // ExtJS 3 input has the id of component, ExtJS 4 and 6 <component id>-inputEl
+            "  var cmp = window.Ext && Ext.getCmp && e.id ? Ext.getCmp(e.id.replace(/-inputEl$/, '')) : null;\n" +
+            "  if (cmp && cmp.setValue) { cmp.setValue(f.value); return null; }\n" +
+            "  if (e.focus) { e.focus(); }\n" +
+            "  var property = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(e), 'value');\n" +
+            "  if (property && property.set) { property.set.call(e, f.value); } else { e.value = f.value; }\n" +
+            "  fire(e, 'input'); fire(e, 'keyup'); fire(e, 'change');\n" +
+            "  if (e.blur) { e.blur(); }\n" +
+            "  return e.value === f.value ? null : 'value not set';\n" +
+            "}\n" +
+            "for (var i = 0; i < fields.length; i++) {\n" +
+            "  try { results.push(fill(fields[i])); } catch (err) { results.push('error: ' + err.message); }\n" +
+            "}\n" +
+            "return results;";
+
+    private final List<Field> fields = new ArrayList<>();
+
+    /**
+     * @param field text field; ExtJS combos (text fields that are also {@link ICombo}) are set with their own setValue
+     * @param value value
+     * @return this batch
+     */
+    public FormBatch setValue(ITextField field, String value) {
+        Map<String, Object> script = field instanceof ICombo ? null : script(field, "text");
+        if (script != null) {
+            script.put("value", value);
+        }
+        fields.add(new Field(field, value, script, () -> field.setValue(value)));
+        return this;
+    }
+
+    /**
+     * Field that needs key events (eg. autocomplete) is always filled with its own setValue, after the script.
+     *
+     * @param field text field
+     * @param value value
+     * @return this batch
+     */
+    public FormBatch type(ITextField field, String value) {
+        fields.add(new Field(field, value, null, () -> field.setValue(value)));
+        return this;
+    }
+
+    /**
+     * @param field   check box
+     * @param checked wanted state: it is clicked only when it has other state
+     * @return this batch
+     */
+    public FormBatch check(ICheck field, boolean checked) {
+        Map<String, Object> script = script(field, "check");
+        if (script != null) {
+            script.put("checked", checked);
+        }
+        fields.add(new Field(field, String.valueOf(checked), script, () -> field.isSelected() == checked || field.click()));
+        return this;
+    }
+
+    /**
+     * @param field combo: native select is set by script, other combos with their own select
+     * @param value text of option
+     * @return this batch
+     */
+    public FormBatch select(ICombo field, String value) {
+        Map<String, Object> script = script(field, "select");
+        if (script != null) {
+            script.put("value", value);
+        }
+        fields.add(new Field(field, value, script, () -> field.select(value)));
+        return this;
+    }
+
+    public int size() {
+        return fields.size();
+    }
+
+    /**
+     * Fills all fields: first with one script, then the fields that need it with driver.
+     *
+     * @return outcome for each field, in the order fields were added
+     */
+    public List<Outcome> apply() {
+        List<Map<String, Object>> scripts = new ArrayList<>();
+        for (Field field : fields) {
+            if (field.script != null) {
+                scripts.add(field.script);
+            }
+        }
+        List<?> results = Collections.emptyList();
+        if (!scripts.isEmpty()) {
+            try {
+                Object response = WebLocator.getExecutor().executeScript(SCRIPT, scripts);
+                results = response instanceof List && ((List<?>) response).size() == scripts.size() ? (List<?>) response : null;
+            } catch (WebDriverException e) {
+                log.warn("Form script failed, fields are filled with driver: {}", e.getMessage());
+                results = null;
+            }
+        }
+        Outcome[] outcomes = new Outcome[fields.size()];
+        String[] reasons = new String[fields.size()];
+        int index = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            if (field.script != null) {
+                Object result = results == null ? "script failed" : results.get(index++);
+                if (result == null) {
+                    outcomes[i] = new Outcome(field.field, field.value, Mode.SCRIPT, true, null);
+                } else {
+                    reasons[i] = String.valueOf(result);
+                }
+            } else {
+                reasons[i] = "filled with driver";
+            }
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (outcomes[i] == null) {
+                outcomes[i] = fields.get(i).fill(reasons[i]);
+            }
+        }
+        List<Outcome> list = Arrays.asList(outcomes);
+        log.info("Form filled: {} fields with script, {} with driver, {} failed", count(list, Mode.SCRIPT, true),
+                count(list, Mode.DRIVER, true), count(list, null, false));
+        return list;
+    }
+
+    private static long count(List<Outcome> outcomes, Mode mode, boolean success) {
+        return outcomes.stream().filter(o -> o.isSuccess() == success && (mode == null || o.getMode() == mode)).count();
+    }
+
+    /**
+     * @return arguments of script for field, null when field can't be found by script
+     */
+    private static Map<String, Object> script(IWebLocator field, String kind) {
+        if (!(field instanceof WebLocator)) {
+            return null;
+        }
+        WebLocator el = (WebLocator) field;
+        String css = el.getCssSelector();
+        boolean isCss = !Strings.isNullOrEmpty(css);
+        Map<String, Object> script = new HashMap<>();
+        script.put("selector", isCss ? css : el.getXPath());
+        script.put("css", isCss);
+        script.put("visibility", el.getPathBuilder().isVisibility());
+        script.put("kind", kind);
+        return script;
+    }
+
+    public enum Mode {
+        /**
+         * filled by script
+         */
+        SCRIPT,
+        /**
+         * filled with setValue, select or click of the field
+         */
+        DRIVER
+    }
+
+    @Getter
+    public static final class Outcome {
+        private final IWebLocator field;
+        private final String value;
+        private final Mode mode;
+        private final boolean success;
+        /**
+         * why field was not filled by script, or error of driver
+         */
+        private final String message;
+
+        private Outcome(IWebLocator field, String value, Mode mode, boolean success, String message) {
+            this.field = field;
+            this.value = value;
+            this.mode = mode;
+            this.success = success;
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return field + ": " + mode + (success ? "" : " failed") + (message == null ? "" : " (" + message + ")");
+        }
+    }
+
+    private static final class Field {
+        private final IWebLocator field;
+        private final String value;
+        private final Map<String, Object> script;
+        private final Callable<Boolean> fill;
+
+        private Field(IWebLocator field, String value, Map<String, Object> script, Callable<Boolean> fill) {
+            this.field = field;
+            this.value = value;
+            this.script = script;
+            this.fill = fill;
+        }
+
+        /**
+         * @param reason why field is not filled by script
+         */
+        private Outcome fill(String reason) {
+            try {
+                boolean success = fill.call();
+                return new Outcome(field, value, Mode.DRIVER, success, reason);
+            } catch (Exception | AssertionError e) {
+                log.warn("Could not fill {}: {}", field, e.getMessage());
+                return new Outcome(field, value, Mode.DRIVER, false, reason + "; " + e.getMessage());
+            }
+        }
+    }
+}
@@ -2,9 +2,7 @@ package com.sdl.selenium.web.form;
 
 import com.sdl.selenium.web.SearchType;
 import com.sdl.selenium.web.WebLocator;
-import org.openqa.selenium.WebElement;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class MultipleSelect extends ComboBox {
@@ -44,13 +42,6 @@ public class MultipleSelect extends ComboBox {
      * @return if return null, then component is not ready
      */
     public List<String> getValues() {
-        List<String> list = null;
-        if (ready()) {
-            list = new ArrayList<>();
-            for (WebElement element : findElements()) {
-                list.add(element.getText());
-            }
-        }
-        return list;
+        return ready() ? getTexts() : null;
     }
 }
\ No newline at end of file
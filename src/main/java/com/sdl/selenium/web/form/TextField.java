@@ -47,11 +47,11 @@ public class TextField extends WebLocator implements ITextField {
 
     public boolean setValue(String value) {
         assertReady();
-        return executor.setValue(this, value);
+        return getExecutor().setValue(this, value);
     }
 
     public String getValue() {
         assertReady();
-        return executor.getValue(this);
+        return getExecutor().getValue(this);
     }
 }
\ No newline at end of file
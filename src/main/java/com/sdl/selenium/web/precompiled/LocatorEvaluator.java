@@ -0,0 +1,367 @@
+package com.sdl.selenium.web.precompiled;
+
+import com.sdl.selenium.web.WebLocatorAbstractBuilder;
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.ParameterizedTypeTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates at build time the initializer of a locator field: constructors and builder methods of Testy classes
+ * are called by reflection, with arguments that are literals, constants, enum values or other evaluated fields.
+ * <p>Processors run before javac resolves the names used in initializers, so names are resolved here with the imports
+ * of the source file and methods are chosen by the values of the arguments.</p>
+ */
+final class LocatorEvaluator {
+    /**
+     * Only Testy classes are created or called (classes of the project being compiled can't be loaded anyway)
+     */
+    private static final String PACKAGE = "com.sdl.selenium.";
+
+    private final Elements elements;
+    private final TypeElement type;
+    private final CompilationUnitTree unit;
+    /**
+     * fields of the page object evaluated so far
+     */
+    private final Map<String, Object> fields;
+
+    LocatorEvaluator(Elements elements, TypeElement type, CompilationUnitTree unit, Map<String, Object> fields) {
+        this.elements = elements;
+        this.type = type;
+        this.unit = unit;
+        this.fields = fields;
+    }
+
+    /**
+     * @param tree expression
+     * @return value of the expression
+     * @throws NotStaticException when expression depends on runtime state (this, variables, methods of the project...)
+     */
+    Object evaluate(ExpressionTree tree) throws NotStaticException {
+        switch (tree.getKind()) {
+            case STRING_LITERAL:
+            case INT_LITERAL:
+            case LONG_LITERAL:
+            case BOOLEAN_LITERAL:
+            case CHAR_LITERAL:
+            case NULL_LITERAL:
+                return ((LiteralTree) tree).getValue();
+            case PARENTHESIZED:
+                return evaluate(((ParenthesizedTree) tree).getExpression());
+            case PLUS:
+                BinaryTree plus = (BinaryTree) tree;
+                Object left = evaluate(plus.getLeftOperand());
+                Object right = evaluate(plus.getRightOperand());
+                if (left instanceof String || right instanceof String) {
+                    return String.valueOf(left) + right;
+                } else if (left instanceof Integer && right instanceof Integer) {
+                    return (Integer) left + (Integer) right;
+                }
+                throw new NotStaticException(tree);
+            case IDENTIFIER:
+                return variable(((IdentifierTree) tree).getName().toString(), tree);
+            case MEMBER_SELECT:
+                return memberSelect((MemberSelectTree) tree);
+            case NEW_CLASS:
+                return newInstance((NewClassTree) tree);
+            case METHOD_INVOCATION:
+                return invoke((MethodInvocationTree) tree);
+            default:
+                throw new NotStaticException(tree);
+        }
+    }
+
+    /**
+     * @param name simple name: evaluated field, constant of the page object or static import
+     */
+    private Object variable(String name, Tree tree) throws NotStaticException {
+        if (fields.containsKey(name)) {
+            return fields.get(name);
+        }
+        VariableElement field = field(type, name);
+        if (field != null) {
+            return constant(field, tree);
+        }
+        for (ImportTree importTree : unit.getImports()) {
+            if (importTree.isStatic()) {
+                MemberSelectTree imported = (MemberSelectTree) importTree.getQualifiedIdentifier();
+                String member = imported.getIdentifier().toString();
+                TypeElement importedType = elements.getTypeElement(imported.getExpression().toString());
+                if ((member.equals(name) || "*".equals(member)) && importedType != null && field(importedType, name) != null) {
+                    return constant(field(importedType, name), tree);
+                }
+            }
+        }
+        throw new NotStaticException(tree);
+    }
+
+    private Object memberSelect(MemberSelectTree tree) throws NotStaticException {
+        String name = tree.getIdentifier().toString();
+        if ("this".equals(tree.getExpression().toString())) {
+            return variable(name, tree);
+        }
+        VariableElement field = field(resolveType(tree.getExpression()), name);
+        if (field == null) {
+            throw new NotStaticException(tree);
+        }
+        return constant(field, tree);
+    }
+
+    private static VariableElement field(TypeElement type, String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object constant(VariableElement field, Tree tree) throws NotStaticException {
+        if (field.getKind() == ElementKind.ENUM_CONSTANT) {
+            Class enumType = load((TypeElement) field.getEnclosingElement(), tree);
+            return Enum.valueOf(enumType, field.getSimpleName().toString());
+        }
+        Object value = field.getConstantValue();
+        if (value == null) {
+            throw new NotStaticException(tree);
+        }
+        return value;
+    }
+
+    /**
+     * @param tree type name: simple (found with imports, in same package or java.lang), qualified or parameterized
+     */
+    private TypeElement resolveType(Tree tree) throws NotStaticException {
+        if (tree.getKind() == Tree.Kind.PARAMETERIZED_TYPE) {
+            return resolveType(((ParameterizedTypeTree) tree).getType());
+        }
+        String name = tree.toString();
+        int dot = name.indexOf('.');
+        String simpleName = dot == -1 ? name : name.substring(0, dot);
+        String nested = name.substring(simpleName.length());
+        List<String> candidates = new ArrayList<>();
+        for (ImportTree importTree : unit.getImports()) {
+            String imported = importTree.getQualifiedIdentifier().toString();
+            if (!importTree.isStatic() && imported.endsWith("." + simpleName)) {
+                candidates.add(imported + nested);
+            }
+        }
+        candidates.add(elements.getPackageOf(type).getQualifiedName() + "." + name);
+        for (ImportTree importTree : unit.getImports()) {
+            String imported = importTree.getQualifiedIdentifier().toString();
+            if (!importTree.isStatic() && imported.endsWith(".*")) {
+                candidates.add(imported.substring(0, imported.length() - 1) + name);
+            }
+        }
+        candidates.add("java.lang." + name);
+        candidates.add(name);
+        for (String candidate : candidates) {
+            TypeElement element = elements.getTypeElement(candidate);
+            if (element != null) {
+                return element;
+            }
+        }
+        throw new NotStaticException(tree);
+    }
+
+    private Object newInstance(NewClassTree tree) throws NotStaticException {
+        if (tree.getClassBody() != null || tree.getEnclosingExpression() != null) {
+            throw new NotStaticException(tree);
+        }
+        Class<?> newType = load(resolveType(tree.getIdentifier()), tree);
+        Object[] values = arguments(tree.getArguments());
+        Constructor<?> constructor = choose(Arrays.asList(newType.getConstructors()), values, tree);
+        try {
+            return constructor.newInstance(convert(constructor, values));
+        } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
+            throw new NotStaticException(tree, e);
+        }
+    }
+
+    private Object invoke(MethodInvocationTree tree) throws NotStaticException {
+        if (tree.getMethodSelect().getKind() != Tree.Kind.MEMBER_SELECT) {
+            throw new NotStaticException(tree);
+        }
+        MemberSelectTree select = (MemberSelectTree) tree.getMethodSelect();
+        Object target = evaluate(select.getExpression());
+        if (!(target instanceof WebLocatorAbstractBuilder)) {
+            throw new NotStaticException(tree);
+        }
+        Object[] values = arguments(tree.getArguments());
+        List<Method> methods = new ArrayList<>();
+        for (Method method : target.getClass().getMethods()) {
+            // only builder methods: they return a locator and don't need a browser
+            if (method.getName().equals(select.getIdentifier().toString()) && !Modifier.isStatic(method.getModifiers())
+                    && !method.isBridge() && method.getDeclaringClass().getName().startsWith(PACKAGE)
+                    && WebLocatorAbstractBuilder.class.isAssignableFrom(method.getReturnType())) {
+                methods.add(method);
+            }
+        }
+        Method method = choose(methods, values, tree);
+        try {
+            return method.invoke(target, convert(method, values));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new NotStaticException(tree, e);
+        }
+    }
+
+    private Object[] arguments(List<? extends ExpressionTree> expressions) throws NotStaticException {
+        Object[] values = new Object[expressions.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = evaluate(expressions.get(i));
+        }
+        return values;
+    }
+
+    /**
+     * Like javac: methods applicable without varargs are preferred, then the most specific one.
+     */
+    private static <T extends Executable> T choose(List<T> executables, Object[] values, Tree tree) throws NotStaticException {
+        for (boolean varArgs : new boolean[]{false, true}) {
+            T chosen = null;
+            for (T executable : executables) {
+                if (!isApplicable(executable, values, varArgs)) {
+                    continue;
+                }
+                if (chosen == null || isMoreSpecific(executable, chosen)) {
+                    chosen = executable;
+                } else if (!isMoreSpecific(chosen, executable)) {
+                    throw new NotStaticException(tree, new IllegalArgumentException("ambiguous call: " + chosen + ", " + executable));
+                }
+            }
+            if (chosen != null) {
+                return chosen;
+            }
+        }
+        throw new NotStaticException(tree);
+    }
+
+    private static boolean isApplicable(Executable executable, Object[] values, boolean varArgs) {
+        Class<?>[] types = executable.getParameterTypes();
+        int last = types.length - 1;
+        if (varArgs ? !executable.isVarArgs() || values.length < last : types.length != values.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            Class<?> parameterType = varArgs && i >= last ? types[last].getComponentType() : types[i];
+            if (!isAssignable(parameterType, values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMoreSpecific(Executable executable, Executable other) {
+        Class<?>[] types = executable.getParameterTypes();
+        Class<?>[] otherTypes = other.getParameterTypes();
+        if (types.length != otherTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (!otherTypes[i].isAssignableFrom(types[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAssignable(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        } else if (type == int.class) {
+            return value instanceof Integer;
+        } else if (type == long.class) {
+            return value instanceof Long || value instanceof Integer;
+        } else if (type == double.class) {
+            return value instanceof Number;
+        } else if (type == boolean.class) {
+            return value instanceof Boolean;
+        } else if (type == char.class) {
+            return value instanceof Character;
+        }
+        return type.isInstance(value);
+    }
+
+    /**
+     * @return arguments for reflection: widened numbers and varargs collected in an array
+     */
+    private static Object[] convert(Executable executable, Object[] values) {
+        Class<?>[] types = executable.getParameterTypes();
+        if (!executable.isVarArgs() || isApplicable(executable, values, false)) {
+            Object[] arguments = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                arguments[i] = widen(types[i], values[i]);
+            }
+            return arguments;
+        }
+        int last = types.length - 1;
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < last; i++) {
+            arguments[i] = widen(types[i], values[i]);
+        }
+        Class<?> componentType = types[last].getComponentType();
+        Object rest = Array.newInstance(componentType, values.length - last);
+        for (int i = last; i < values.length; i++) {
+            Array.set(rest, i - last, widen(componentType, values[i]));
+        }
+        arguments[last] = rest;
+        return arguments;
+    }
+
+    private static Object widen(Class<?> type, Object value) {
+        if (type == long.class) {
+            return ((Number) value).longValue();
+        } else if (type == double.class) {
+            return ((Number) value).doubleValue();
+        }
+        return value;
+    }
+
+    private Class<?> load(TypeElement element, Tree tree) throws NotStaticException {
+        String name = elements.getBinaryName(element).toString();
+        if (!name.startsWith(PACKAGE)) {
+            throw new NotStaticException(tree);
+        }
+        try {
+            return Class.forName(name, true, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new NotStaticException(tree, e);
+        }
+    }
+
+    static final class NotStaticException extends Exception {
+        NotStaticException(Tree tree) {
+            super(String.valueOf(tree));
+        }
+
+        NotStaticException(Tree tree, Throwable cause) {
+            super(tree + ": " + cause, cause);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sdl.selenium.web.precompiled;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object whose locator fields are generated at build time by {@link PrecompileLocatorsProcessor}
+ * into a class named like the page object with suffix {@value PrecompiledLocators#SUFFIX}.
+ * <p>Only <b>private final</b> fields with a static shape are generated: the initializer uses only literals, constants,
+ * enum values and other generated fields of same class (eg. as container), and the field is not changed later in the class.</p>
+ * <pre>
+ * &#064;PrecompileLocators
+ * public class LoginView {
+ *     private final WebLocator form = new WebLocator().setId("login");
+ *     private final TextField userName = new TextField(form, "User Name");
+ *
+ *     public LoginView() {
+ *         PrecompiledLocators.apply(this);
+ *     }
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface PrecompileLocators {
+}
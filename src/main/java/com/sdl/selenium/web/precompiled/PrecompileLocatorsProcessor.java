@@ -0,0 +1,251 @@
+package com.sdl.selenium.web.precompiled;
+
+import com.sdl.selenium.web.WebLocator;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates at build time the selectors of locator fields of classes annotated with {@link PrecompileLocators}
+ * (see {@link PrecompiledLocators} for using them at runtime).
+ * <p>Runs only in javac (it reads field initializers with the compiler tree api) and it is not registered as a service,
+ * add it to compiler plugin, next to the other processors used by the project (eg. lombok):</p>
+ * <pre>
+ * &lt;annotationProcessors&gt;
+ *     &lt;annotationProcessor&gt;com.sdl.selenium.web.precompiled.PrecompileLocatorsProcessor&lt;/annotationProcessor&gt;
+ *     &lt;annotationProcessor&gt;lombok.launch.AnnotationProcessorHider$AnnotationProcessor&lt;/annotationProcessor&gt;
+ * &lt;/annotationProcessors&gt;
+ * </pre>
+ * Selectors are generated with the webLocator.properties found in the compiler classpath.
+ */
+@SupportedAnnotationTypes("com.sdl.selenium.web.precompiled.PrecompileLocators")
+public class PrecompileLocatorsProcessor extends AbstractProcessor {
+    private Trees trees;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        try {
+            trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Locators are not precompiled, compiler is not javac: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (trees == null) {
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(PrecompileLocators.class))) {
+            Map<String, String[]> selectors = precompile(type);
+            try {
+                write(type, selectors);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can't write precompiled locators: " + e, type);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return xpath and css selector for each field with static shape
+     */
+    private Map<String, String[]> precompile(TypeElement type) {
+        TypeMirror webLocator = processingEnv.getElementUtils().getTypeElement(WebLocator.class.getName()).asType();
+        Set<String> changed = findChangedFields(type);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        LocatorEvaluator evaluator = new LocatorEvaluator(processingEnv.getElementUtils(), type, trees.getPath(type).getCompilationUnit(), fields);
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (!modifiers.contains(Modifier.PRIVATE) || !modifiers.contains(Modifier.FINAL) || changed.contains(field.getSimpleName().toString())
+                    || !processingEnv.getTypeUtils().isAssignable(field.asType(), webLocator)) {
+                continue;
+            }
+            VariableTree tree = (VariableTree) trees.getTree(field);
+            if (tree == null || tree.getInitializer() == null) {
+                continue;
+            }
+            try {
+                fields.put(field.getSimpleName().toString(), evaluator.evaluate(tree.getInitializer()));
+            } catch (LocatorEvaluator.NotStaticException | RuntimeException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Not precompiled: " + e.getMessage(), field);
+            }
+        }
+        // after all initializers, like at runtime after constructor
+        Map<String, String[]> selectors = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : fields.entrySet()) {
+            WebLocator locator = (WebLocator) entry.getValue();
+            selectors.put(entry.getKey(), new String[]{locator.getXPath(), locator.getCssSelector()});
+        }
+        return selectors;
+    }
+
+    /**
+     * Names are not resolved yet while processors run, so any name used like a field of the class is taken as that field.
+     *
+     * @return names of fields whose builder can be changed after initialization: receiver of a setter (set..., add..., remove..., markDirty)
+     * or argument of any method
+     */
+    private Set<String> findChangedFields(TypeElement type) {
+        Set<String> names = new HashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            names.add(field.getSimpleName().toString());
+        }
+        Set<String> changed = new HashSet<>();
+        new TreeScanner<Void, Void>() {
+            @Override
+            public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
+                ExpressionTree select = node.getMethodSelect();
+                if (select.getKind() == Tree.Kind.MEMBER_SELECT && isSetter(((MemberSelectTree) select).getIdentifier().toString())) {
+                    addReceiverField(((MemberSelectTree) select).getExpression());
+                }
+                for (ExpressionTree argument : node.getArguments()) {
+                    addField(argument);
+                }
+                return super.visitMethodInvocation(node, unused);
+            }
+
+            private void addReceiverField(Tree receiver) {
+                // field.setX(), field.getPathBuilder().setX(), this.field.setX()
+                while (receiver != null && !addField(receiver)) {
+                    if (receiver.getKind() == Tree.Kind.METHOD_INVOCATION) {
+                        receiver = ((MethodInvocationTree) receiver).getMethodSelect();
+                    } else if (receiver.getKind() == Tree.Kind.MEMBER_SELECT) {
+                        receiver = ((MemberSelectTree) receiver).getExpression();
+                    } else {
+                        receiver = null;
+                    }
+                }
+            }
+
+            private boolean addField(Tree tree) {
+                String name = null;
+                if (tree.getKind() == Tree.Kind.IDENTIFIER) {
+                    name = ((IdentifierTree) tree).getName().toString();
+                } else if (tree.getKind() == Tree.Kind.MEMBER_SELECT && "this".equals(((MemberSelectTree) tree).getExpression().toString())) {
+                    name = ((MemberSelectTree) tree).getIdentifier().toString();
+                }
+                if (name == null || !names.contains(name)) {
+                    return false;
+                }
+                changed.add(name);
+                return true;
+            }
+        }.scan(trees.getTree(type), null);
+        return changed;
+    }
+
+    private static boolean isSetter(String method) {
+        return method.startsWith("set") || method.startsWith("add") || method.startsWith("remove") || "markDirty".equals(method);
+    }
+
+    private void write(TypeElement type, Map<String, String[]> selectors) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        // Outer$Inner_Locators, so it is found from class name at runtime
+        String className = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + PrecompiledLocators.SUFFIX;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? className : packageName + "." + className, type);
+        try (Writer writer = file.openWriter()) {
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+            source.append("/**\n * Selectors of ").append(type.getQualifiedName()).append(" generated by ")
+                    .append(PrecompileLocatorsProcessor.class.getSimpleName()).append(", do not edit.\n */\n");
+            source.append("public final class ").append(className).append(" {\n");
+            source.append("    public static final String CONFIG = ").append(literal(PrecompiledLocators.configKey())).append(";\n");
+            StringBuilder rows = new StringBuilder();
+            for (Map.Entry<String, String[]> entry : selectors.entrySet()) {
+                String constant = constantName(entry.getKey());
+                String[] selector = entry.getValue();
+                source.append("    public static final String ").append(constant).append("_XPATH = ").append(literal(selector[0])).append(";\n");
+                source.append("    public static final String ").append(constant).append("_CSS = ").append(literal(selector[1])).append(";\n");
+                rows.append("            {").append(literal(entry.getKey())).append(", ").append(constant).append("_XPATH, ").append(constant).append("_CSS},\n");
+            }
+            source.append("    public static final String[][] SELECTORS = {\n").append(rows).append("    };\n\n");
+            source.append("    private ").append(className).append("() {\n    }\n}\n");
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * @return userName: USER_NAME
+     */
+    private static String constantName(String field) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(field.charAt(i - 1))) {
+                name.append('_');
+            }
+            name.append(Character.toUpperCase(c));
+        }
+        return name.toString();
+    }
+
+    private static String literal(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < ' ' || c > '~') {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
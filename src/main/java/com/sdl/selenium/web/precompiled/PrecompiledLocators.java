@@ -0,0 +1,129 @@
+package com.sdl.selenium.web.precompiled;
+
+import com.sdl.selenium.utils.config.WebDriverConfig;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.XPathBuilder;
+import com.sdl.selenium.web.utils.internationalization.InternationalizationUtils;
+import com.sdl.selenium.web.utils.internationalization.InternationalizedTextRetriever;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uses selectors generated at build time by {@link PrecompileLocatorsProcessor} for the fields of a page object,
+ * so {@link XPathBuilder} doesn't generate them at runtime.
+ * <p>Selectors are used only when the generation config at runtime is the same as at build time (see {@link #configKey()}),
+ * eg. when weblocator.generateCssSelector is changed in webLocator.properties of the tests only, they are generated at runtime.
+ * Internationalized tests (placeholder, alt and title translated to another language) always generate them at runtime.</p>
+ * <p>Page object and its locators are still created at runtime: only the first generation of each selector is skipped.</p>
+ */
+@Slf4j
+public final class PrecompiledLocators {
+    /**
+     * Suffix of the class generated for a page object
+     */
+    public static final String SUFFIX = "_Locators";
+
+    private static final Generated NONE = new Generated(null, new String[0][]);
+    private static final Map<Class<?>, Generated> GENERATED = new ConcurrentHashMap<>();
+
+    private PrecompiledLocators() {
+    }
+
+    /**
+     * Call at the end of page object constructor.
+     *
+     * @param page page object annotated with {@link PrecompileLocators} (or having a super class annotated)
+     * @return number of locators that use generated selectors
+     */
+    public static int apply(Object page) {
+        if (!WebLocatorConfig.isCacheSelectors()) {
+            return 0;
+        }
+        String configKey = null;
+        int count = 0;
+        for (Class<?> type = page.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            Generated generated = GENERATED.computeIfAbsent(type, PrecompiledLocators::load);
+            if (generated == NONE) {
+                continue;
+            }
+            if (configKey == null) {
+                configKey = configKey();
+            }
+            if (!configKey.equals(generated.config)) {
+                log.debug("Selectors of {} are generated at runtime: config at build time was '{}'", type.getName(), generated.config);
+                continue;
+            }
+            for (String[] selector : generated.selectors) {
+                try {
+                    Field field = type.getDeclaredField(selector[0]);
+                    field.setAccessible(true);
+                    WebLocator locator = (WebLocator) field.get(page);
+                    if (locator != null) {
+                        locator.getPathBuilder().usePrecompiled(selector[1], selector[2]);
+                        count++;
+                    }
+                } catch (NoSuchFieldException | IllegalAccessException e) {
+                    log.warn("Generated selectors of {} don't match the class: {}", type.getName(), e.getMessage());
+                }
+            }
+        }
+        return count;
+    }
+
+    private static Generated load(Class<?> type) {
+        Class<?> generated;
+        try {
+            generated = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return NONE;
+        }
+        try {
+            return new Generated((String) generated.getField("CONFIG").get(null), (String[][]) generated.getField("SELECTORS").get(null));
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            log.warn("{} is not generated by PrecompileLocatorsProcessor: {}", generated.getName(), e.getMessage());
+            return NONE;
+        }
+    }
+
+    /**
+     * @return config values used while generating selectors; generated selectors are used only when this value is the same as at build time
+     */
+    public static String configKey() {
+        return "version=" + XPathBuilder.class.getPackage().getImplementationVersion() +
+                ", generateCssSelector=" + WebLocatorConfig.isGenerateCssSelector() +
+                ", optimizeXPath=" + WebLocatorConfig.isOptimizeXPath() +
+                ", searchTextType=" + WebLocatorConfig.getSearchTextType() +
+                ", labelPosition=" + WebLocatorConfig.getDefaultLabelPosition() +
+                ", ie=" + WebDriverConfig.isIE() +
+                ", language=" + language();
+    }
+
+    /**
+     * @return language that texts are translated to by {@link XPathBuilder#setAttribute(String, String, com.sdl.selenium.web.SearchType...)}, or "base"
+     */
+    private static String language() {
+        InternationalizedTextRetriever retriever = InternationalizationUtils.getInternationalizedTextRetriever();
+        String current = retriever.getCurrentLanguage();
+        if (!retriever.isInternationalizedTestsSuite() || current == null || current.equals(retriever.getBaseLanguage())) {
+            return "base";
+        }
+        return current;
+    }
+
+    private static final class Generated {
+        private final String config;
+        /**
+         * field name, xpath, css selector (or null)
+         */
+        private final String[][] selectors;
+
+        private Generated(String config, String[][] selectors) {
+            this.config = config;
+            this.selectors = selectors;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.sdl.selenium.web.utils;
+
+import com.sdl.selenium.utils.config.WebDriverConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Animation suppression for a driver: css transitions take 1ms and animations no time, ExtJS (Ext.enableFx) and
+ * jQuery (jQuery.fx.off) effects are disabled, and the sleeps that components do to wait for animations
+ * ({@link #sleep(long)}) are skipped while current page has the fast mode style.
+ * <p>Enabled for each driver created when weblocator.fastMode=true, or with:</p>
+ * <pre>{@code
+ * FastMode.enable(driver);
+ * }</pre>
+ * <p>Page is changed again after each navigation only for {@link EventFiringWebDriver}; for other drivers call
+ * {@link #apply(WebDriver)} after a new page is loaded. The style is looked for in page once after each navigation,
+ * window switch and action that can leave the page (click, submit, keys), see {@link #pageChanged(WebDriver)}; when a sleep
+ * finds a page without the style (animations were not disabled), it sleeps and applies fast mode to the page for next sleeps.</p>
+ * <p>Time saved by skipped sleeps, less the time of looking for the style, is counted for each thread (test),
+ * see {@link #getSavedMillis()}.</p>
+ */
+public final class FastMode {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FastMode.class);
+
+    /**
+     * Adds (once for each page) a style that makes transitions and animations end at once, and disables ExtJS and jQuery effects.
+     * Transitions take 1ms, not 0s: a transition of no time doesn't run, so transitionend would not be fired for code
+     * that waits for it; animations of no time still fire animationend.
+     */
+    static final String SCRIPT = "var d = document;\n" +
+            "if (!d.getElementById('testy-fast-mode')) {\n" +
+            "  var s = d.createElement('style');\n" +
+            "  s.id = 'testy-fast-mode';\n" +
+            "  s.textContent = '*, *::before, *::after { transition-duration: 1ms !important; transition-delay: 0s !important;" +
+            " animation-duration: 0s !important; animation-delay: 0s !important; scroll-behavior: auto !important; }';\n" +
+            "  (d.head || d.documentElement).appendChild(s);\n" +
+            "}\n" +
+            "if (window.Ext) { Ext.enableFx = false; }\n" +
+            "if (window.jQuery && jQuery.fx) { jQuery.fx.off = true; }\n" +
+            "return true;";
+
+    static final String RESTORE_SCRIPT = "var s = document.getElementById('testy-fast-mode');\n" +
+            "if (s) { s.parentNode.removeChild(s); }\n" +
+            "if (window.Ext) { Ext.enableFx = true; }\n" +
+            "if (window.jQuery && jQuery.fx) { jQuery.fx.off = false; }\n" +
+            "return true;";
+
+    static final String CHECK_SCRIPT = "return !!document.getElementById('testy-fast-mode');";
+
+    private static final Set<WebDriver> DRIVERS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    /**
+     * drivers whose current page is known to have the style, since last {@link #pageChanged(WebDriver)}
+     */
+    private static final Set<WebDriver> STYLED = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Listener LISTENER = new Listener();
+    private static final ThreadLocal<long[]> SAVED = ThreadLocal.withInitial(() -> new long[2]);
+    private static final AtomicLong TOTAL_SAVED = new AtomicLong();
+
+    private FastMode() {
+    }
+
+    /**
+     * Disables animations in current page of driver, and after each navigation when driver is {@link EventFiringWebDriver}.
+     *
+     * @param driver driver
+     */
+    public static void enable(WebDriver driver) {
+        if (DRIVERS.add(driver)) {
+            if (driver instanceof EventFiringWebDriver) {
+                ((EventFiringWebDriver) driver).register(LISTENER);
+            }
+            LOGGER.info("Fast mode enabled: animations are disabled and sleeps for animations are skipped");
+        }
+        if (driver instanceof EventFiringWebDriver) {
+            apply(driver);
+        } else {
+            // page may be left without notice (eg. blank page of a new driver), so next sleep looks for the style
+            run(driver, SCRIPT);
+        }
+    }
+
+    /**
+     * Animations are enabled again in current page, and sleeps for animations are done.
+     *
+     * @param driver driver
+     */
+    public static void disable(WebDriver driver) {
+        if (DRIVERS.remove(driver)) {
+            if (driver instanceof EventFiringWebDriver) {
+                ((EventFiringWebDriver) driver).unregister(LISTENER);
+            }
+            STYLED.remove(driver);
+            run(driver, RESTORE_SCRIPT);
+            LOGGER.info("Fast mode disabled");
+        }
+    }
+
+    /**
+     * @return true when fast mode is enabled for current driver ({@link WebDriverConfig#getDriver()})
+     */
+    public static boolean isActive() {
+        return isActive(WebDriverConfig.getDriver());
+    }
+
+    public static boolean isActive(WebDriver driver) {
+        return driver != null && DRIVERS.contains(driver);
+    }
+
+    /**
+     * Disables animations in current page of driver (eg. after navigation, or after switch to a new tab).
+     *
+     * @param driver driver
+     * @return true when page was changed
+     */
+    public static boolean apply(WebDriver driver) {
+        boolean applied = run(driver, SCRIPT);
+        if (applied && isActive(driver)) {
+            STYLED.add(driver);
+        }
+        return applied;
+    }
+
+    /**
+     * Next sleep looks for the style in page again: call it after an action that can load another page.
+     *
+     * @param driver driver
+     */
+    public static void pageChanged(WebDriver driver) {
+        if (driver != null) {
+            STYLED.remove(driver);
+        }
+    }
+
+    private static boolean run(WebDriver driver, String script) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script));
+        } catch (WebDriverException e) {
+            LOGGER.debug("Could not change animations of page: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Sleep that waits for an animation to end; it is skipped (and counted as saved time) when fast mode is active
+     * and current page has the fast mode style.
+     *
+     * @param milliseconds duration of animation
+     */
+    public static void sleep(long milliseconds) {
+        sleep(WebDriverConfig.getDriver(), milliseconds);
+    }
+
+    static void sleep(WebDriver driver, long milliseconds) {
+        if (milliseconds <= 0 || !isActive(driver)) {
+            Utils.sleep(milliseconds);
+            return;
+        }
+        long[] saved = SAVED.get();
+        boolean styled = STYLED.contains(driver);
+        if (!styled) {
+            long begin = System.nanoTime();
+            styled = isApplied(driver);
+            addSaved(saved, begin - System.nanoTime());
+        }
+        if (styled) {
+            addSaved(saved, TimeUnit.MILLISECONDS.toNanos(milliseconds));
+            saved[1]++;
+        } else {
+            Utils.sleep(milliseconds);
+        }
+    }
+
+    private static void addSaved(long[] saved, long nanos) {
+        saved[0] += nanos;
+        TOTAL_SAVED.addAndGet(nanos);
+    }
+
+    /**
+     * @return true when current page has the style; otherwise page is changed now, for next sleeps
+     */
+    private static boolean isApplied(WebDriver driver) {
+        if (run(driver, CHECK_SCRIPT)) {
+            STYLED.add(driver);
+            return true;
+        }
+        apply(driver);
+        return false;
+    }
+
+    /**
+     * @return milliseconds of sleeps skipped in current thread since last {@link #resetStatistics()}, less the time
+     * of looking for the style in page (can be negative)
+     */
+    public static long getSavedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(SAVED.get()[0]);
+    }
+
+    /**
+     * @return number of sleeps skipped in current thread since last {@link #resetStatistics()}
+     */
+    public static long getSkippedSleeps() {
+        return SAVED.get()[1];
+    }
+
+    /**
+     * @return milliseconds of sleeps skipped in all threads, less the time of looking for the style in page
+     */
+    public static long getTotalSavedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(TOTAL_SAVED.get());
+    }
+
+    /**
+     * Resets statistics of current thread, eg. before each test.
+     */
+    public static void resetStatistics() {
+        long[] saved = SAVED.get();
+        saved[0] = 0;
+        saved[1] = 0;
+    }
+
+    /**
+     * @return enabled driver that wraps given driver: listeners get the driver wrapped by {@link EventFiringWebDriver}
+     */
+    private static WebDriver enabled(WebDriver wrapped) {
+        synchronized (DRIVERS) {
+            for (WebDriver driver : DRIVERS) {
+                if (driver instanceof WrapsDriver && ((WrapsDriver) driver).getWrappedDriver() == wrapped) {
+                    return driver;
+                }
+            }
+        }
+        return wrapped;
+    }
+
+    private static final class Listener extends AbstractWebDriverEventListener {
+        @Override
+        public void afterNavigateTo(String url, WebDriver driver) {
+            apply(enabled(driver));
+        }
+
+        @Override
+        public void afterNavigateBack(WebDriver driver) {
+            apply(enabled(driver));
+        }
+
+        @Override
+        public void afterNavigateForward(WebDriver driver) {
+            apply(enabled(driver));
+        }
+
+        @Override
+        public void afterNavigateRefresh(WebDriver driver) {
+            apply(enabled(driver));
+        }
+
+        @Override
+        public void afterClickOn(WebElement element, WebDriver driver) {
+            pageChanged(enabled(driver));
+        }
+    }
+}
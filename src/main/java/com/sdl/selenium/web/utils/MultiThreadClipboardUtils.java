@@ -1,30 +1,49 @@
 package com.sdl.selenium.web.utils;
 
-import com.sdl.selenium.utils.config.WebDriverConfig;
+import com.sdl.selenium.utils.config.DriverContext;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
 import com.sdl.selenium.web.WebLocator;
 import org.openqa.selenium.Keys;
-import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.awt.*;
-import java.awt.datatransfer.ClipboardOwner;
 import java.awt.datatransfer.StringSelection;
-import java.awt.datatransfer.Transferable;
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
+ * Values copied for each WebDriver session, pasted one at a time through the system clipboard.
+ * <p>Threads of this JVM wait for the clipboard in the order they asked for it (fair lock); when tests of many JVMs
+ * paste on the same machine set weblocator.clipboard.crossJvmLock=true, so target/clipboardLock.lock is locked too.</p>
+ *
  * @author fratiu
  * @since 5/3/2016.
  */
 public class MultiThreadClipboardUtils {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiThreadClipboardUtils.class);
 
-    private static Map<String, String> clipboardContents = new HashMap<>();
+    private static Map<String, String> clipboardContents = new ConcurrentHashMap<>();
     private static final String LOCK_FILE_NAME = "target/clipboardLock.lock";
-    private static File lockFile = new File(LOCK_FILE_NAME);
+    private static final ReentrantLock LOCK = new ReentrantLock(true);
     private static long lockTimeoutMillis = 5000;
 
+    private static final AtomicLong acquisitions = new AtomicLong();
+    private static final AtomicLong contended = new AtomicLong();
+    private static final AtomicLong timeouts = new AtomicLong();
+    private static final AtomicLong waitNanos = new AtomicLong();
+    private static final AtomicLong maxWaitNanos = new AtomicLong();
+
     /***
      * Correlates the given String with the current WebDriver instance and stores it so it can be pasted somewhere else.
      * Note that at this point the value is not added to the system clipboard, but only stored in the application memory,
@@ -35,7 +54,7 @@ public class MultiThreadClipboardUtils {
      * @param value String to be copied
      */
     public static void copyString(String value) {
-        clipboardContents.put(((RemoteWebDriver) WebDriverConfig.getDriver()).getSessionId().toString(), value);
+        clipboardContents.put(session(), value);
     }
 
     /***
@@ -43,67 +62,202 @@ public class MultiThreadClipboardUtils {
      * then populates the system clipboard with the value previously stored for the current WebDriver instance
      * and finally sends the CTRL + v command to the specified locator
      * <p>
-     * {@link #copyString(String) copyString} method should have been called before
+     * {@link #copyString(String) copyString} method should have been called before; the value is removed after it is pasted
      *
      * @param locator WebLocator where the value from clipboard corresponding to the current WebDriver instance should be pasted
      */
     public static void pasteString(WebLocator locator) {
-        waitForUnlockedClipboard();
-        lockClipboard();
-        String value = clipboardContents.get(((RemoteWebDriver) WebDriverConfig.getDriver()).getSessionId().toString());
-        Toolkit.getDefaultToolkit().getSystemClipboard().setContents(new StringSelection(value),
-                new ClipboardOwner() {
-                    @Override
-                    public void lostOwnership(final java.awt.datatransfer.Clipboard clipboard, final Transferable contents) {
-                        // do nothing
-                    }
-                });
+        paste(locator, value -> Toolkit.getDefaultToolkit().getSystemClipboard().setContents(new StringSelection(value), (clipboard, contents) -> {
+            // do nothing
+        }));
+    }
+
+    static void paste(WebLocator locator, Consumer<String> clipboard) {
+        FileLock fileLock = lockClipboard(lockTimeoutMillis);
         try {
+            clipboard.accept(clipboardContents.remove(session()));
             locator.sendKeys(Keys.CONTROL, "v");
         } catch (Throwable throwable) {
-            // Making sure clipboard would not unexpectedly remain locked
-            unlockClipboard();
+            LOGGER.warn("Could not paste in {}: {}", locator, throwable.getMessage());
+        } finally {
+            unlockClipboard(fileLock);
         }
-        unlockClipboard();
     }
 
+    /**
+     * Waits until the system clipboard is not being used by another WebDriver instance.
+     *
+     * @param lockTimeoutMillis how long to wait
+     */
     public static void waitForUnlockedClipboard(long lockTimeoutMillis) {
-        long remainingMillis = lockTimeoutMillis;
-        long waitMillis = 50;
-        File lockFile = new File(LOCK_FILE_NAME);
-        while (lockFile.exists() && remainingMillis > 0) {
-            try {
-                Thread.sleep(waitMillis);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-            remainingMillis -= 50;
-        }
-        if (lockFile.exists()) {
-            throw new RuntimeException("Clipboard was not unlocked after " + lockTimeoutMillis / 1000 + " second(s).");
-        }
+        unlockClipboard(lockClipboard(lockTimeoutMillis));
     }
 
     public static void waitForUnlockedClipboard() {
         waitForUnlockedClipboard(lockTimeoutMillis);
     }
 
-    private static void lockClipboard() {
+    /**
+     * @return lock of file when weblocator.clipboard.crossJvmLock=true, else null
+     */
+    private static FileLock lockClipboard(long timeoutMillis) {
+        long begin = System.nanoTime();
+        boolean locked;
+        try {
+            // unlike tryLock(), it doesn't take the lock before threads already waiting (hasQueuedThreads)
+            locked = LOCK.tryLock(0, TimeUnit.MILLISECONDS);
+            if (!locked) {
+                contended.incrementAndGet();
+                locked = LOCK.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for clipboard", e);
+        }
+        if (!locked) {
+            throw timeout(timeoutMillis);
+        }
+        FileLock fileLock = null;
+        if (WebLocatorConfig.isClipboardCrossJvmLock()) {
+            try {
+                fileLock = lockFile(begin + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+            } catch (RuntimeException e) {
+                LOCK.unlock();
+                throw e;
+            }
+            if (fileLock == null) {
+                LOCK.unlock();
+                throw timeout(timeoutMillis);
+            }
+        }
+        long wait = System.nanoTime() - begin;
+        acquisitions.incrementAndGet();
+        waitNanos.addAndGet(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        return fileLock;
+    }
+
+    private static FileLock lockFile(long endNanos) {
+        File lockFile = new File(LOCK_FILE_NAME);
+        File parent = lockFile.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        FileChannel channel = null;
         try {
-            lockFile.createNewFile();
+            channel = new RandomAccessFile(lockFile, "rw").getChannel();
+            while (true) {
+                FileLock fileLock;
+                try {
+                    fileLock = channel.tryLock();
+                } catch (OverlappingFileLockException e) {
+                    // can't happen while LOCK is held, but never fail because of it
+                    fileLock = null;
+                }
+                if (fileLock != null) {
+                    return fileLock;
+                }
+                if (System.nanoTime() >= endNanos) {
+                    channel.close();
+                    return null;
+                }
+                Thread.sleep(50);
+            }
         } catch (IOException e) {
-            throw new RuntimeException("Failed to create clipboard lock");
+            close(channel);
+            throw new RuntimeException("Failed to lock clipboard with " + LOCK_FILE_NAME, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close(channel);
+            throw new RuntimeException("Interrupted while waiting for clipboard", e);
         }
     }
 
-    private static void unlockClipboard() {
-        boolean lockRemoved = !lockFile.exists() || lockFile.delete();
-        if (!lockRemoved) {
-            throw new RuntimeException("Failed to remove clipboard lock");
+    private static void unlockClipboard(FileLock fileLock) {
+        try {
+            if (fileLock != null) {
+                try {
+                    fileLock.release();
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to remove clipboard lock: {}", e.getMessage());
+                }
+                close(fileLock.channel());
+            }
+        } finally {
+            LOCK.unlock();
         }
     }
 
+    private static void close(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close {}: {}", LOCK_FILE_NAME, e.getMessage());
+            }
+        }
+    }
+
+    private static RuntimeException timeout(long timeoutMillis) {
+        timeouts.incrementAndGet();
+        return new RuntimeException("Clipboard was not unlocked after " + timeoutMillis / 1000 + " second(s).");
+    }
+
+    private static String session() {
+        return DriverContext.sessionKey(DriverContext.current().getDriver());
+    }
+
     public static void setLockTimeoutMillis(long lockTimeoutMillis) {
         MultiThreadClipboardUtils.lockTimeoutMillis = lockTimeoutMillis;
     }
+
+    /**
+     * @return number of times clipboard was taken
+     */
+    public static long getAcquisitions() {
+        return acquisitions.get();
+    }
+
+    /**
+     * @return number of times clipboard was used by another thread and caller had to wait
+     */
+    public static long getContended() {
+        return contended.get();
+    }
+
+    /**
+     * @return number of times clipboard was not free before timeout
+     */
+    public static long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public static long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+
+    public static long getAverageWaitMillis() {
+        long count = acquisitions.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitNanos.get() / count);
+    }
+
+    public static long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    public static void resetStatistics() {
+        acquisitions.set(0);
+        contended.set(0);
+        timeouts.set(0);
+        waitNanos.set(0);
+        maxWaitNanos.set(0);
+    }
+
+    /**
+     * @return contention of clipboard, eg. to log after a parallel run
+     */
+    public static String getStatistics() {
+        return "Clipboard{acquisitions=" + acquisitions + ", contended=" + contended + ", timeouts=" + timeouts +
+                ", totalWait=" + getTotalWaitMillis() + "ms, averageWait=" + getAverageWaitMillis() + "ms, maxWait=" + getMaxWaitMillis() + "ms}";
+    }
 }
@@ -0,0 +1,512 @@
+package com.sdl.selenium.web.xpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Node of the XPath 1.0 syntax tree built by {@link XPathParser}.
+ * <p>{@link #toString()} renders the node in canonical form (abbreviated syntax, minimal parentheses),
+ * two nodes are the same expression when they render the same.</p>
+ */
+abstract class XPathNode {
+
+    enum Type {
+        BOOLEAN, NUMBER, STRING, NODESET, UNKNOWN
+    }
+
+    static final int OR = 1;
+    static final int AND = 2;
+    static final int EQUALITY = 3;
+    static final int RELATIONAL = 4;
+    static final int ADDITIVE = 5;
+    static final int MULTIPLICATIVE = 6;
+    static final int UNARY = 7;
+    static final int UNION = 8;
+    static final int PRIMARY = 9;
+
+    private static final Set<String> BOOLEAN_FUNCTIONS = new HashSet<>(Arrays.asList("not", "true", "false", "boolean", "contains", "starts-with", "lang"));
+    private static final Set<String> NUMBER_FUNCTIONS = new HashSet<>(Arrays.asList("count", "last", "position", "string-length", "number", "sum", "floor", "ceiling", "round"));
+    private static final Set<String> STRING_FUNCTIONS = new HashSet<>(Arrays.asList("string", "concat", "substring", "substring-before", "substring-after",
+            "normalize-space", "translate", "local-name", "namespace-uri", "name"));
+
+    abstract Type type();
+
+    abstract int precedence();
+
+    abstract void render(StringBuilder path);
+
+    /**
+     * @return true when node (or one of its children) depends on context position or size
+     */
+    abstract boolean usesPosition();
+
+    /**
+     * @return true when node used as predicate filters by value, not by position, so it gives same result whatever predicates run before it
+     */
+    boolean isPositionIndependent() {
+        Type type = type();
+        return (type == Type.BOOLEAN || type == Type.STRING || type == Type.NODESET) && !usesPosition();
+    }
+
+    void render(StringBuilder path, int minPrecedence) {
+        if (precedence() < minPrecedence) {
+            path.append('(');
+            render(path);
+            path.append(')');
+        } else {
+            render(path);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder path = new StringBuilder();
+        render(path);
+        return path.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof XPathNode && toString().equals(o.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    private static boolean anyUsesPosition(List<? extends XPathNode> nodes) {
+        for (XPathNode node : nodes) {
+            if (node.usesPosition()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * n-ary 'and' / 'or'
+     */
+    static final class Junction extends XPathNode {
+        final String operator;
+        final List<XPathNode> operands;
+
+        Junction(String operator, List<XPathNode> operands) {
+            this.operator = operator;
+            this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+        }
+
+        @Override
+        Type type() {
+            return Type.BOOLEAN;
+        }
+
+        @Override
+        int precedence() {
+            return "or".equals(operator) ? OR : AND;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            for (int i = 0; i < operands.size(); i++) {
+                if (i > 0) {
+                    path.append(' ').append(operator).append(' ');
+                }
+                operands.get(i).render(path, precedence() + (i == 0 ? 0 : 1));
+            }
+        }
+
+        @Override
+        boolean usesPosition() {
+            return anyUsesPosition(operands);
+        }
+    }
+
+    /**
+     * Left associative binary operator: comparison, arithmetic or union
+     */
+    static final class Binary extends XPathNode {
+        final String operator;
+        final XPathNode left;
+        final XPathNode right;
+
+        Binary(String operator, XPathNode left, XPathNode right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        boolean isComparison() {
+            int precedence = precedence();
+            return precedence == EQUALITY || precedence == RELATIONAL;
+        }
+
+        @Override
+        Type type() {
+            if (isComparison()) {
+                return Type.BOOLEAN;
+            }
+            return "|".equals(operator) ? Type.NODESET : Type.NUMBER;
+        }
+
+        @Override
+        int precedence() {
+            switch (operator) {
+                case "=":
+                case "!=":
+                    return EQUALITY;
+                case "<":
+                case "<=":
+                case ">":
+                case ">=":
+                    return RELATIONAL;
+                case "+":
+                case "-":
+                    return ADDITIVE;
+                case "|":
+                    return UNION;
+                default:
+                    return MULTIPLICATIVE;
+            }
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            left.render(path, precedence());
+            if ("=".equals(operator) || "!=".equals(operator)) {
+                path.append(operator);
+            } else {
+                path.append(' ').append(operator).append(' ');
+            }
+            right.render(path, precedence() + 1);
+        }
+
+        @Override
+        boolean usesPosition() {
+            return left.usesPosition() || right.usesPosition();
+        }
+    }
+
+    static final class Negate extends XPathNode {
+        final XPathNode operand;
+
+        Negate(XPathNode operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        Type type() {
+            return Type.NUMBER;
+        }
+
+        @Override
+        int precedence() {
+            return UNARY;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            path.append('-');
+            operand.render(path, UNARY);
+        }
+
+        @Override
+        boolean usesPosition() {
+            return operand.usesPosition();
+        }
+    }
+
+    static final class Literal extends XPathNode {
+        final String value;
+
+        Literal(String value) {
+            this.value = value;
+        }
+
+        @Override
+        Type type() {
+            return Type.STRING;
+        }
+
+        @Override
+        int precedence() {
+            return PRIMARY;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            char quote = value.indexOf('\'') == -1 ? '\'' : '"';
+            path.append(quote).append(value).append(quote);
+        }
+
+        @Override
+        boolean usesPosition() {
+            return false;
+        }
+    }
+
+    static final class Number extends XPathNode {
+        final String value;
+
+        Number(String value) {
+            this.value = value;
+        }
+
+        boolean is(double number) {
+            return Double.parseDouble(value) == number;
+        }
+
+        @Override
+        Type type() {
+            return Type.NUMBER;
+        }
+
+        @Override
+        int precedence() {
+            return PRIMARY;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            path.append(value);
+        }
+
+        @Override
+        boolean usesPosition() {
+            return false;
+        }
+    }
+
+    static final class Variable extends XPathNode {
+        final String name;
+
+        Variable(String name) {
+            this.name = name;
+        }
+
+        @Override
+        Type type() {
+            return Type.UNKNOWN;
+        }
+
+        @Override
+        int precedence() {
+            return PRIMARY;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            path.append('$').append(name);
+        }
+
+        @Override
+        boolean usesPosition() {
+            return false;
+        }
+    }
+
+    static final class FunctionCall extends XPathNode {
+        final String name;
+        final List<XPathNode> arguments;
+
+        FunctionCall(String name, List<XPathNode> arguments) {
+            this.name = name;
+            this.arguments = Collections.unmodifiableList(new ArrayList<>(arguments));
+        }
+
+        FunctionCall(String name, XPathNode argument) {
+            this(name, Collections.singletonList(argument));
+        }
+
+        boolean is(String name, int arguments) {
+            return this.name.equals(name) && this.arguments.size() == arguments;
+        }
+
+        @Override
+        Type type() {
+            if (BOOLEAN_FUNCTIONS.contains(name)) {
+                return Type.BOOLEAN;
+            } else if (NUMBER_FUNCTIONS.contains(name)) {
+                return Type.NUMBER;
+            } else if (STRING_FUNCTIONS.contains(name)) {
+                return Type.STRING;
+            } else if ("id".equals(name)) {
+                return Type.NODESET;
+            }
+            return Type.UNKNOWN;
+        }
+
+        @Override
+        int precedence() {
+            return PRIMARY;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            path.append(name).append('(');
+            for (int i = 0; i < arguments.size(); i++) {
+                if (i > 0) {
+                    path.append(", ");
+                }
+                arguments.get(i).render(path);
+            }
+            path.append(')');
+        }
+
+        @Override
+        boolean usesPosition() {
+            return arguments.isEmpty() && ("position".equals(name) || "last".equals(name)) || anyUsesPosition(arguments);
+        }
+    }
+
+    /**
+     * Location step: axis::nodeTest[predicate]...
+     */
+    static final class Step extends XPathNode {
+        final String axis;
+        /**
+         * name test (*, prefix:*, QName) or node type test (node(), text(), comment(), processing-instruction(...))
+         */
+        final String nodeTest;
+        final List<XPathNode> predicates;
+
+        Step(String axis, String nodeTest, List<XPathNode> predicates) {
+            this.axis = axis;
+            this.nodeTest = nodeTest;
+            this.predicates = Collections.unmodifiableList(new ArrayList<>(predicates));
+        }
+
+        static Step descendantOrSelf() {
+            return new Step("descendant-or-self", "node()", Collections.emptyList());
+        }
+
+        boolean is(String axis, String nodeTest) {
+            return this.axis.equals(axis) && this.nodeTest.equals(nodeTest) && predicates.isEmpty();
+        }
+
+        boolean isDescendantOrSelf() {
+            return is("descendant-or-self", "node()");
+        }
+
+        Step withAxis(String axis) {
+            return new Step(axis, nodeTest, predicates);
+        }
+
+        @Override
+        Type type() {
+            return Type.NODESET;
+        }
+
+        @Override
+        int precedence() {
+            return PRIMARY;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            if (is("self", "node()")) {
+                path.append('.');
+            } else if (is("parent", "node()")) {
+                path.append("..");
+            } else {
+                if ("attribute".equals(axis)) {
+                    path.append('@');
+                } else if (!"child".equals(axis)) {
+                    path.append(axis).append("::");
+                }
+                path.append(nodeTest);
+                renderPredicates(path, predicates);
+            }
+        }
+
+        @Override
+        boolean usesPosition() {
+            return false; // predicates are evaluated in their own context
+        }
+    }
+
+    private static void renderPredicates(StringBuilder path, List<XPathNode> predicates) {
+        for (XPathNode predicate : predicates) {
+            path.append('[');
+            predicate.render(path);
+            path.append(']');
+        }
+    }
+
+    /**
+     * Location path (absolute or relative) or filter expression followed by a relative path: filter[predicate].../step/...
+     * <p>'//' is kept as a descendant-or-self::node() step.</p>
+     */
+    static final class Path extends XPathNode {
+        /**
+         * null for location paths
+         */
+        final XPathNode filter;
+        final List<XPathNode> filterPredicates;
+        final boolean absolute;
+        final List<Step> steps;
+
+        Path(XPathNode filter, List<XPathNode> filterPredicates, boolean absolute, List<Step> steps) {
+            this.filter = filter;
+            this.filterPredicates = Collections.unmodifiableList(new ArrayList<>(filterPredicates));
+            this.absolute = absolute;
+            this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+        }
+
+        Path withSteps(List<XPathNode> filterPredicates, List<Step> steps) {
+            return new Path(filter, filterPredicates, absolute, steps);
+        }
+
+        /**
+         * @return true when this path is a single attribute step: @name
+         */
+        boolean isAttribute(String name) {
+            return filter == null && !absolute && steps.size() == 1 && steps.get(0).is("attribute", name);
+        }
+
+        @Override
+        Type type() {
+            return filter != null && steps.isEmpty() && filterPredicates.isEmpty() ? filter.type() : Type.NODESET;
+        }
+
+        @Override
+        int precedence() {
+            return filter != null && steps.isEmpty() && filterPredicates.isEmpty() ? filter.precedence() : PRIMARY;
+        }
+
+        @Override
+        void render(StringBuilder path) {
+            boolean relative = !absolute;
+            if (filter != null) {
+                boolean primary = filter instanceof FunctionCall || filter instanceof Variable || filter instanceof Literal || filter instanceof Number;
+                filter.render(path, primary ? 0 : PRIMARY + 1);
+                renderPredicates(path, filterPredicates);
+                relative = false;
+            }
+            if (absolute || filter != null && !steps.isEmpty()) {
+                path.append('/');
+            }
+            boolean abbreviated = false;
+            for (int i = 0; i < steps.size(); i++) {
+                Step step = steps.get(i);
+                // '//' can't be followed by another '//' or end the path
+                abbreviated = step.isDescendantOrSelf() && i + 1 < steps.size() && !(relative && i == 0) && !abbreviated;
+                if (!abbreviated) {
+                    step.render(path);
+                }
+                if (i + 1 < steps.size()) {
+                    path.append('/');
+                }
+            }
+        }
+
+        @Override
+        boolean usesPosition() {
+            return filter != null && filter.usesPosition();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.sdl.selenium.web.xpath;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites generated xpath into an equivalent xpath that browsers evaluate faster:
+ * <ul>
+ * <li>count(x) &gt; 0 / count(x) = 0 become existence tests: x / not(x)</li>
+ * <li>duplicate predicates are removed and consecutive predicates that do not depend on position are merged
+ * (eg. the same class added by baseCls and classes, or a class already implied by @class='...')</li>
+ * <li>axis chains are collapsed: a/./b becomes a/b, a//descendant::b becomes a//b</li>
+ * </ul>
+ * <p>Only rewrites that give the same nodes on any document are made; xpath that can't be parsed is returned unchanged.</p>
+ */
+@Slf4j
+public final class XPathOptimizer {
+
+    private XPathOptimizer() {
+    }
+
+    /**
+     * @param xPath xpath generated by XPathBuilder (or any XPath 1.0 expression)
+     * @return optimized xpath, or same xpath instance when nothing can be optimized
+     */
+    public static String optimize(String xPath) {
+        if (xPath == null || xPath.isEmpty()) {
+            return xPath;
+        }
+        XPathNode node;
+        try {
+            node = XPathParser.parse(xPath);
+        } catch (IllegalArgumentException e) {
+            log.debug("xpath is not optimized: {}", e.getMessage());
+            return xPath;
+        }
+        String legacy = node.toString();
+        String optimized = optimize(node, false).toString();
+        return optimized.equals(legacy) ? xPath : optimized;
+    }
+
+    /**
+     * @param node           expression
+     * @param booleanContext true when the value of node is converted to boolean (operand of and/or/not/boolean, predicate that is not a number)
+     * @return equivalent expression
+     */
+    static XPathNode optimize(XPathNode node, boolean booleanContext) {
+        if (node instanceof XPathNode.Junction) {
+            return optimizeJunction((XPathNode.Junction) node, booleanContext);
+        } else if (node instanceof XPathNode.Binary) {
+            return optimizeBinary((XPathNode.Binary) node, booleanContext);
+        } else if (node instanceof XPathNode.Negate) {
+            return new XPathNode.Negate(optimize(((XPathNode.Negate) node).operand, false));
+        } else if (node instanceof XPathNode.FunctionCall) {
+            return optimizeFunction((XPathNode.FunctionCall) node, booleanContext);
+        } else if (node instanceof XPathNode.Path) {
+            return optimizePath((XPathNode.Path) node);
+        }
+        return node;
+    }
+
+    private static XPathNode optimizeJunction(XPathNode.Junction junction, boolean booleanContext) {
+        Set<XPathNode> operands = new LinkedHashSet<>();
+        for (XPathNode operand : junction.operands) {
+            operand = optimize(operand, true);
+            if (operand instanceof XPathNode.Junction && ((XPathNode.Junction) operand).operator.equals(junction.operator)) {
+                operands.addAll(((XPathNode.Junction) operand).operands);
+            } else {
+                operands.add(operand);
+            }
+        }
+        if ("and".equals(junction.operator)) {
+            removeImpliedClasses(operands);
+        }
+        if (operands.size() == 1) {
+            return toBoolean(operands.iterator().next(), booleanContext);
+        }
+        return new XPathNode.Junction(junction.operator, new ArrayList<>(operands));
+    }
+
+    /**
+     * @param operands operands of 'and': contains(concat(' ', @class, ' '), ' x ') and contains(@class, 'x') are removed when @class='... x ...' is present
+     */
+    private static void removeImpliedClasses(Set<XPathNode> operands) {
+        List<String> classes = new ArrayList<>();
+        for (XPathNode operand : operands) {
+            if (operand instanceof XPathNode.Binary) {
+                XPathNode.Binary binary = (XPathNode.Binary) operand;
+                if ("=".equals(binary.operator) && isAttribute(binary.left, "class") && binary.right instanceof XPathNode.Literal) {
+                    classes.add(((XPathNode.Literal) binary.right).value);
+                }
+            }
+        }
+        if (classes.isEmpty()) {
+            return;
+        }
+        operands.removeIf(operand -> {
+            if (!(operand instanceof XPathNode.FunctionCall) || !((XPathNode.FunctionCall) operand).is("contains", 2)) {
+                return false;
+            }
+            XPathNode.FunctionCall contains = (XPathNode.FunctionCall) operand;
+            if (!(contains.arguments.get(1) instanceof XPathNode.Literal)) {
+                return false;
+            }
+            String value = ((XPathNode.Literal) contains.arguments.get(1)).value;
+            XPathNode in = contains.arguments.get(0);
+            if (isAttribute(in, "class")) {
+                return classes.stream().anyMatch(cls -> cls.contains(value));
+            }
+            if (in instanceof XPathNode.FunctionCall && ((XPathNode.FunctionCall) in).is("concat", 3)) {
+                List<XPathNode> concat = ((XPathNode.FunctionCall) in).arguments;
+                if (isLiteral(concat.get(0), " ") && isAttribute(concat.get(1), "class") && isLiteral(concat.get(2), " ")) {
+                    return classes.stream().anyMatch(cls -> (" " + cls + " ").contains(value));
+                }
+            }
+            return false;
+        });
+    }
+
+    private static boolean isAttribute(XPathNode node, String name) {
+        return node instanceof XPathNode.Path && ((XPathNode.Path) node).isAttribute(name);
+    }
+
+    private static boolean isLiteral(XPathNode node, String value) {
+        return node instanceof XPathNode.Literal && ((XPathNode.Literal) node).value.equals(value);
+    }
+
+    private static XPathNode optimizeBinary(XPathNode.Binary binary, boolean booleanContext) {
+        XPathNode left = optimize(binary.left, false);
+        XPathNode right = optimize(binary.right, false);
+        if (binary.isComparison()) {
+            String operator = binary.operator;
+            XPathNode count = left;
+            XPathNode number = right;
+            if (isCount(right) && left instanceof XPathNode.Number) {
+                // 0 < count(x) is count(x) > 0
+                count = right;
+                number = left;
+                operator = swap(operator);
+            }
+            if (isCount(count) && number instanceof XPathNode.Number) {
+                XPathNode nodes = ((XPathNode.FunctionCall) count).arguments.get(0);
+                XPathNode.Number n = (XPathNode.Number) number;
+                boolean exists = (">".equals(operator) || "!=".equals(operator)) && n.is(0) || ">=".equals(operator) && n.is(1);
+                boolean notExists = ("=".equals(operator) || "<=".equals(operator)) && n.is(0) || "<".equals(operator) && n.is(1);
+                if (exists) {
+                    return toBoolean(nodes, booleanContext);
+                } else if (notExists) {
+                    return new XPathNode.FunctionCall("not", nodes);
+                }
+            }
+        }
+        return new XPathNode.Binary(binary.operator, left, right);
+    }
+
+    private static boolean isCount(XPathNode node) {
+        return node instanceof XPathNode.FunctionCall && ((XPathNode.FunctionCall) node).is("count", 1)
+                && ((XPathNode.FunctionCall) node).arguments.get(0).type() == XPathNode.Type.NODESET;
+    }
+
+    private static String swap(String operator) {
+        switch (operator) {
+            case "<":
+                return ">";
+            case ">":
+                return "<";
+            case "<=":
+                return ">=";
+            case ">=":
+                return "<=";
+            default:
+                return operator;
+        }
+    }
+
+    private static XPathNode toBoolean(XPathNode node, boolean booleanContext) {
+        if (booleanContext || node.type() == XPathNode.Type.BOOLEAN) {
+            return node;
+        }
+        return new XPathNode.FunctionCall("boolean", node);
+    }
+
+    private static XPathNode optimizeFunction(XPathNode.FunctionCall function, boolean booleanContext) {
+        boolean booleanArguments = function.is("not", 1) || function.is("boolean", 1);
+        List<XPathNode> arguments = new ArrayList<>();
+        for (XPathNode argument : function.arguments) {
+            arguments.add(optimize(argument, booleanArguments));
+        }
+        if (function.is("boolean", 1)) {
+            return toBoolean(arguments.get(0), booleanContext);
+        }
+        return new XPathNode.FunctionCall(function.name, arguments);
+    }
+
+    private static XPathNode optimizePath(XPathNode.Path path) {
+        List<XPathNode.Step> steps = new ArrayList<>();
+        for (XPathNode.Step step : path.steps) {
+            steps.add(new XPathNode.Step(step.axis, step.nodeTest, optimizePredicates(step.predicates)));
+        }
+        collapseAxes(steps, path.absolute || path.filter != null);
+        XPathNode filter = path.filter == null ? null : optimize(path.filter, false);
+        XPathNode.Path optimized = new XPathNode.Path(filter, optimizePredicates(path.filterPredicates), path.absolute, steps);
+        if (filter != null && optimized.filterPredicates.isEmpty() && steps.isEmpty()) {
+            return filter;
+        }
+        return optimized;
+    }
+
+    /**
+     * Removes duplicates and merges consecutive predicates that don't depend on position: [a][b][a] becomes [a and b]
+     */
+    private static List<XPathNode> optimizePredicates(List<XPathNode> predicates) {
+        List<XPathNode> result = new ArrayList<>();
+        List<XPathNode> merge = new ArrayList<>();
+        for (XPathNode predicate : predicates) {
+            boolean positionIndependent = predicate.isPositionIndependent();
+            predicate = optimize(predicate, positionIndependent);
+            if (positionIndependent) {
+                merge.add(predicate);
+            } else {
+                addMerged(result, merge);
+                result.add(predicate);
+            }
+        }
+        addMerged(result, merge);
+        return result;
+    }
+
+    private static void addMerged(List<XPathNode> predicates, List<XPathNode> merge) {
+        if (merge.size() == 1) {
+            predicates.add(merge.get(0));
+        } else if (merge.size() > 1) {
+            predicates.add(optimize(new XPathNode.Junction("and", merge), true));
+        }
+        merge.clear();
+    }
+
+    /**
+     * @param steps    steps of a path
+     * @param hasStart true when first step is relative to root or to a filter expression (not to the context node)
+     */
+    private static void collapseAxes(List<XPathNode.Step> steps, boolean hasStart) {
+        for (int i = 0; i < steps.size(); i++) {
+            XPathNode.Step step = steps.get(i);
+            boolean last = i + 1 == steps.size();
+            if (step.is("self", "node()") && !last && (i > 0 || hasStart)) {
+                // a/./b
+                steps.remove(i--);
+            } else if (step.is("self", "node()") && last && i > 0 && !steps.get(i - 1).isDescendantOrSelf()) {
+                // a/.
+                steps.remove(i--);
+            } else if (step.isDescendantOrSelf() && !last) {
+                XPathNode.Step next = steps.get(i + 1);
+                if (next.isDescendantOrSelf()) {
+                    // a//descendant-or-self::node()/b
+                    steps.remove(i--);
+                } else if ("descendant".equals(next.axis) && allPositionIndependent(next.predicates)) {
+                    // a//descendant::b
+                    steps.set(i + 1, next.withAxis("child"));
+                }
+            }
+        }
+    }
+
+    private static boolean allPositionIndependent(List<XPathNode> predicates) {
+        for (XPathNode predicate : predicates) {
+            if (!predicate.isPositionIndependent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,350 @@
+package com.sdl.selenium.web.xpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Recursive descent parser for XPath 1.0 expressions (grammar from https://www.w3.org/TR/xpath/).
+ */
+final class XPathParser {
+    private static final Set<String> NODE_TYPES = new HashSet<>(Arrays.asList("node", "text", "comment", "processing-instruction"));
+    private static final Set<String> AXES = new HashSet<>(Arrays.asList("ancestor", "ancestor-or-self", "attribute", "child", "descendant",
+            "descendant-or-self", "following", "following-sibling", "namespace", "parent", "preceding", "preceding-sibling", "self"));
+
+    private final String xPath;
+    private final List<String> tokens;
+    private int index;
+
+    private XPathParser(String xPath) {
+        this.xPath = xPath;
+        this.tokens = tokenize(xPath);
+    }
+
+    /**
+     * @param xPath expression
+     * @return syntax tree
+     * @throws IllegalArgumentException when xPath is not a valid XPath 1.0 expression
+     */
+    static XPathNode parse(String xPath) {
+        XPathParser parser = new XPathParser(xPath);
+        XPathNode node = parser.orExpr();
+        if (parser.index < parser.tokens.size()) {
+            throw parser.error("unexpected '" + parser.peek() + "'");
+        }
+        return node;
+    }
+
+    // =========================================
+    // ============ Tokenizer ==================
+    // =========================================
+
+    private static List<String> tokenize(String xPath) {
+        List<String> tokens = new ArrayList<>();
+        int length = xPath.length();
+        int i = 0;
+        while (i < length) {
+            char c = xPath.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'' || c == '"') {
+                int end = xPath.indexOf(c, i + 1);
+                if (end == -1) {
+                    throw new IllegalArgumentException("Unterminated literal in: " + xPath);
+                }
+                tokens.add(xPath.substring(i, end + 1));
+                i = end + 1;
+            } else if (Character.isDigit(c) || c == '.' && i + 1 < length && Character.isDigit(xPath.charAt(i + 1))) {
+                int start = i;
+                while (i < length && (Character.isDigit(xPath.charAt(i)) || xPath.charAt(i) == '.')) {
+                    i++;
+                }
+                tokens.add(xPath.substring(start, i));
+            } else if (c == '$') {
+                int end = nameEnd(xPath, i + 1);
+                tokens.add(xPath.substring(i, end));
+                i = end;
+            } else if (isNameStart(c)) {
+                int end = nameEnd(xPath, i);
+                // prefix:* or prefix:name (but not axis::)
+                if (end + 1 < length && xPath.charAt(end) == ':' && xPath.charAt(end + 1) != ':') {
+                    if (xPath.charAt(end + 1) == '*') {
+                        end += 2;
+                    } else if (isNameStart(xPath.charAt(end + 1))) {
+                        end = nameEnd(xPath, end + 1);
+                    }
+                }
+                tokens.add(xPath.substring(i, end));
+                i = end;
+            } else {
+                String two = i + 1 < length ? xPath.substring(i, i + 2) : "";
+                if ("//".equals(two) || "..".equals(two) || "::".equals(two) || "!=".equals(two) || "<=".equals(two) || ">=".equals(two)) {
+                    tokens.add(two);
+                    i += 2;
+                } else if ("/()[].@,|+-=<>*".indexOf(c) != -1) {
+                    tokens.add(String.valueOf(c));
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("Unexpected '" + c + "' in: " + xPath);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isNameStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static int nameEnd(String xPath, int start) {
+        int i = start;
+        while (i < xPath.length()) {
+            char c = xPath.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        if (i == start) {
+            throw new IllegalArgumentException("Name expected at " + start + " in: " + xPath);
+        }
+        return i;
+    }
+
+    // =========================================
+    // ============ Parser =====================
+    // =========================================
+
+    private String peek() {
+        return peek(0);
+    }
+
+    private String peek(int offset) {
+        return index + offset < tokens.size() ? tokens.get(index + offset) : null;
+    }
+
+    private boolean accept(String token) {
+        if (token.equals(peek())) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token) {
+        if (!accept(token)) {
+            throw error("'" + token + "' expected");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at token " + index + " in: " + xPath);
+    }
+
+    private XPathNode orExpr() {
+        return junction("or");
+    }
+
+    private XPathNode andExpr() {
+        return junction("and");
+    }
+
+    private XPathNode junction(String operator) {
+        List<XPathNode> operands = new ArrayList<>();
+        do {
+            operands.add("or".equals(operator) ? andExpr() : equalityExpr());
+        } while (accept(operator));
+        return operands.size() == 1 ? operands.get(0) : new XPathNode.Junction(operator, operands);
+    }
+
+    private XPathNode equalityExpr() {
+        XPathNode node = relationalExpr();
+        while ("=".equals(peek()) || "!=".equals(peek())) {
+            node = new XPathNode.Binary(tokens.get(index++), node, relationalExpr());
+        }
+        return node;
+    }
+
+    private XPathNode relationalExpr() {
+        XPathNode node = additiveExpr();
+        while ("<".equals(peek()) || "<=".equals(peek()) || ">".equals(peek()) || ">=".equals(peek())) {
+            node = new XPathNode.Binary(tokens.get(index++), node, additiveExpr());
+        }
+        return node;
+    }
+
+    private XPathNode additiveExpr() {
+        XPathNode node = multiplicativeExpr();
+        while ("+".equals(peek()) || "-".equals(peek())) {
+            node = new XPathNode.Binary(tokens.get(index++), node, multiplicativeExpr());
+        }
+        return node;
+    }
+
+    private XPathNode multiplicativeExpr() {
+        XPathNode node = unaryExpr();
+        while ("*".equals(peek()) || "div".equals(peek()) || "mod".equals(peek())) {
+            node = new XPathNode.Binary(tokens.get(index++), node, unaryExpr());
+        }
+        return node;
+    }
+
+    private XPathNode unaryExpr() {
+        if (accept("-")) {
+            return new XPathNode.Negate(unaryExpr());
+        }
+        XPathNode node = pathExpr();
+        while (accept("|")) {
+            node = new XPathNode.Binary("|", node, pathExpr());
+        }
+        return node;
+    }
+
+    private XPathNode pathExpr() {
+        String token = peek();
+        if (token == null) {
+            throw error("expression expected");
+        }
+        if ("/".equals(token) || "//".equals(token)) {
+            index++;
+            List<XPathNode.Step> steps = new ArrayList<>();
+            if ("//".equals(token)) {
+                steps.add(XPathNode.Step.descendantOrSelf());
+                relativePath(steps);
+            } else if (isStepStart()) {
+                relativePath(steps);
+            }
+            return new XPathNode.Path(null, Collections.emptyList(), true, steps);
+        }
+        if (isStepStart()) {
+            List<XPathNode.Step> steps = new ArrayList<>();
+            relativePath(steps);
+            return new XPathNode.Path(null, Collections.emptyList(), false, steps);
+        }
+        XPathNode filter = primaryExpr();
+        List<XPathNode> predicates = predicates();
+        List<XPathNode.Step> steps = new ArrayList<>();
+        if ("/".equals(peek()) || "//".equals(peek())) {
+            if ("//".equals(tokens.get(index++))) {
+                steps.add(XPathNode.Step.descendantOrSelf());
+            }
+            relativePath(steps);
+        }
+        if (predicates.isEmpty() && steps.isEmpty()) {
+            return filter;
+        }
+        return new XPathNode.Path(filter, predicates, false, steps);
+    }
+
+    private boolean isStepStart() {
+        String token = peek();
+        if (token == null) {
+            return false;
+        }
+        if (".".equals(token) || "..".equals(token) || "@".equals(token) || "*".equals(token)) {
+            return true;
+        }
+        if (!isNameStart(token.charAt(0))) {
+            return false;
+        }
+        if ("::".equals(peek(1))) {
+            return true;
+        }
+        return !"(".equals(peek(1)) || NODE_TYPES.contains(token);
+    }
+
+    private void relativePath(List<XPathNode.Step> steps) {
+        steps.add(step());
+        while ("/".equals(peek()) || "//".equals(peek())) {
+            if ("//".equals(tokens.get(index++))) {
+                steps.add(XPathNode.Step.descendantOrSelf());
+            }
+            steps.add(step());
+        }
+    }
+
+    private XPathNode.Step step() {
+        if (accept(".")) {
+            return new XPathNode.Step("self", "node()", Collections.emptyList());
+        }
+        if (accept("..")) {
+            return new XPathNode.Step("parent", "node()", Collections.emptyList());
+        }
+        String axis = "child";
+        if (accept("@")) {
+            axis = "attribute";
+        } else if ("::".equals(peek(1))) {
+            axis = tokens.get(index);
+            if (!AXES.contains(axis)) {
+                throw error("unknown axis '" + axis + "'");
+            }
+            index += 2;
+        }
+        return new XPathNode.Step(axis, nodeTest(), predicates());
+    }
+
+    private String nodeTest() {
+        String token = peek();
+        if (token == null || !("*".equals(token) || isNameStart(token.charAt(0)))) {
+            throw error("node test expected");
+        }
+        index++;
+        if (NODE_TYPES.contains(token) && accept("(")) {
+            String literal = "";
+            if ("processing-instruction".equals(token) && peek() != null && isLiteral(peek())) {
+                literal = tokens.get(index++);
+            }
+            expect(")");
+            return token + "(" + literal + ")";
+        }
+        return token;
+    }
+
+    private List<XPathNode> predicates() {
+        List<XPathNode> predicates = new ArrayList<>();
+        while (accept("[")) {
+            predicates.add(orExpr());
+            expect("]");
+        }
+        return predicates;
+    }
+
+    private XPathNode primaryExpr() {
+        String token = peek();
+        if (accept("(")) {
+            XPathNode node = orExpr();
+            expect(")");
+            return node;
+        }
+        index++;
+        if (isLiteral(token)) {
+            return new XPathNode.Literal(token.substring(1, token.length() - 1));
+        }
+        if (token.charAt(0) == '$') {
+            return new XPathNode.Variable(token.substring(1));
+        }
+        if (Character.isDigit(token.charAt(0)) || token.charAt(0) == '.') {
+            return new XPathNode.Number(token);
+        }
+        if (isNameStart(token.charAt(0)) && accept("(")) {
+            List<XPathNode> arguments = new ArrayList<>();
+            if (!accept(")")) {
+                do {
+                    arguments.add(orExpr());
+                } while (accept(","));
+                expect(")");
+            }
+            return new XPathNode.FunctionCall(token, arguments);
+        }
+        index--;
+        throw error("unexpected '" + token + "'");
+    }
+
+    private static boolean isLiteral(String token) {
+        return token.charAt(0) == '\'' || token.charAt(0) == '"';
+    }
+}
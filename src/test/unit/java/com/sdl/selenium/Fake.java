@@ -0,0 +1,140 @@
+package com.sdl.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fake of an interface (driver, element, executor) for unit tests: methods answer as given with {@link #on(String, Answer)},
+ * other methods throw UnsupportedOperationException; hashCode, equals and toString use identity and name.
+ * <pre>{@code
+ * WebElement save = Fake.element().named("save").on("getText", args -> "Save").build();
+ * WebDriver driver = Fake.driver().returns("findElement", save).build();
+ * }</pre>
+ */
+public final class Fake<T> {
+
+    @FunctionalInterface
+    public interface Answer {
+        /**
+         * @param args arguments of method, empty for methods without arguments
+         * @return value returned by method
+         * @throws Throwable thrown by method
+         */
+        Object answer(Object[] args) throws Throwable;
+    }
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final List<String> IDENTITY = Arrays.asList("hashCode", "equals", "toString");
+
+    private final Class<T> type;
+    private final Class<?>[] interfaces;
+    private final Map<String, Answer> answers = new HashMap<>();
+    private String name;
+    private Answer otherwise;
+    private List<String> calls;
+
+    private Fake(Class<T> type, Class<?>... interfaces) {
+        this.type = type;
+        this.interfaces = new Class<?>[interfaces.length + 1];
+        this.interfaces[0] = type;
+        System.arraycopy(interfaces, 0, this.interfaces, 1, interfaces.length);
+        this.name = type.getSimpleName();
+    }
+
+    /**
+     * @param type       interface of fake
+     * @param interfaces other interfaces of fake
+     * @param <T>        type of fake
+     * @return builder of fake
+     */
+    public static <T> Fake<T> of(Class<T> type, Class<?>... interfaces) {
+        return new Fake<>(type, interfaces);
+    }
+
+    /**
+     * @return driver that can run scripts
+     */
+    public static Fake<WebDriver> driver() {
+        return of(WebDriver.class, JavascriptExecutor.class);
+    }
+
+    public static Fake<WebElement> element() {
+        return of(WebElement.class);
+    }
+
+    /**
+     * @param name returned by toString
+     * @return element without any supported method
+     */
+    public static WebElement element(String name) {
+        return element().named(name).build();
+    }
+
+    public Fake<T> named(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Fake<T> on(String method, Answer answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    public Fake<T> returns(String method, Object value) {
+        return on(method, args -> value);
+    }
+
+    /**
+     * @param calls names of methods called are added to it (but not hashCode, equals and toString)
+     * @return this builder
+     */
+    public Fake<T> recording(List<String> calls) {
+        this.calls = calls;
+        return this;
+    }
+
+    /**
+     * @param answer answer of all methods not given with {@link #on(String, Answer)}
+     * @return this builder
+     */
+    public Fake<T> otherwise(Answer answer) {
+        this.otherwise = answer;
+        return this;
+    }
+
+    public T build() {
+        String name = this.name;
+        Map<String, Answer> answers = new HashMap<>(this.answers);
+        Answer otherwise = this.otherwise;
+        List<String> calls = this.calls;
+        return type.cast(Proxy.newProxyInstance(Fake.class.getClassLoader(), interfaces, (proxy, method, args) -> {
+            if (calls != null && !IDENTITY.contains(method.getName())) {
+                calls.add(method.getName());
+            }
+            Answer answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.answer(args == null ? NO_ARGS : args);
+            }
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return name;
+                default:
+                    if (otherwise != null) {
+                        return otherwise.answer(args == null ? NO_ARGS : args);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }));
+    }
+}
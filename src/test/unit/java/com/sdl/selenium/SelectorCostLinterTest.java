@@ -0,0 +1,83 @@
+package com.sdl.selenium;
+
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.SearchType;
+import com.sdl.selenium.web.WebLocator;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SelectorCostLinterTest {
+    private boolean generateCssSelector;
+
+    @BeforeMethod
+    public void start() {
+        generateCssSelector = WebLocatorConfig.isGenerateCssSelector();
+        WebLocatorConfig.setGenerateCssSelector(true);
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setGenerateCssSelector(generateCssSelector);
+    }
+
+    public static class LoginView extends WebLocator {
+        private WebLocator form = new WebLocator(this).setTag("form").setId("login");
+        private WebLocator save = new WebLocator(form).setText("Save", SearchType.DEEP_CHILD_NODE, SearchType.CASE_INSENSITIVE);
+        private WebLocator cancel = new WebLocator(form).setTag("button").setText("Cancel", SearchType.CHILD_NODE);
+        private WebLocator row = new WebLocator(form).setTag("tr").setClasses("row").setResultIdx(2).setVisibility(true);
+
+        public LoginView() {
+            setClasses("login-view");
+        }
+    }
+
+    @Test
+    public void locatorsAreRankedByCost() {
+        List<SelectorCostLinter.SelectorCost> costs = SelectorCostLinter.lint(new LoginView());
+        List<String> names = new ArrayList<>();
+        for (SelectorCostLinter.SelectorCost cost : costs) {
+            names.add(cost.getName());
+        }
+        assertEquals(names, Arrays.asList("save", "row", "cancel", "current_view", "form"));
+        // leading //* of view, //* in form, text in all descendants, translate
+        assertEquals(costs.get(0).getCost(), 1 + SelectorCostLinter.ANY_TAG_DOCUMENT + SelectorCostLinter.ANY_TAG + SelectorCostLinter.TEXT_SCAN + SelectorCostLinter.TRANSLATE);
+        assertEquals(costs.get(1).getCost(), 1 + SelectorCostLinter.ANY_TAG_DOCUMENT + SelectorCostLinter.VISIBILITY + SelectorCostLinter.RESULT_IDX);
+        assertEquals(costs.get(2).getCost(), 1 + SelectorCostLinter.ANY_TAG_DOCUMENT);
+    }
+
+    @Test
+    public void cssSelectorHasNoFindings() {
+        SelectorCostLinter.SelectorCost cost = SelectorCostLinter.cost("form", new WebLocator().setTag("form").setId("login"));
+        assertEquals(cost.getType(), "css");
+        assertEquals(cost.getSelector(), "form#login");
+        assertEquals(cost.getCost(), 1);
+        assertTrue(cost.getFindings().isEmpty());
+    }
+
+    @Test
+    public void suggestionsForXPath() {
+        WebLocatorConfig.setGenerateCssSelector(false);
+        SelectorCostLinter.SelectorCost cost = SelectorCostLinter.cost("form", new WebLocator().setId("login"));
+        assertEquals(cost.getType(), "xpath");
+        assertEquals(cost.getSelector(), "//*[@id='login']");
+        assertEquals(cost.getFindings().toString(), "[+10 leading //* checks all elements of the page -> id 'login' is set: setTag(...) with the tag of the element, or find it by id only, " +
+                "+0 xpath is used -> enable weblocator.generateCssSelector, this locator can be found by css selector]");
+    }
+
+    @Test
+    public void containerFindingsAreNamed() {
+        WebLocator panel = new WebLocator().setClasses("panel").setInfoMessage("panel");
+        SelectorCostLinter.SelectorCost cost = SelectorCostLinter.cost("title", new WebLocator(panel).setTag("span").setText("Title"));
+        assertEquals(cost.getFindings().size(), 1);
+        assertEquals(cost.getFindings().get(0).getProblem(), "container panel: leading //* checks all elements of the page");
+        assertTrue(SelectorCostLinter.report(Arrays.asList(cost)).startsWith(String.format("  11  title (xpath) %s%n      +10 container panel:", cost.getSelector())));
+    }
+}
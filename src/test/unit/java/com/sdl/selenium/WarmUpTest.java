@@ -0,0 +1,120 @@
+package com.sdl.selenium;
+
+import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.WebLocatorExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class WarmUpTest {
+    private static final WebElement VIEW = Fake.element("view");
+    private static final WebElement SAVE = Fake.element("save");
+
+    private WebLocatorExecutor executor;
+
+    @BeforeMethod
+    public void start() {
+        executor = WebLocator.getExecutor();
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocator.setDriverExecutor(executor);
+    }
+
+    public static class LoginView extends WebLocator {
+        private WebLocator save = new WebLocator(this).setTag("button").setId("save");
+        private WebLocator cancel = new WebLocator(this).setText("Cancel");
+        private WebLocator rows = new WebLocator(this).setClasses("row").setVisibility(true);
+
+        public LoginView() {
+            setId("login");
+        }
+    }
+
+    @Test
+    public void allLocatorsAreFoundWithOneScript() {
+        List<String> calls = new ArrayList<>();
+        WebLocator.setDriverExecutor(driver(calls, Arrays.asList(Arrays.asList(1L, VIEW), Arrays.asList(0L, null), Arrays.asList(3L, Fake.element("row")), Arrays.asList(1L, SAVE))));
+        LoginView view = new LoginView();
+
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("current_view", 1);
+        expected.put("cancel", 0);
+        expected.put("rows", 3);
+        expected.put("save", 1);
+        assertEquals(WebLocatorUtils.warmUp(view), expected);
+        assertEquals(calls, Arrays.asList("#login true false", "//*[@id='login']//*[contains(text(),'Cancel')] false false",
+                "#login .row true true", "#login button#save true false"));
+        assertSame(view.currentElement, VIEW);
+        assertSame(view.save.currentElement, SAVE);
+        assertEquals(view.save.getCurrentElementPath(), "#login button#save");
+        assertNull(view.cancel.currentElement);
+    }
+
+    @Test
+    public void clickAfterWarmUpDoesNotSearchAgain() {
+        List<String> calls = new ArrayList<>();
+        WebElement save = Fake.element().named("save").recording(calls).returns("isDisplayed", true).returns("click", null).build();
+        WebLocator.setDriverExecutor(Fake.driver().recording(calls)
+                .returns("executeScript", Arrays.asList(Arrays.asList(1L, VIEW), Arrays.asList(0L, null), Arrays.asList(0L, null), Arrays.asList(1L, save)))
+                .returns("findElement", save)
+                .build());
+        LoginView view = new LoginView();
+        WebLocatorUtils.warmUp(view);
+
+        view.save.click();
+        assertEquals(calls, Arrays.asList("executeScript", "isDisplayed", "click"));
+
+        view.save.click();
+        assertEquals(calls, Arrays.asList("executeScript", "isDisplayed", "click", "findElement", "findElement", "click"));
+    }
+
+    @Test
+    public void staleElementOfWarmUpIsFoundAgain() {
+        List<String> calls = new ArrayList<>();
+        WebElement stale = Fake.element().named("stale").recording(calls).on("isDisplayed", args -> {
+            throw new StaleElementReferenceException("stale");
+        }).build();
+        WebElement save = Fake.element().named("save").recording(calls).returns("click", null).build();
+        WebLocator.setDriverExecutor(Fake.driver().recording(calls)
+                .returns("executeScript", Arrays.asList(Arrays.asList(1L, VIEW), Arrays.asList(0L, null), Arrays.asList(0L, null), Arrays.asList(1L, stale)))
+                .returns("findElement", save)
+                .build());
+        LoginView view = new LoginView();
+        WebLocatorUtils.warmUp(view);
+
+        view.save.click();
+        assertEquals(calls, Arrays.asList("executeScript", "isDisplayed", "findElement", "findElement", "click"));
+    }
+
+    @Test
+    public void emptyMapIsReturnedWhenScriptFails() {
+        WebLocator.setDriverExecutor(driver(new ArrayList<>(), null));
+        assertTrue(WebLocatorUtils.warmUp(new LoginView()).isEmpty());
+    }
+
+    private static WebDriver driver(List<String> calls, Object response) {
+        return Fake.driver().on("executeScript", args -> {
+            for (Object locator : (List<?>) ((Object[]) args[1])[0]) {
+                Map<?, ?> l = (Map<?, ?>) locator;
+                calls.add(l.get("selector") + " " + l.get("css") + " " + l.get("visibility"));
+            }
+            return response;
+        }).build();
+    }
+}
@@ -1,9 +1,16 @@
 package com.sdl.selenium.extjs6.grid;
 
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.DriverContext;
 import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.WebLocatorExecutor;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -25,4 +32,18 @@ public class GridTest {
     public void getPathSelectorCorrectlyFromConstructors(Grid grid, String expectedXpath) {
         assertThat(grid.getXPath(), equalTo(expectedXpath));
     }
+
+    @Test
+    public void headersHaveGroupAndNestedColumnsAndAreReadAgainWhenEmpty() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        DriverContext context = new DriverContext();
+        context.setExecutor(Fake.of(WebLocatorExecutor.class)
+                .on("waitElement", args -> ((WebLocator) args[0]).currentElement = Fake.element("header"))
+                // header is not rendered at first read
+                .on("getText", args -> reads.incrementAndGet() == 1 ? "" : "Name\nContact\nEmail\nPhone\n")
+                .build());
+        List<String> headers = DriverContext.call(context, () -> new Grid().getHeaders());
+        assertThat(headers, equalTo(Arrays.asList("Name", "Contact", "Email", "Phone")));
+        assertThat(reads.get(), equalTo(2));
+    }
 }
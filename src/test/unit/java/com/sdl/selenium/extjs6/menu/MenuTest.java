@@ -1,9 +1,16 @@
 package com.sdl.selenium.extjs6.menu;
 
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.DriverContext;
 import com.sdl.selenium.web.SearchType;
+import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.WebLocatorExecutor;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -22,4 +29,15 @@ public class MenuTest {
     public void getPathSelectorCorrectlyFromConstructors(Menu menu, String expectedXpath) {
         assertThat(menu.getXPath(), equalTo(expectedXpath));
     }
+
+    @Test
+    public void menuValuesAreLinesOfMenuBody() throws Exception {
+        DriverContext context = new DriverContext();
+        context.setExecutor(Fake.of(WebLocatorExecutor.class)
+                .on("waitElement", args -> ((WebLocator) args[0]).currentElement = Fake.element("body"))
+                .returns("getText", "Edit\nColors\nExport to PDF")
+                .build());
+        List<String> values = DriverContext.call(context, () -> new Menu().getMenuValues());
+        assertThat(values, equalTo(Arrays.asList("Edit", "Colors", "Export to PDF")));
+    }
 }
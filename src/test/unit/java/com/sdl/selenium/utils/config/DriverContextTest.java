@@ -0,0 +1,111 @@
+package com.sdl.selenium.utils.config;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.WebLocatorUtils;
+import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.WebLocatorExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class DriverContextTest {
+    private WebLocatorExecutor executor;
+
+    @BeforeMethod
+    public void start() {
+        executor = WebLocator.getExecutor();
+    }
+
+    @AfterMethod
+    public void stop() {
+        DriverContext.unbind();
+        WebLocator.setDriverExecutor(executor);
+    }
+
+    @Test
+    public void eachThreadUsesItsOwnDriver() throws Exception {
+        WebLocator.setDriverExecutor(driver("default"));
+        int threads = 4;
+        CountDownLatch ready = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<List<Object>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String name = "browser" + i;
+            results.add(pool.submit(() -> {
+                WebDriver driver = driver(name);
+                DriverContext.bind(new DriverContext(driver));
+                try {
+                    // all threads have their context before any of them runs scripts
+                    ready.countDown();
+                    ready.await(10, TimeUnit.SECONDS);
+                    List<Object> values = new ArrayList<>();
+                    for (int j = 0; j < 20; j++) {
+                        values.add(WebLocatorUtils.doExecuteScript("return name"));
+                    }
+                    values.add(WebDriverConfig.getDriver() == driver);
+                    return values;
+                } finally {
+                    DriverContext.unbind();
+                }
+            }));
+        }
+        for (int i = 0; i < threads; i++) {
+            List<Object> values = results.get(i).get(10, TimeUnit.SECONDS);
+            assertEquals(values.subList(0, 20), Collections.nCopies(20, "browser" + i));
+            assertEquals(values.get(20), true);
+        }
+        pool.shutdown();
+        assertEquals(WebLocatorUtils.doExecuteScript("return name"), "default");
+    }
+
+    @Test
+    public void staticApiChangesDefaultContextWhenNoContextIsBound() {
+        WebLocator.setDriverExecutor(driver("default"));
+        assertSame(WebLocator.getExecutor(), DriverContext.getDefault().getExecutor());
+
+        DriverContext context = new DriverContext();
+        DriverContext.bind(context);
+        WebLocator.setDriverExecutor(driver("bound"));
+        WebDriverConfig.setDownloadPath("bound-downloads");
+        assertSame(WebLocator.getExecutor(), context.getExecutor());
+        assertNotSame(WebLocator.getExecutor(), DriverContext.getDefault().getExecutor());
+        assertEquals(context.getDownloadPath(), "bound-downloads");
+
+        DriverContext.unbind();
+        assertEquals(WebLocatorUtils.doExecuteScript("return name"), "default");
+    }
+
+    @Test
+    public void contextPassedToTaskIsUsedOnlyByTask() throws Exception {
+        WebLocator.setDriverExecutor(driver("default"));
+        DriverContext context = new DriverContext(driver("task"));
+
+        Callable<Object> script = () -> WebLocatorUtils.doExecuteScript("return name");
+        assertEquals(DriverContext.call(context, script), "task");
+        assertEquals(script.call(), "default");
+
+        List<Object> values = new ArrayList<>();
+        DriverContext.run(context, () -> values.add(WebLocatorUtils.doExecuteScript("return name")));
+        assertEquals(values.get(0), "task");
+        assertSame(DriverContext.current(), DriverContext.getDefault());
+    }
+
+    private static WebDriver driver(String name) {
+        return Fake.driver().named(name).returns("executeScript", name).build();
+    }
+}
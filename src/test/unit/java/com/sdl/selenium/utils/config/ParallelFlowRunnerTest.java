@@ -0,0 +1,104 @@
+package com.sdl.selenium.utils.config;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.WebLocatorUtils;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ParallelFlowRunnerTest {
+
+    @Test
+    public void eachFlowUsesDriverOfItsSession() {
+        AtomicInteger browsers = new AtomicInteger();
+        Set<String> used = ConcurrentHashMap.newKeySet();
+        CountDownLatch together = new CountDownLatch(3);
+        try (WebDriverPool pool = new WebDriverPool(3, () -> driver("browser" + browsers.incrementAndGet())).start()) {
+            ParallelFlowRunner.Report report = new ParallelFlowRunner(pool).run("script", 12, context -> {
+                Object name = WebLocatorUtils.doExecuteScript("return name");
+                assertEquals(name, context.getDriver().toString());
+                assertTrue(WebDriverConfig.getDriver() == context.getDriver());
+                used.add((String) name);
+                // first flows hold their browsers until all browsers are leased
+                together.countDown();
+                together.await(10, TimeUnit.SECONDS);
+            });
+
+            assertEquals(report.getResults().size(), 12);
+            assertEquals(report.getPassed(), 12);
+            assertEquals(report.getResults().get(11).getName(), "script #12");
+            assertEquals(used.size(), 3);
+            assertEquals(pool.getLeases(), 12);
+            assertEquals(pool.getIdleCount(), 3);
+        }
+    }
+
+    @Test
+    public void failuresAreReported() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (WebDriverPool pool = new WebDriverPool(2, () -> driver("browser")).start()) {
+            Map<String, ParallelFlowRunner.Flow> flows = new LinkedHashMap<>();
+            flows.put("login", context -> {
+            });
+            flows.put("save", context -> {
+                throw new AssertionError("grid is empty");
+            });
+            flows.put("verify", context -> {
+            });
+            ParallelFlowRunner.Report report = new ParallelFlowRunner(pool).setExecutor(executor).setLeaseTimeout(Duration.ofSeconds(10)).run(flows);
+
+            assertEquals(report.getFailed(), 1);
+            assertEquals(report.getFailures().get(0).getName(), "save");
+            assertEquals(report.getFailures().get(0).getError().getMessage(), "grid is empty");
+            assertTrue(report.getResults().get(0).isSuccess());
+            assertTrue(report.getPercentileMillis(95) <= report.getMaxMillis());
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void errorOfFlowIsReportedAndBrowserIsReleased() {
+        try (WebDriverPool pool = new WebDriverPool(1, () -> driver("browser")).start()) {
+            Map<String, ParallelFlowRunner.Flow> flows = new LinkedHashMap<>();
+            flows.put("recursive", context -> {
+                throw new StackOverflowError("too deep");
+            });
+            flows.put("next", context -> {
+            });
+            ParallelFlowRunner.Report report = new ParallelFlowRunner(pool).setLeaseTimeout(Duration.ofSeconds(10)).run(flows);
+
+            assertEquals(report.getFailed(), 1);
+            assertTrue(report.getFailures().get(0).getError() instanceof StackOverflowError);
+            assertTrue(report.getResults().get(1).isSuccess());
+            assertEquals(pool.getLeasedCount(), 0);
+            assertEquals(pool.getIdleCount(), 1);
+        }
+    }
+
+    private static WebDriver driver(String name) {
+        return Fake.driver().named(name)
+                .returns("getWindowHandles", Collections.singleton("main"))
+                .returns("switchTo", Fake.of(WebDriver.TargetLocator.class).otherwise(args -> null).build())
+                .returns("manage", Fake.of(WebDriver.Options.class).otherwise(args -> null).build())
+                .returns("executeScript", name)
+                .otherwise(args -> null)
+                .build();
+    }
+}
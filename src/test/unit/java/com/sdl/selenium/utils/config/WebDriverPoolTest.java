@@ -0,0 +1,254 @@
+package com.sdl.selenium.utils.config;
+
+import com.sdl.selenium.Fake;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class WebDriverPoolTest {
+    private WebDriverPool pool;
+
+    @AfterMethod
+    public void stop() {
+        DriverContext.unbind();
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void browsersAreLeasedToThreadAndResetOnRelease() {
+        List<FakeBrowser> browsers = Collections.synchronizedList(new ArrayList<>());
+        pool = new WebDriverPool(2, () -> {
+            FakeBrowser browser = new FakeBrowser(browsers.size());
+            browsers.add(browser);
+            return browser.driver;
+        }).start();
+
+        DriverContext first = pool.lease(Duration.ofSeconds(10));
+        assertSame(DriverContext.current(), first);
+        assertSame(WebDriverConfig.getDriver(), first.getDriver());
+        DriverContext.unbind();
+        DriverContext second = pool.lease(Duration.ofSeconds(10));
+        assertNotSame(second, first);
+        try {
+            pool.lease(Duration.ofMillis(50));
+            fail("all browsers are leased");
+        } catch (TimeoutException e) {
+            // expected
+        }
+
+        FakeBrowser browser = browsers.get(0).driver == second.getDriver() ? browsers.get(0) : browsers.get(1);
+        browser.windows.put("popup", "http://localhost/popup");
+        browser.calls.clear();
+        pool.release(second);
+        assertSame(DriverContext.current(), DriverContext.getDefault());
+        assertEquals(browser.calls, Arrays.asList("getWindowHandles", "window popup", "executeScript", "deleteAllCookies", "close",
+                "window main", "get about:blank"));
+
+        assertSame(pool.lease(Duration.ofSeconds(10)), second);
+        assertEquals(pool.getStarted(), 2);
+        assertEquals(pool.getLeases(), 3);
+        assertEquals(pool.getLeasedCount(), 2);
+        assertTrue(pool.getMaxLeaseWaitMillis() >= pool.getAverageLeaseWaitMillis());
+    }
+
+    @Test
+    public void nextLeaseIsCleanAfterTwoOrigins() {
+        List<FakeBrowser> browsers = Collections.synchronizedList(new ArrayList<>());
+        pool = new WebDriverPool(1, () -> {
+            FakeBrowser browser = new FakeBrowser(browsers.size());
+            browsers.add(browser);
+            return new EventFiringWebDriver(browser.driver);
+        }).start();
+        DriverContext context = pool.lease(Duration.ofSeconds(10));
+        FakeBrowser browser = browsers.get(0);
+        context.getDriver().get("http://one.test/login");
+        context.getDriver().get("https://two.test:8443/app?id=1");
+        browser.windows.put("popup", "http://three.test/help");
+        browser.current = "popup";
+        assertEquals(browser.storage, new LinkedHashSet<>(Arrays.asList("http://one.test", "https://two.test:8443")));
+
+        pool.release(context);
+        assertTrue(browser.storage.isEmpty(), "storage: " + browser.storage);
+        assertTrue(browser.cookies.isEmpty(), "cookies: " + browser.cookies);
+        assertEquals(browser.current, "main");
+        assertEquals(browser.windows, Collections.singletonMap("main", "about:blank"));
+
+        assertSame(pool.lease(Duration.ofSeconds(10)), context);
+        assertEquals(pool.getReplaced(), 0);
+    }
+
+    @Test
+    public void firstWindowIsKeptWhateverTheOrderOfHandles() {
+        List<FakeBrowser> browsers = Collections.synchronizedList(new ArrayList<>());
+        pool = new WebDriverPool(1, () -> {
+            FakeBrowser browser = new FakeBrowser(browsers.size());
+            browsers.add(browser);
+            return browser.driver;
+        }).start();
+        DriverContext context = pool.lease(Duration.ofSeconds(10));
+        FakeBrowser browser = browsers.get(0);
+        browser.windows.put("a-popup", "about:blank");
+        browser.windows.put("b-popup", "about:blank");
+
+        pool.release(context);
+        assertEquals(browser.windows.keySet(), Collections.singleton("main"));
+        assertEquals(browser.current, "main");
+    }
+
+    @Test
+    public void originIsSchemeHostAndPort() {
+        assertEquals(WebDriverPool.origin("HTTPS://Two.test:8443/app?id=1"), "https://two.test:8443");
+        assertEquals(WebDriverPool.origin("http://one.test"), "http://one.test");
+        assertEquals(WebDriverPool.origin("about:blank"), null);
+        assertEquals(WebDriverPool.origin("data:,"), null);
+        assertEquals(WebDriverPool.origin(null), null);
+    }
+
+    @Test
+    public void crashedBrowserIsReplaced() {
+        List<FakeBrowser> browsers = Collections.synchronizedList(new ArrayList<>());
+        pool = new WebDriverPool(1, () -> {
+            FakeBrowser browser = new FakeBrowser(browsers.size());
+            browsers.add(browser);
+            return browser.driver;
+        }).start();
+
+        DriverContext context = pool.lease(Duration.ofSeconds(10));
+        pool.release(context);
+        browsers.get(0).crashed = true;
+
+        DriverContext replacement = pool.lease(Duration.ofSeconds(10));
+        assertSame(replacement.getDriver(), browsers.get(1).driver);
+        assertTrue(browsers.get(0).calls.contains("quit"));
+        assertEquals(pool.getReplaced(), 1);
+        assertEquals(pool.getStarted(), 2);
+    }
+
+    @Test
+    public void failedStartIsCounted() {
+        AtomicInteger starts = new AtomicInteger();
+        pool = new WebDriverPool(1, () -> {
+            starts.incrementAndGet();
+            throw new WebDriverException("no browser");
+        }).start();
+        try {
+            pool.lease(Duration.ofMillis(200));
+            fail("browser was not started");
+        } catch (TimeoutException e) {
+            assertTrue(pool.getFailedStarts() >= 1);
+            assertTrue(starts.get() <= 2, "starts are retried at most once a second: " + starts);
+        }
+    }
+
+    @Test
+    public void browserThatFailedToStartIsStartedAgainByLease() throws InterruptedException {
+        AtomicInteger starts = new AtomicInteger();
+        pool = new WebDriverPool(1, () -> {
+            if (starts.incrementAndGet() == 1) {
+                throw new WebDriverException("no browser");
+            }
+            return new FakeBrowser(1).driver;
+        }).start();
+        for (int i = 0; i < 100 && pool.getFailedStarts() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(pool.getFailedStarts(), 1);
+
+        DriverContext context = pool.lease(Duration.ofSeconds(10));
+        assertEquals(starts.get(), 2);
+        assertEquals(pool.getStarted(), 1);
+        pool.release(context);
+        assertSame(pool.lease(Duration.ofSeconds(10)), context);
+        assertEquals(starts.get(), 2);
+    }
+
+    /**
+     * Browser with windows (handle: url), and origins that have storage or cookies; pages store both when they are loaded.
+     * Window handles are given in reverse order of opening.
+     */
+    private static final class FakeBrowser {
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, String> windows = Collections.synchronizedMap(new LinkedHashMap<>(Collections.singletonMap("main", "about:blank")));
+        private final Set<String> storage = Collections.synchronizedSet(new LinkedHashSet<>());
+        private final Set<String> cookies = Collections.synchronizedSet(new LinkedHashSet<>());
+        private final WebDriver driver;
+        private volatile String current = "main";
+        private volatile boolean crashed;
+
+        private FakeBrowser(int index) {
+            WebDriver.TargetLocator targetLocator = Fake.of(WebDriver.TargetLocator.class).on("window", args -> {
+                calls.add("window " + args[0]);
+                current = (String) args[0];
+                return null;
+            }).build();
+            WebDriver.Options options = Fake.of(WebDriver.Options.class).on("deleteAllCookies", args -> {
+                calls.add("deleteAllCookies");
+                cookies.remove(WebDriverPool.origin(windows.get(current)));
+                return null;
+            }).build();
+            driver = Fake.driver().named("browser" + index)
+                    .on("getWindowHandle", alive(index, args -> current))
+                    .on("getWindowHandles", alive(index, args -> {
+                        calls.add("getWindowHandles");
+                        List<String> handles = new ArrayList<>(windows.keySet());
+                        Collections.reverse(handles);
+                        return new LinkedHashSet<>(handles);
+                    }))
+                    .on("getCurrentUrl", alive(index, args -> windows.get(current)))
+                    .on("switchTo", alive(index, args -> targetLocator))
+                    .on("manage", alive(index, args -> options))
+                    .on("close", alive(index, args -> {
+                        windows.remove(current);
+                        calls.add("close");
+                        return null;
+                    }))
+                    .on("get", alive(index, args -> {
+                        calls.add("get " + args[0]);
+                        windows.put(current, (String) args[0]);
+                        String origin = WebDriverPool.origin((String) args[0]);
+                        if (origin != null) {
+                            storage.add(origin);
+                            cookies.add(origin);
+                        }
+                        return null;
+                    }))
+                    .on("executeScript", alive(index, args -> {
+                        calls.add("executeScript");
+                        return storage.remove(WebDriverPool.origin(windows.get(current)));
+                    }))
+                    .on("quit", args -> calls.add("quit"))
+                    .build();
+        }
+
+        private Fake.Answer alive(int index, Fake.Answer answer) {
+            return args -> {
+                if (crashed) {
+                    throw new WebDriverException("session " + index + " crashed");
+                }
+                return answer.answer(args);
+            };
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.DriverContext;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class AsyncTest {
+    private static final WebElement ELEMENT = Fake.element("element");
+
+    private final List<DriverContext> contexts = new ArrayList<>();
+
+    @AfterMethod
+    public void stop() {
+        DriverContext.unbind();
+        contexts.forEach(DriverContext::shutdown);
+        contexts.clear();
+    }
+
+    @Test
+    public void operationsOfSessionRunOneAtATimeInOrder() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        DriverContext.bind(context(calls, running, maxRunning, 20, true));
+        WebLocator save = new WebLocator().setId("save");
+
+        CompletableFuture<Boolean> click = save.clickAsync();
+        CompletableFuture<String> text = save.getTextAsync();
+        CompletableFuture<Boolean> ready = save.readyAsync(1);
+
+        assertTrue(click.get(10, TimeUnit.SECONDS));
+        assertEquals(text.get(10, TimeUnit.SECONDS), "Save");
+        assertTrue(ready.get(10, TimeUnit.SECONDS));
+        assertEquals(maxRunning.get(), 1);
+        assertEquals(calls, Arrays.asList("waitElement", "click", "waitElement", "getText", "waitElement"));
+    }
+
+    @Test
+    public void waitsOfDifferentSessionsOverlap() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        // locators keep the element found, so each session has its own
+        WebLocator firstGrid = new WebLocator().setClasses("grid");
+        WebLocator secondGrid = new WebLocator().setClasses("grid");
+
+        DriverContext.bind(context(new ArrayList<>(), running, maxRunning, 300, true));
+        CompletableFuture<Boolean> first = firstGrid.waitToRenderAsync(1000);
+        DriverContext.bind(context(new ArrayList<>(), running, maxRunning, 300, true));
+        CompletableFuture<Boolean> second = secondGrid.waitToRenderAsync(1000);
+
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+        assertTrue(first.get() && second.get());
+        assertEquals(maxRunning.get(), 2);
+    }
+
+    @Test
+    public void operationsRunOnGivenContext() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        DriverContext context = context(calls, new AtomicInteger(), new AtomicInteger(), 0, true);
+        WebLocator save = new WebLocator().setId("save");
+
+        assertTrue(save.clickAsync(context).get(10, TimeUnit.SECONDS));
+        assertEquals(save.getTextAsync(context).get(10, TimeUnit.SECONDS), "Save");
+        assertTrue(save.waitToRenderAsync(context, 100).get(10, TimeUnit.SECONDS));
+        assertTrue(save.readyAsync(context, 1).get(10, TimeUnit.SECONDS));
+        assertSame(DriverContext.current(), DriverContext.getDefault());
+        assertEquals(calls, Arrays.asList("waitElement", "click", "waitElement", "getText", "waitElement", "waitElement"));
+    }
+
+    @Test
+    public void operationWaitedByTaskOfSameContextRunsInline() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        DriverContext context = context(calls, new AtomicInteger(), new AtomicInteger(), 0, true);
+        WebLocator save = new WebLocator().setId("save");
+
+        CompletableFuture<String> text = context.supplyAsync(() -> {
+            String thread = Thread.currentThread().getName();
+            String inner = save.getTextAsync(context).join();
+            assertEquals(context.supplyAsync(() -> Thread.currentThread().getName()).join(), thread);
+            return inner;
+        });
+        assertEquals(text.get(10, TimeUnit.SECONDS), "Save");
+        assertEquals(calls, Arrays.asList("waitElement", "getText"));
+
+        CompletableFuture<Boolean> failed = context.supplyAsync(() -> context.supplyAsync(() -> {
+            throw new IllegalStateException("inner");
+        }).isCompletedExceptionally());
+        assertTrue(failed.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failedClickCompletesExceptionally() throws Exception {
+        DriverContext.bind(context(new ArrayList<>(), new AtomicInteger(), new AtomicInteger(), 0, false));
+        WebLocator save = new WebLocator().setId("save");
+        try {
+            save.clickAsync().join();
+            fail("element is not rendered");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof AssertionError);
+        }
+        assertEquals(save.waitToRenderAsync(10).get(10, TimeUnit.SECONDS), Boolean.FALSE);
+    }
+
+    private DriverContext context(List<String> calls, AtomicInteger running, AtomicInteger maxRunning, long waitMillis, boolean found) {
+        DriverContext context = new DriverContext();
+        context.setExecutor(Fake.of(WebLocatorExecutor.class).recording(calls)
+                .on("waitElement", counted(running, maxRunning, args -> {
+                    TimeUnit.MILLISECONDS.sleep(waitMillis);
+                    WebLocator el = (WebLocator) args[0];
+                    el.currentElement = found ? ELEMENT : null;
+                    return el.currentElement;
+                }))
+                .on("click", counted(running, maxRunning, args -> true))
+                .on("getText", counted(running, maxRunning, args -> "Save"))
+                .build());
+        contexts.add(context);
+        return context;
+    }
+
+    private static Fake.Answer counted(AtomicInteger running, AtomicInteger maxRunning, Fake.Answer answer) {
+        return args -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                return answer.answer(args);
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+    }
+}
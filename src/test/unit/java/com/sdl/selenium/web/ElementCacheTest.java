@@ -0,0 +1,198 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+
+public class ElementCacheTest {
+    private boolean cacheElements;
+
+    @BeforeMethod
+    public void start() {
+        cacheElements = WebLocatorConfig.isCacheElements();
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setCacheElements(cacheElements);
+    }
+
+    @Test
+    public void elementIsFoundForEachActionWhenCacheIsDisabled() {
+        WebLocatorConfig.setCacheElements(false);
+        List<WebElement> found = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(found));
+        WebLocator el = new WebLocator().setClasses("save");
+
+        assertEquals(executor.getText(el), "text 1");
+        assertEquals(executor.getText(el), "text 2");
+        assertEquals(found.size(), 2);
+        assertEquals(executor.getElementCache().getHits() + executor.getElementCache().getMisses(), 0);
+    }
+
+    @Test
+    public void cachedElementIsUsedForActions() {
+        WebLocatorConfig.setCacheElements(true);
+        List<WebElement> found = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(found));
+        WebLocator el = new WebLocator().setClasses("save");
+
+        assertEquals(executor.getText(el), "text 1");
+        assertEquals(executor.getAttribute(el, "class"), "class 1");
+        assertEquals(executor.getText(new WebLocator().setClasses("save")), "text 1");
+        assertEquals(found.size(), 1);
+        assertEquals(executor.getElementCache().getMisses(), 1);
+        assertEquals(executor.getElementCache().getHits(), 2);
+    }
+
+    @Test
+    public void elementFoundByWaitIsUsedForActions() {
+        WebLocatorConfig.setCacheElements(true);
+        List<WebElement> found = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(found));
+        WebLocator el = new WebLocator().setClasses("save");
+
+        executor.waitElement(el, 0, false);
+        assertEquals(executor.getText(el), "text 1");
+        assertEquals(found.size(), 1);
+        assertEquals(executor.getElementCache().getHits(), 1);
+    }
+
+    @Test
+    public void staleElementIsFoundAgain() {
+        WebLocatorConfig.setCacheElements(true);
+        List<WebElement> found = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(found));
+        WebLocator el = new WebLocator().setClasses("save");
+
+        assertEquals(executor.getText(el), "text 1");
+        // removed from page
+        executor.getElementCache().put(el.getCssSelector() == null ? el.getXPath() : el.getCssSelector(), stale());
+        assertEquals(executor.getText(el), "text 2");
+        assertEquals(executor.getText(el), "text 2");
+        assertEquals(found.size(), 2);
+        assertEquals(executor.getElementCache().getEvictions(), 1);
+    }
+
+    @Test
+    public void elementsAreCachedForEachExecutor() {
+        WebLocatorConfig.setCacheElements(true);
+        List<WebElement> found = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(found));
+        WebLocatorDriverExecutor otherExecutor = new WebLocatorDriverExecutor(driver(found));
+        WebLocator el = new WebLocator().setClasses("save");
+
+        assertEquals(executor.getText(el), "text 1");
+        assertEquals(otherExecutor.getText(el), "text 2");
+        assertEquals(found.size(), 2);
+        assertEquals(executor.getElementCache().size(), 1);
+        assertEquals(otherExecutor.getElementCache().size(), 1);
+    }
+
+    @Test
+    public void cacheIsClearedAfterWriteActions() {
+        WebLocatorConfig.setCacheElements(true);
+        List<WebElement> found = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(found));
+        WebLocator el = new WebLocator().setClasses("save");
+
+        assertEquals(executor.getText(el), "text 1");
+        executor.click(el);
+        assertEquals(executor.getElementCache().size(), 0);
+        assertEquals(executor.getText(el), "text 2");
+        executor.clear(el);
+        assertEquals(executor.getText(el), "text 3");
+        assertEquals(found.size(), 3);
+    }
+
+    @Test
+    public void cacheIsClearedWhenPageChanged() {
+        WebLocatorConfig.setCacheElements(true);
+        List<WebElement> found = new ArrayList<>();
+        EventFiringWebDriver driver = new EventFiringWebDriver(driver(found));
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver);
+        WebLocator el = new WebLocator().setClasses("save");
+
+        assertEquals(executor.getText(el), "text 1");
+        driver.get("http://localhost/next");
+        assertEquals(executor.getText(el), "text 2");
+        driver.navigate().back();
+        assertEquals(executor.getText(el), "text 3");
+        executor.pageChanged();
+        assertEquals(executor.getText(el), "text 4");
+        assertEquals(executor.getText(el), "text 4");
+        assertEquals(found.size(), 4);
+    }
+
+    @Test
+    public void hiddenElementIsFoundAgainForVisibility() {
+        WebLocatorConfig.setCacheElements(true);
+        List<WebElement> found = new ArrayList<>();
+        Set<String> hidden = new HashSet<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(found, hidden));
+        WebLocator el = new WebLocator().setClasses("save").setVisibility(true);
+
+        assertEquals(executor.getText(el), "text 1");
+        assertEquals(executor.getText(el), "text 1");
+        // element was hidden in place, another one is shown
+        hidden.add("element 1");
+        assertEquals(executor.getText(el), "text 2");
+        assertEquals(found.size(), 2);
+        assertEquals(executor.getElementCache().getEvictions(), 1);
+    }
+
+    /**
+     * @param found each findElement returns a new element, with text "text " + number of elements found
+     */
+    private static WebDriver driver(List<WebElement> found) {
+        return driver(found, new HashSet<>());
+    }
+
+    /**
+     * @param hidden names of elements that are not displayed
+     */
+    private static WebDriver driver(List<WebElement> found, Set<String> hidden) {
+        WebDriver.Navigation navigation = Fake.of(WebDriver.Navigation.class).otherwise(args -> null).build();
+        return Fake.of(WebDriver.class).on("findElement", args -> {
+            WebElement element = element(found.size() + 1, hidden);
+            found.add(element);
+            return element;
+        }).on("findElements", args -> {
+            // visibility wait
+            WebElement element = element(found.size() + 1, hidden);
+            found.add(element);
+            return Collections.singletonList(element);
+        }).returns("get", null).returns("navigate", navigation).build();
+    }
+
+    private static WebElement element(int index, Set<String> hidden) {
+        String name = "element " + index;
+        return Fake.element().named(name)
+                .returns("getText", "text " + index)
+                .on("getAttribute", args -> args[0] + " " + index)
+                .on("isDisplayed", args -> !hidden.contains(name))
+                .returns("click", null)
+                .returns("clear", null)
+                .build();
+    }
+
+    private static WebElement stale() {
+        return Fake.element().named("stale").otherwise(args -> {
+            throw new StaleElementReferenceException("stale element");
+        }).build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class MutationObserverWaitTest {
+    private static final WebElement ELEMENT = Fake.element("element");
+
+    private boolean mutationObserverWait;
+    private boolean generateCssSelector;
+
+    @BeforeMethod
+    public void start() {
+        mutationObserverWait = WebLocatorConfig.isMutationObserverWait();
+        generateCssSelector = WebLocatorConfig.isGenerateCssSelector();
+        WebLocatorConfig.setMutationObserverWait(true);
+        WebLocatorConfig.setGenerateCssSelector(true);
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setMutationObserverWait(mutationObserverWait);
+        WebLocatorConfig.setGenerateCssSelector(generateCssSelector);
+    }
+
+    @Test
+    public void elementIsFoundWithOneScript() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, args -> ELEMENT));
+
+        assertSame(executor.waitElement(new WebLocator().setClasses("save").setVisibility(true), Duration.ofSeconds(3), false), ELEMENT);
+        assertSame(executor.waitElement(new WebLocator().setText("Save"), Duration.ofMillis(500), false), ELEMENT);
+        assertEquals(calls, Arrays.asList("script: [.save, true, true, 3000]", "script: [//*[contains(text(),'Save')], false, false, 500]"));
+    }
+
+    @Test
+    public void elementIsNotSearchedAgainAfterTimeoutOfScript() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, args -> null));
+
+        assertNull(executor.waitElement(new WebLocator().setClasses("save"), Duration.ofMillis(100), false));
+        assertEquals(calls, Arrays.asList("script: [.save, true, false, 100]"));
+    }
+
+    @Test
+    public void elementIsPresentWithoutScript() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, args -> ELEMENT));
+
+        assertSame(executor.findElement(new WebLocator().setClasses("save")), ELEMENT);
+        assertEquals(calls, Arrays.asList("findElement: By.cssSelector: .save"));
+    }
+
+    @Test
+    public void pollingIsUsedWhenDriverHasNoAsyncScripts() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, args -> {
+            throw new UnsupportedCommandException("executeAsyncScript");
+        }));
+
+        assertSame(executor.waitElement(new WebLocator().setClasses("save"), Duration.ofSeconds(1), false), ELEMENT);
+        assertSame(executor.waitElement(new WebLocator().setClasses("save"), Duration.ofSeconds(1), false), ELEMENT);
+        assertEquals(calls, Arrays.asList("script: [.save, true, false, 1000]", "findElement: By.cssSelector: .save", "findElement: By.cssSelector: .save"));
+    }
+
+    @Test
+    public void pollingIsUsedWhenBrowserHasNoMutationObserver() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, args -> "unsupported"));
+
+        assertSame(executor.waitElement(new WebLocator().setClasses("save"), Duration.ofSeconds(1), false), ELEMENT);
+        assertSame(executor.waitElement(new WebLocator().setClasses("save"), Duration.ofSeconds(1), false), ELEMENT);
+        assertEquals(calls, Arrays.asList("script: [.save, true, false, 1000]", "findElement: By.cssSelector: .save", "findElement: By.cssSelector: .save"));
+    }
+
+    @Test
+    public void pollingIsUsedAfterScriptTimeout() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, args -> {
+            throw new ScriptTimeoutException("script timeout");
+        }));
+
+        assertSame(executor.waitElement(new WebLocator().setClasses("save"), Duration.ofSeconds(1), false), ELEMENT);
+        assertSame(executor.waitElement(new WebLocator().setClasses("save"), Duration.ofSeconds(1), false), ELEMENT);
+        assertEquals(calls, Arrays.asList("script: [.save, true, false, 1000]", "findElement: By.cssSelector: .save",
+                "script: [.save, true, false, 1000]", "findElement: By.cssSelector: .save"));
+    }
+
+    private static WebDriver driver(List<String> calls, Function<Object[], Object> asyncScript) {
+        return Fake.driver()
+                .on("executeAsyncScript", args -> {
+                    Object[] arguments = (Object[]) args[1];
+                    calls.add("script: " + Arrays.toString(arguments));
+                    return asyncScript.apply(arguments);
+                })
+                .on("findElement", args -> {
+                    calls.add("findElement: " + args[0]);
+                    return ELEMENT;
+                })
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PollingStrategyTest {
+
+    @BeforeMethod
+    public void start() {
+        WaitMetrics.getInstance().reset();
+    }
+
+    @DataProvider
+    public static Object[][] delays() {
+        return new Object[][]{
+                {"fixed:1", 1, 0, 1},
+                {"fixed:1", 20, 300, 1},
+                {"exponential:10:2:500", 1, 0, 10},
+                {"exponential:10:2:500", 3, 0, 40},
+                {"exponential:10:2:500", 6, 0, 320},
+                {"exponential:10:2:500", 7, 0, 500},
+                {"exponential:10:2:500", 1000, 0, 500},
+                {" latency : 1.5 : 5 : 500 ", 1, 0, 5},
+                {"latency:1.5:5:500", 1, 40, 60},
+                {"latency:1.5:5:500", 1, 1000, 500},
+        };
+    }
+
+    @Test(dataProvider = "delays")
+    public void nextDelay(String strategy, int polls, long roundTripMillis, long expectedMillis) {
+        assertEquals(PollingStrategy.parse(strategy).nextDelay(polls, Duration.ofMillis(roundTripMillis)), Duration.ofMillis(expectedMillis));
+    }
+
+    @Test
+    public void parsedStrategyIsSameAsConfig() {
+        assertEquals(PollingStrategy.parse("exponential:10:2.0:500").toString(), "exponential:10:2.0:500");
+        assertEquals(PollingStrategy.parse("latency:1.5:5:500").toString(), "latency:1.5:5:500");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidStrategy() {
+        PollingStrategy.parse("exponential:10");
+    }
+
+    @Test
+    public void locatorStrategyIsUsedForWait() {
+        AtomicInteger searches = new AtomicInteger();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(searches, 4));
+        WebLocator el = new WebLocator().setClasses("late").setPollingStrategy(PollingStrategy.exponential(Duration.ofMillis(5), 2, Duration.ofMillis(20)));
+
+        long start = System.nanoTime();
+        assertNotNull(executor.waitElement(el, Duration.ofSeconds(10), false));
+        long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        assertEquals(searches.get(), 4);
+        // 5 + 10 + 20
+        assertTrue(millis >= 35 && millis < 5000, "waited " + millis);
+        assertEquals(WaitMetrics.getInstance().getFoundWaits(), 1);
+        assertEquals(WaitMetrics.getInstance().getPollsPerFoundWait(), 4.0);
+    }
+
+    @Test
+    public void lastSearchIsAtTimeout() {
+        AtomicInteger searches = new AtomicInteger();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(searches, Integer.MAX_VALUE));
+        WebLocator el = new WebLocator().setClasses("missing").setPollingStrategy(PollingStrategy.fixed(Duration.ofSeconds(10)));
+
+        assertNull(executor.waitElement(el, Duration.ofMillis(50), false));
+        assertEquals(searches.get(), 2);
+        assertEquals(WaitMetrics.getInstance().getTimedOutWaits(), 1);
+        assertEquals(WaitMetrics.getInstance().getPolls(), 2);
+
+        assertNull(executor.waitElement(el, Duration.ZERO, false));
+        assertEquals(searches.get(), 3);
+    }
+
+    /**
+     * @param foundAt element is found at this search
+     */
+    private static WebDriver driver(AtomicInteger searches, int foundAt) {
+        WebElement element = Fake.element("element");
+        return Fake.of(WebDriver.class).on("findElement", args -> {
+            if (searches.incrementAndGet() < foundAt) {
+                throw new NoSuchElementException(args[0].toString());
+            }
+            return element;
+        }).build();
+    }
+}
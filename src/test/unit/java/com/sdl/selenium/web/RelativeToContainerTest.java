@@ -0,0 +1,152 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.extjs6.grid.Grid;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class RelativeToContainerTest {
+    private static final WebLocator CONTAINER = new WebLocator().setClasses("container");
+
+    private boolean relativeToContainer;
+    private boolean generateCssSelector;
+
+    @BeforeMethod
+    public void start() {
+        relativeToContainer = WebLocatorConfig.isRelativeToContainer();
+        generateCssSelector = WebLocatorConfig.isGenerateCssSelector();
+        WebLocatorConfig.setGenerateCssSelector(false);
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setRelativeToContainer(relativeToContainer);
+        WebLocatorConfig.setGenerateCssSelector(generateCssSelector);
+    }
+
+    @DataProvider
+    public static Object[][] relativeSelectors() {
+        return new Object[][]{
+                {new WebLocator(CONTAINER).setText("Save"), By.xpath(".//*[contains(text(),'Save')]")},
+                {new WebLocator(CONTAINER).setRoot("/").setTag("span"), By.xpath("./span")},
+                {new WebLocator(CONTAINER).setClasses("cell").setResultIdx(2), By.xpath("(.//*[contains(concat(' ', @class, ' '), ' cell ')])[2]")},
+                {new WebLocator(CONTAINER).setElPath("//td[2]"), By.xpath(".//td[2]")},
+                {new WebLocator(CONTAINER).setElPath("(//td)[2]"), null},
+                {new WebLocator().setText("Save"), null},
+                {new Grid().getCell(1, 2), By.xpath(".//td[2]")},
+        };
+    }
+
+    @Test(dataProvider = "relativeSelectors")
+    public void relativeSelector(WebLocator el, By expected) {
+        assertEquals(el.getPathBuilder().getRelativeSelector(), expected);
+    }
+
+    @Test
+    public void relativeCssSelector() {
+        WebLocatorConfig.setGenerateCssSelector(true);
+        WebLocator el = new WebLocator(CONTAINER).setClasses("cell");
+        assertEquals(el.getPathBuilder().getRelativeSelector(), By.cssSelector(".cell"));
+        assertEquals(el.getPathBuilder().setRoot("/").getRelativeSelector(), By.xpath("./*[contains(concat(' ', @class, ' '), ' cell ')]"));
+    }
+
+    @Test
+    public void childIsFoundInContainerElement() {
+        WebLocatorConfig.setRelativeToContainer(true);
+        List<String> calls = new ArrayList<>();
+        WebElement child = element("child", calls, false);
+        WebElement container = element("container", calls, false, child);
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, container, child));
+
+        WebLocator containerEl = new WebLocator().setClasses("container");
+        WebLocator el = new WebLocator(containerEl).setText("Save");
+        assertSame(executor.findElement(containerEl), container);
+        assertSame(executor.findElement(el), child);
+        assertEquals(calls, Arrays.asList(
+                "driver: " + containerEl.getSelector(),
+                "container: " + By.xpath(".//*[contains(text(),'Save')]")));
+    }
+
+    @Test
+    public void staleContainerFallsBackToDocumentRoot() {
+        WebLocatorConfig.setRelativeToContainer(true);
+        List<String> calls = new ArrayList<>();
+        WebElement child = element("child", calls, false);
+        WebElement container = element("container", calls, true);
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, container, child));
+
+        WebLocator containerEl = new WebLocator().setClasses("container");
+        WebLocator el = new WebLocator(containerEl).setText("Save");
+        executor.findElement(containerEl);
+        assertSame(executor.findElement(el), child);
+        assertNull(containerEl.currentElement);
+        assertEquals(calls, Arrays.asList(
+                "driver: " + containerEl.getSelector(),
+                "container: " + By.xpath(".//*[contains(text(),'Save')]"),
+                "driver: " + el.getSelector()));
+    }
+
+    @Test
+    public void changedContainerIsNotUsed() {
+        WebLocatorConfig.setRelativeToContainer(true);
+        List<String> calls = new ArrayList<>();
+        WebElement child = element("child", calls, false);
+        WebElement container = element("container", calls, false, child);
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, container, child));
+
+        WebLocator containerEl = new WebLocator().setClasses("container");
+        WebLocator el = new WebLocator(containerEl).setText("Save");
+        executor.findElement(containerEl);
+        containerEl.setClasses("other");
+        executor.findElement(el);
+        assertEquals(calls.get(calls.size() - 1), "driver: " + el.getSelector());
+    }
+
+    /**
+     * @param container returned for selectors of the container, child is returned for any other selector
+     */
+    private static WebDriver driver(List<String> calls, WebElement container, WebElement child) {
+        return Fake.of(WebDriver.class)
+                .on("findElement", args -> {
+                    calls.add("driver: " + args[0]);
+                    return args[0].toString().endsWith("' container ')]") ? container : child;
+                })
+                .on("findElements", args -> {
+                    calls.add("driver: " + args[0]);
+                    return Collections.singletonList(child);
+                })
+                .build();
+    }
+
+    private static WebElement element(String name, List<String> calls, boolean stale, WebElement... children) {
+        return Fake.element().named(name)
+                .on("findElement", args -> {
+                    calls.add(name + ": " + args[0]);
+                    if (stale) {
+                        throw new StaleElementReferenceException(name);
+                    } else if (children.length == 0) {
+                        throw new NoSuchElementException(args[0].toString());
+                    }
+                    return children[0];
+                })
+                .returns("isDisplayed", !stale)
+                .build();
+    }
+}
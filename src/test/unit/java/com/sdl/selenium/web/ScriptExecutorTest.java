@@ -0,0 +1,97 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ScriptExecutorTest {
+
+    @Test
+    public void findAndActionInOneScript() {
+        List<String> calls = new ArrayList<>();
+        WebElement element = element(calls);
+        WebLocatorScriptExecutor executor = new WebLocatorScriptExecutor(driver(calls, element, true));
+        WebLocator el = new WebLocator().setClasses("name");
+
+        assertTrue(executor.click(el));
+        assertSame(el.currentElement, element);
+        assertTrue(executor.setValue(el, "John"));
+        assertEquals(executor.getText(el), "text");
+        assertEquals(executor.getAttribute(el, "title"), "title");
+        assertTrue(executor.focus(el));
+        assertTrue(executor.blur(el));
+        assertTrue(executor.mouseOver(el));
+        assertTrue(executor.scrollIntoView(el));
+        assertEquals(calls, Arrays.asList("script: [.name, true, false, click, null]", "script: [.name, true, false, setValue, John]",
+                "script: [.name, true, false, getText, null]", "script: [.name, true, false, getAttribute, title]",
+                "script: [.name, true, false, fireEvent, mouseover]", "script: [.name, true, false, fireEvent, blur]",
+                "script: [.name, true, false, mouseOver, null]", "script: [.name, true, false, scrollIntoView, null]"));
+    }
+
+    @Test
+    public void driverIsUsedWhenScriptDoesNotFindElement() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorScriptExecutor executor = new WebLocatorScriptExecutor(driver(calls, element(calls), false));
+        WebLocator el = new WebLocator().setText("Save");
+
+        assertTrue(executor.click(el));
+        assertEquals(calls, Arrays.asList("script: [//*[contains(text(),'Save')], false, false, click, null]", "findElement", "click"));
+    }
+
+    @Test
+    public void executorIsSelectedFromConfig() {
+        WebLocatorExecutor executor = WebLocator.getExecutor();
+        String config = WebLocatorConfig.getExecutor();
+        try {
+            WebDriver driver = driver(new ArrayList<>(), element(new ArrayList<>()), true);
+            WebLocatorConfig.setExecutor("script");
+            WebLocator.setDriverExecutor(driver);
+            assertEquals(WebLocator.getExecutor().getClass(), WebLocatorScriptExecutor.class);
+            WebLocatorConfig.setExecutor("driver");
+            WebLocator.setDriverExecutor(driver);
+            assertEquals(WebLocator.getExecutor().getClass(), WebLocatorDriverExecutor.class);
+        } finally {
+            WebLocatorConfig.setExecutor(config);
+            WebLocator.setDriverExecutor(executor);
+        }
+    }
+
+    private static WebElement element(List<String> calls) {
+        return Fake.element().recording(calls).returns("click", null).build();
+    }
+
+    private static WebDriver driver(List<String> calls, WebElement element, boolean found) {
+        return Fake.driver()
+                .on("executeScript", args -> {
+                    Object[] arguments = (Object[]) args[1];
+                    calls.add("script: " + Arrays.toString(arguments));
+                    if (!found) {
+                        return Collections.singletonMap("found", false);
+                    }
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("found", true);
+                    response.put("element", element);
+                    String action = (String) arguments[3];
+                    response.put("result", "getText".equals(action) ? "text" : "getAttribute".equals(action) ? arguments[4] : true);
+                    return response;
+                })
+                .on("findElement", args -> {
+                    calls.add("findElement");
+                    return element;
+                })
+                .build();
+    }
+}
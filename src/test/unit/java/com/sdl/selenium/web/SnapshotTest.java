@@ -0,0 +1,137 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class SnapshotTest {
+    private long snapshotMillis;
+    private List<String> calls;
+    private WebLocatorDriverExecutor executor;
+
+    @BeforeMethod
+    public void start() {
+        snapshotMillis = WebLocatorConfig.getSnapshotMillis();
+        WebLocatorConfig.setSnapshotMillis(60000);
+        calls = new ArrayList<>();
+        executor = new WebLocatorDriverExecutor(driver(calls));
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setSnapshotMillis(snapshotMillis);
+    }
+
+    @Test
+    public void gettersAreReadWithOneScript() {
+        WebLocator el = new WebLocator().setClasses("save");
+
+        ElementSnapshot snapshot = executor.snapshot(el, "title", "checked");
+        assertEquals(snapshot.getClasses(), Arrays.asList("btn", "save"));
+        assertEquals(executor.getText(el), "Save");
+        assertEquals(executor.getTagName(el), "button");
+        assertEquals(executor.getAttribute(el, "title"), "Save changes");
+        assertNull(executor.getAttribute(el, "checked"));
+        assertEquals(executor.getAttribute(el, "class"), "btn save");
+        assertTrue(executor.isDisplayed(el));
+        assertTrue(executor.isEnabled(el));
+        assertFalse(executor.isSelected(el));
+        assertEquals(executor.getLocation(el), new Point(10, 20));
+        assertEquals(executor.getSize(el), new Dimension(80, 30));
+        assertEquals(calls, Arrays.asList("findElement", "script: [title, checked]"));
+
+        executor.getAttribute(el, "name");
+        assertEquals(calls, Arrays.asList("findElement", "script: [title, checked]", "findElement", "getAttribute"));
+    }
+
+    @Test
+    public void actionInvalidatesSnapshot() {
+        WebLocator el = new WebLocator().setClasses("save");
+        executor.snapshot(el);
+
+        executor.click(el);
+        assertEquals(executor.getText(el), "Saved");
+        assertEquals(calls, Arrays.asList("findElement", "script: []", "findElement", "click", "findElement", "getText"));
+    }
+
+    @Test
+    public void expiredSnapshotIsNotUsed() {
+        WebLocatorConfig.setSnapshotMillis(0);
+        WebLocator el = new WebLocator().setClasses("save");
+        executor.snapshot(el);
+
+        assertEquals(executor.getText(el), "Saved");
+        assertEquals(calls, Arrays.asList("findElement", "script: []", "findElement", "getText"));
+    }
+
+    @Test
+    public void snapshotIsUsedWhenElementIsFoundAgain() {
+        WebLocator el = new WebLocator().setClasses("save");
+        executor.snapshot(el);
+
+        executor.waitElement(el, Duration.ofSeconds(1), false);
+        assertEquals(executor.getText(el), "Save");
+        assertEquals(calls, Arrays.asList("findElement", "script: []", "findElement"));
+    }
+
+    /**
+     * @return driver that returns a new element for each find (like remote drivers), equal to the others
+     */
+    private static WebDriver driver(List<String> calls) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("tag", "button");
+        values.put("text", "Save");
+        values.put("cls", "btn save");
+        values.put("style", "color: red");
+        values.put("displayed", true);
+        values.put("enabled", true);
+        values.put("selected", false);
+        values.put("x", 10L);
+        values.put("y", 20L);
+        values.put("width", 80L);
+        values.put("height", 30L);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("title", "Save changes");
+        attributes.put("checked", null);
+        values.put("attributes", attributes);
+        return Fake.driver()
+                .on("executeScript", args -> {
+                    calls.add("script: " + ((Object[]) args[1])[1]);
+                    return ((List<?>) ((Object[]) args[1])[1]).isEmpty() ? Collections.singletonMap("text", "Save") : values;
+                })
+                .on("findElement", args -> {
+                    calls.add("findElement");
+                    return element(calls);
+                })
+                .build();
+    }
+
+    private static WebElement element(List<String> calls) {
+        return Fake.element().named("save").recording(calls)
+                .on("equals", args -> "save".equals(String.valueOf(args[0])))
+                .returns("hashCode", "save".hashCode())
+                .returns("click", null)
+                .returns("getText", "Saved")
+                .returns("getAttribute", "name")
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.extjs3.button.Button;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class TemplatesTest {
+
+    @Test
+    public void defaultTemplatesAreShared() {
+        WebLocator first = new WebLocator();
+        WebLocator second = new WebLocator().setText("text");
+        assertSame(first.getPathBuilder().getTemplates(), second.getPathBuilder().getTemplates());
+    }
+
+    @Test
+    public void sameComponentClassSharesTemplates() {
+        Button first = new Button(null, "Save");
+        Button second = new Button(null, "Cancel");
+        assertSame(first.getPathBuilder().getTemplates(), second.getPathBuilder().getTemplates());
+        assertNotSame(first.getPathBuilder().getTemplates(), new WebLocator().getPathBuilder().getTemplates());
+    }
+
+    @Test
+    public void mapsAreReadOnlyWhetherEmptyOrNot() {
+        XPathBuilder empty = new WebLocator().getPathBuilder();
+        WebLocator locator = new WebLocator();
+        locator.setTemplateTitle(new WebLocator());
+        locator.setElPathSuffix("icon", "//img");
+        locator.setTemplateValue("text", "Save");
+        locator.setAttribute("name", "save");
+        XPathBuilder filled = locator.getPathBuilder();
+        for (XPathBuilder builder : Arrays.asList(empty, filled)) {
+            assertReadOnly(builder.getTemplateTitle(), "title", new WebLocator());
+            assertReadOnly(builder.getElPathSuffix(), "icon", "//span");
+            assertReadOnly(builder.getTemplatesValues(), "text", new String[]{"Cancel"});
+            assertReadOnly(builder.getAttribute(), "name", new SearchText("cancel"));
+            assertReadOnly(builder.getTemplates(), "text", "%s");
+        }
+        assertEquals(filled.getElPathSuffix().get("icon"), "//img");
+        assertTrue(empty.getElPathSuffix().isEmpty());
+    }
+
+    private static <V> void assertReadOnly(Map<String, V> map, String key, V value) {
+        try {
+            map.put(key, value);
+            fail("map can be changed");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void setTemplateIsCopyOnWrite() {
+        WebLocator first = new WebLocator().setClasses("cls");
+        WebLocator second = new WebLocator().setClasses("cls");
+        first.setTemplate("class", "contains(@class, '%s')");
+
+        assertEquals(first.getXPath(), "//*[contains(@class, 'cls')]");
+        assertEquals(second.getXPath(), "//*[contains(concat(' ', @class, ' '), ' cls ')]");
+    }
+
+    @Test
+    public void addToTemplateIsCopyOnWrite() {
+        WebLocator first = new WebLocator().setVisibility(true);
+        WebLocator second = new WebLocator().setVisibility(true);
+        first.addToTemplate("visibility", "count(ancestor-or-self::*[contains(@class, 'x-hide-display')]) = 0");
+
+        assertEquals(first.getXPath(), "//*[count(ancestor-or-self::*[contains(@style, 'display: none')]) = 0 and count(ancestor-or-self::*[contains(@class, 'x-hide-display')]) = 0]");
+        assertEquals(second.getXPath(), "//*[count(ancestor-or-self::*[contains(@style, 'display: none')]) = 0]");
+    }
+
+    @Test
+    public void removeTemplate() {
+        WebLocator locator = new WebLocator().setId("id").setTemplate("id", null);
+        assertEquals(locator.getXPath(), "//*");
+        assertEquals(locator.getPathBuilder().getTemplate("id"), null);
+    }
+
+    @Test
+    public void cloneSharesTemplatesAndCopiesValues() throws CloneNotSupportedException {
+        WebLocator locator = new WebLocator().setTemplate("custom", "%1$s = %2$s").setTemplateValue("custom", "a", "b");
+        XPathBuilder clone = (XPathBuilder) locator.getPathBuilder().clone();
+        assertSame(clone.getTemplates(), locator.getPathBuilder().getTemplates());
+
+        clone.setTemplateValue("custom", "c", "d");
+        assertEquals(locator.getXPath(), "//*[a = b]");
+        assertEquals(new WebLocator().setPathBuilder(clone).getXPath(), "//*[c = d]");
+    }
+
+    @DataProvider
+    public static Object[][] formats() {
+        return new Object[][]{
+                {"@id='%s'", new Object[]{"id"}},
+                {"(%1$s or count(*//text()[%1$s]) > 0)", new Object[]{"contains(.,'a')"}},
+                {"%2$s = %1$s and %s", new Object[]{"a", "b"}},
+                {"100%% %s%n", new Object[]{"a"}},
+                {"%s", new Object[]{null}},
+                {"%s", null},
+                {"%-5s|%S|%d", new Object[]{"a", "b", 1}},
+                {"no arguments", new Object[]{}},
+        };
+    }
+
+    @Test(dataProvider = "formats")
+    public void templateIsAppliedLikeStringFormat(String format, Object[] arguments) {
+        assertEquals(new Templates.Template(format).apply(arguments), String.format(format, arguments));
+    }
+
+    @Test(expectedExceptions = MissingFormatArgumentException.class)
+    public void templateWithMissingArgument() {
+        new Templates.Template("%1$s %2$s").apply("a");
+    }
+}
@@ -0,0 +1,52 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class TextsTest {
+
+    @Test
+    public void textsAreReadWithOneScript() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(scriptDriver(calls, Arrays.asList("One", "Two", "")));
+        WebLocator option = new WebLocator().setTag("option");
+
+        assertEquals(executor.getTexts(option, false), Arrays.asList("One", "Two", ""));
+        assertEquals(executor.getAttributes(option, "value", true), Arrays.asList("One", "Two", ""));
+        assertEquals(calls, Arrays.asList("script: [option, true, null, false]", "script: [option, true, value, true]"));
+    }
+
+    @Test
+    public void eachElementIsReadWhenDriverCanNotRunScripts() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, "  First \n item ", null));
+        WebLocator option = new WebLocator().setTag("option");
+
+        assertEquals(executor.getTexts(option, false), Arrays.asList("  First \n item ", null));
+        assertEquals(executor.getTexts(option, true), Arrays.asList("First item", null));
+        assertEquals(calls, Arrays.asList("findElements", "getText", "getText", "findElements", "getText", "getText"));
+    }
+
+    private static WebDriver scriptDriver(List<String> calls, List<String> texts) {
+        return Fake.driver().on("executeScript", args -> {
+            calls.add("script: " + Arrays.toString((Object[]) args[1]));
+            return texts;
+        }).build();
+    }
+
+    private static WebDriver driver(List<String> calls, String... texts) {
+        List<WebElement> elements = new ArrayList<>();
+        for (String text : texts) {
+            elements.add(Fake.element().recording(calls).returns("getText", text).build());
+        }
+        return Fake.of(WebDriver.class).recording(calls).returns("findElements", elements).build();
+    }
+}
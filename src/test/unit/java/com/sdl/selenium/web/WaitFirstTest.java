@@ -0,0 +1,90 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class WaitFirstTest {
+    private static final WebElement ELEMENT = Fake.element("element");
+
+    private boolean mutationObserverWait;
+    private PollingStrategy polling;
+
+    @BeforeMethod
+    public void start() {
+        mutationObserverWait = WebLocatorConfig.isMutationObserverWait();
+        polling = WebLocatorConfig.getDefaultPollingStrategy();
+        WebLocatorConfig.setMutationObserverWait(false);
+        WebLocatorConfig.setDefaultPollingStrategy(PollingStrategy.fixed(Duration.ofMillis(1)));
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setMutationObserverWait(mutationObserverWait);
+        WebLocatorConfig.setDefaultPollingStrategy(polling);
+    }
+
+    @Test
+    public void allLocatorsAreSearchedWithOneScriptForEachPoll() {
+        List<String> calls = new ArrayList<>();
+        AtomicInteger polls = new AtomicInteger();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, "executeScript", args -> polls.incrementAndGet() < 3 ? null : Arrays.asList(1L, ELEMENT)));
+        WebLocator success = new WebLocator().setClasses("success");
+        WebLocator error = new WebLocator().setClasses("x-message-box").setVisibility(true);
+        WebLocator warning = new WebLocator().setText("Warning");
+
+        assertSame(executor.waitFirst(Duration.ofSeconds(5), success, error, warning), error);
+        assertSame(error.currentElement, ELEMENT);
+        assertEquals(calls, Collections.nCopies(3, "executeScript: [.success true false, .x-message-box true true, //*[contains(text(),'Warning')] false false]"));
+    }
+
+    @Test
+    public void nullIsReturnedAfterTimeout() {
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, "executeScript", args -> null));
+
+        assertNull(executor.waitFirst(Duration.ofMillis(50), new WebLocator().setClasses("success"), new WebLocator().setClasses("error")));
+        assertEquals(calls.get(0), "executeScript: [.success true false, .error true false]");
+    }
+
+    @Test
+    public void allLocatorsAreObservedWithOneScript() {
+        WebLocatorConfig.setMutationObserverWait(true);
+        List<String> calls = new ArrayList<>();
+        WebLocatorDriverExecutor executor = new WebLocatorDriverExecutor(driver(calls, "executeAsyncScript", args -> Arrays.asList(0L, ELEMENT)));
+        WebLocator success = new WebLocator().setClasses("success");
+
+        assertSame(executor.waitFirst(Duration.ofSeconds(5), success, new WebLocator().setClasses("error")), success);
+        assertEquals(calls, Collections.singletonList("executeAsyncScript: [.success true false, .error true false] 5000"));
+    }
+
+    private static WebDriver driver(List<String> calls, String script, Function<Object[], Object> response) {
+        return Fake.driver().on(script, args -> {
+            Object[] arguments = (Object[]) args[1];
+            List<String> candidates = new ArrayList<>();
+            for (Object candidate : (List<?>) arguments[0]) {
+                Map<?, ?> c = (Map<?, ?>) candidate;
+                candidates.add(c.get("selector") + " " + c.get("css") + " " + c.get("visibility"));
+            }
+            calls.add(script + ": " + candidates + (arguments.length > 1 ? " " + arguments[1] : ""));
+            return response.apply(arguments);
+        }).build();
+    }
+}
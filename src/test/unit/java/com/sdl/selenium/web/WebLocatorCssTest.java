@@ -45,9 +45,36 @@ public class WebLocatorCssTest {
                 {new WebLocator().setAttribute("data-toggle", "modal"), "[data-toggle='modal']", "//*[@data-toggle='modal']"},
                 {new WebLocator().setTag("li").setPosition(1), "li:nth-child(1)", "//li[position() = 1]"},
                 {new WebLocator().setTag("li").setPosition(Position.LAST), "li:last-child", "//li[position() = last()]"},
+                {new WebLocator().setAttribute("data-qtip", "Save", SearchType.CONTAINS), "[data-qtip*='Save']", "//*[contains(@data-qtip,'Save')]"},
+                {new WebLocator().setTag("a").setAttribute("href", "http", SearchType.STARTS_WITH), "a[href^='http']", "//a[starts-with(@href,'http')]"},
+                {new WebLocator().setAttribute("data-qtip", "&Save&File", SearchType.CONTAINS_ALL), "[data-qtip*='Save'][data-qtip*='File']", "//*[contains(@data-qtip,'Save') and contains(@data-qtip,'File')]"},
+                {new WebLocator().setAttribute("placeholder", "It's", SearchType.EQUALS), "[placeholder='It\\'s']", "//*[@placeholder=\"It's\"]"},
+                {new WebLocator().setTitle("Close"), "[title='Close']", "//*[@title='Close']"},
+                {new WebLocator().setTitle("Close", SearchType.CONTAINS), "[title*='Close']", "//*[contains(@title,'Close')]"},
+                {new WebLocator().setTag("div").setStyle("display: block"), "div[style*='display: block']", "//div[contains(@style ,'display: block')]"},
         };
     }
 
+    @DataProvider
+    public static Object[][] cssFallbackReasons() {
+        return new Object[][]{
+                {new WebLocator().setId("email"), null},
+                {new WebLocator().setText("Save"), "text"},
+                {new WebLocator().setClasses("btn").setResultIdx(2), "resultIdx"},
+                {new WebLocator().setAttribute("data-qtip", "save", SearchType.CASE_INSENSITIVE), "@data-qtip CASE_INSENSITIVE"},
+                {new WebLocator().setTitle("Close", SearchType.TRIM), "@title TRIM"},
+                {new WebLocator().setTitle("Close").setTemplate("title", "@data-qtip='%s'"), "title template"},
+                {new WebLocator(xpathContainer).setId("email"), "container: elPath"},
+        };
+    }
+
+    @Test(dataProvider = "cssFallbackReasons")
+    public void cssFallbackReason(WebLocator el, String expectedReason) {
+        softAssert.assertEquals(el.getPathBuilder().getCssFallbackReason(), expectedReason);
+        softAssert.assertEquals(el.getCssSelector() == null, expectedReason != null);
+        softAssert.assertAll();
+    }
+
     @Test(dataProvider = "testConstructorCssSelectorDataProvider")
     public void whenHaveSupportedCssAttributesICanGenerateCssSelectorsAndXpath(WebLocator el, String expectedCss, String expectedXpath) {
         softAssert.assertEquals(el.getCssSelector(), expectedCss);
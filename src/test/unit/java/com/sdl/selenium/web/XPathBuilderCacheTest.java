@@ -0,0 +1,147 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.extjs6.grid.Cell;
+import com.sdl.selenium.extjs6.grid.Grid;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class XPathBuilderCacheTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(XPathBuilderCacheTest.class);
+
+    private boolean cacheSelectors;
+
+    @BeforeMethod
+    public void start() {
+        cacheSelectors = WebLocatorConfig.isCacheSelectors();
+        WebLocatorConfig.setCacheSelectors(true);
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setCacheSelectors(cacheSelectors);
+    }
+
+    @Test
+    public void sameSelectorIsReturnedWhileNothingChanges() {
+        WebLocator container = new WebLocator("container");
+        WebLocator locator = new WebLocator(container).setText("text");
+
+        String xPath = locator.getXPath();
+        assertSame(locator.getXPath(), xPath);
+        assertSame(locator.getSelector(), locator.getSelector());
+    }
+
+    @Test
+    public void setterInvalidatesCompiledSelector() {
+        WebLocator locator = new WebLocator().setText("text");
+        String xPath = locator.getXPath();
+
+        locator.setTag("div");
+        assertNotSame(locator.getXPath(), xPath);
+        assertEquals(locator.getXPath(), "//div[contains(text(),'text')]");
+    }
+
+    @Test
+    public void containerChangeInvalidatesOnlyAffectedChain() {
+        WebLocator container = new WebLocator("container");
+        WebLocator other = new WebLocator("other");
+        WebLocator child = new WebLocator(container).setText("child");
+        WebLocator sibling = new WebLocator(other).setText("sibling");
+        String childXPath = child.getXPath();
+        String siblingXPath = sibling.getXPath();
+
+        container.setTag("div");
+        assertEquals(child.getXPath(), "//div[contains(concat(' ', @class, ' '), ' container ')]//*[contains(text(),'child')]");
+        assertNotSame(child.getXPath(), childXPath);
+        assertSame(sibling.getXPath(), siblingXPath);
+    }
+
+    @Test
+    public void titleElementChangeInvalidatesOwner() {
+        WebLocator titleEl = new WebLocator().setClasses("title");
+        WebLocator panel = new WebLocator().setClasses("panel").setTemplateTitle(titleEl).setTitle("Settings");
+        String xPath = panel.getXPath();
+
+        titleEl.setClasses("header");
+        assertNotSame(panel.getXPath(), xPath);
+        assertEquals(panel.getXPath(), new WebLocator().setClasses("panel").setTemplateTitle(new WebLocator().setClasses("header")).setTitle("Settings").getXPath());
+    }
+
+    @Test
+    public void childNodeChangeInvalidatesParent() {
+        WebLocator child = new WebLocator().setText("child");
+        WebLocator parent = new WebLocator().setClasses("parent").setChildNodes(child);
+        parent.getXPath();
+
+        child.setText("other", SearchType.EQUALS);
+        assertEquals(parent.getXPath(), "//*[contains(concat(' ', @class, ' '), ' parent ') and count(.//*[text()='other']) > 0]");
+    }
+
+    @Test
+    public void childNodeWithParentAsContainerIsCached() {
+        WebLocator parent = new WebLocator().setClasses("parent");
+        WebLocator child = new WebLocator(parent).setText("child");
+        parent.setChildNodes(child);
+
+        String xPath = parent.getXPath();
+        assertEquals(xPath, "//*[contains(concat(' ', @class, ' '), ' parent ') and count(.//*[contains(text(),'child')]) > 0]");
+        assertSame(parent.getXPath(), xPath);
+        assertEquals(child.getXPath(), xPath + "//*[contains(text(),'child')]");
+    }
+
+    @Test
+    public void configChangeInvalidatesCssSelector() {
+        boolean generateCssSelector = WebLocatorConfig.isGenerateCssSelector();
+        try {
+            WebLocator locator = new WebLocator().setId("id");
+            WebLocatorConfig.setGenerateCssSelector(true);
+            assertEquals(locator.getCssSelector(), "#id");
+            WebLocatorConfig.setGenerateCssSelector(false);
+            assertEquals(locator.getCssSelector(), null);
+        } finally {
+            WebLocatorConfig.setGenerateCssSelector(generateCssSelector);
+        }
+    }
+
+    @Test
+    public void cachedSelectorAllocatesLessPerWait() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean) || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            throw new SkipException("thread allocated memory is not supported by this JVM");
+        }
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Cell cell = new Grid().getRow(new Cell(2, "Text"), new Cell(1, "&Text&Test", SearchType.CONTAINS_ALL_CHILD_NODES)).getCell(3);
+        int polls = 1000; // one FluentWait poll calls getSelector() once
+
+        WebLocatorConfig.setCacheSelectors(false);
+        long uncached = allocatedBytes(threadBean, cell, polls);
+        WebLocatorConfig.setCacheSelectors(true);
+        long cached = allocatedBytes(threadBean, cell, polls);
+
+        LOGGER.info("allocated bytes per wait of {} polls: uncached={}, cached={}", polls, uncached, cached);
+        assertThat(cached * 10, lessThan(uncached));
+    }
+
+    private long allocatedBytes(com.sun.management.ThreadMXBean threadBean, WebLocator el, int polls) {
+        el.getSelector(); // warm up
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < polls; i++) {
+            el.getSelector();
+        }
+        return threadBean.getThreadAllocatedBytes(threadId) - start;
+    }
+}
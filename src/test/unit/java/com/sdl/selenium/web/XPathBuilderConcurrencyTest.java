@@ -0,0 +1,128 @@
+package com.sdl.selenium.web;
+
+import com.sdl.selenium.extjs6.form.TextField;
+import com.sdl.selenium.extjs6.grid.Cell;
+import com.sdl.selenium.extjs6.grid.Grid;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class XPathBuilderConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 2000;
+
+    private boolean cacheSelectors;
+
+    @BeforeMethod
+    public void start() {
+        cacheSelectors = WebLocatorConfig.isCacheSelectors();
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setCacheSelectors(cacheSelectors);
+    }
+
+    @Test
+    public void childNodeWithParentAsContainerIsNotChanged() {
+        WebLocator parent = new WebLocator().setClasses("parent");
+        WebLocator middle = new WebLocator(parent).setClasses("middle");
+        WebLocator child = new WebLocator(middle).setText("child");
+        parent.setChildNodes(child);
+
+        assertEquals(parent.getXPath(), "//*[contains(concat(' ', @class, ' '), ' parent ') and count(.//*[contains(concat(' ', @class, ' '), ' middle ')]//*[contains(text(),'child')]) > 0]");
+        assertSame(middle.getPathBuilder().getContainer(), parent);
+        assertSame(child.getPathBuilder().getContainer(), middle);
+        assertEquals(child.getXPath(), parent.getXPath() + "//*[contains(concat(' ', @class, ' '), ' middle ')]//*[contains(text(),'child')]");
+    }
+
+    @Test
+    public void sharedTemplateTitleIsNotChanged() {
+        WebLocator header = new WebLocator().setClasses("x-title");
+        WebLocator title = new WebLocator(header);
+        Grid first = new Grid().setTemplateTitle(title).setTitle("First");
+        Grid second = new Grid().setTemplateTitle(title).setTitle("Second");
+
+        assertTrue(first.getXPath().contains("'First'"), first.getXPath());
+        assertTrue(second.getXPath().contains("'Second'"), second.getXPath());
+        assertNull(title.getPathBuilder().getText());
+    }
+
+    @DataProvider
+    public static Object[][] cacheSelectors() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    @Test(dataProvider = "cacheSelectors")
+    public void getXPathIsSafeFromManyThreads(boolean cacheSelectors) throws InterruptedException {
+        WebLocatorConfig.setCacheSelectors(cacheSelectors);
+        WebLocator parent = new WebLocator().setClasses("parent");
+        WebLocator middle = new WebLocator(parent).setClasses("middle");
+        WebLocator child = new WebLocator(middle).setText("child");
+        parent.setChildNodes(child);
+        WebLocator header = new WebLocator().setClasses("x-title");
+        WebLocator title = new WebLocator(header);
+        Grid grid = new Grid(parent).setTemplateTitle(title).setTitle("Grid");
+        Grid other = new Grid(parent).setTemplateTitle(title).setTitle("Other");
+
+        List<WebLocator> locators = new ArrayList<>();
+        locators.add(parent);
+        locators.add(child);
+        locators.add(grid);
+        locators.add(other);
+        locators.add(grid.getCell(3, new Cell(1, "Text", SearchType.EQUALS), new Cell(2, "&a&b", SearchType.CONTAINS_ALL)));
+        locators.add(new TextField(middle, "Name"));
+        List<String> expected = new ArrayList<>();
+        for (WebLocator locator : locators) {
+            expected.add(locator.getXPath());
+        }
+
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    ready.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        int index = (i + offset) % locators.size();
+                        if (i % 100 == offset) {
+                            // new compilation for all threads
+                            locators.get(index).getPathBuilder().markDirty();
+                        }
+                        String xPath = locators.get(index).getXPath();
+                        if (!expected.get(index).equals(xPath)) {
+                            failures.add(xPath + " != " + expected.get(index));
+                        }
+                        if (middle.getPathBuilder().getContainer() != parent) {
+                            failures.add("container of child node was changed");
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e.toString());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertTrue(failures.isEmpty(), failures.size() + " failures, first: " + failures.peek());
+    }
+}
@@ -0,0 +1,166 @@
+package com.sdl.selenium.web.form;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.bootstrap.form.SelectPicker;
+import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.WebLocatorExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class FormBatchTest {
+    private WebLocatorExecutor executor;
+    private List<String> calls;
+
+    @BeforeMethod
+    public void start() {
+        executor = WebLocator.getExecutor();
+        calls = new ArrayList<>();
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocator.setDriverExecutor(executor);
+    }
+
+    @Test
+    public void fieldsAreFilledWithOneScript() {
+        useScript(fields -> Arrays.asList(null, null, null));
+
+        List<FormBatch.Outcome> outcomes = new FormBatch()
+                .setValue(textField("firstName"), "John")
+                .check(checkBox("agree", false), true)
+                .select(comboBox("country"), "Romania")
+                .apply();
+
+        assertEquals(calls, Arrays.asList("script: [input#firstName text John, input#agree[type='checkbox'] check true, select#country select Romania]"));
+        for (FormBatch.Outcome outcome : outcomes) {
+            assertEquals(outcome.getMode(), FormBatch.Mode.SCRIPT);
+            assertTrue(outcome.isSuccess());
+        }
+    }
+
+    @Test
+    public void fieldsNotFilledByScriptAreFilledWithDriver() {
+        useScript(fields -> Arrays.asList("not found", "not a select", null));
+        TextField lastName = textField("lastName");
+
+        List<FormBatch.Outcome> outcomes = new FormBatch()
+                .setValue(lastName, "Doe")
+                .type(textField("search"), "Buc")
+                .select(selectPicker(), "Manual")
+                .check(checkBox("agree", true), true)
+                .apply();
+
+        assertEquals(calls, Arrays.asList("script: [input#lastName text Doe, button.dropdown-toggle select Manual, input#agree[type='checkbox'] check true]", "setValue lastName Doe", "setValue search Buc", "select Manual"));
+        assertEquals(outcomes.get(0).getField(), lastName);
+        assertEquals(outcomes.get(0).getMode(), FormBatch.Mode.DRIVER);
+        assertEquals(outcomes.get(0).getMessage(), "not found");
+        assertEquals(outcomes.get(1).getMode(), FormBatch.Mode.DRIVER);
+        assertEquals(outcomes.get(2).getMode(), FormBatch.Mode.DRIVER);
+        assertFalse(outcomes.get(2).isSuccess());
+        assertEquals(outcomes.get(3).getMode(), FormBatch.Mode.SCRIPT);
+    }
+
+    @Test
+    public void allFieldsAreFilledWithDriverWhenScriptFails() {
+        useScript(fields -> null);
+
+        List<FormBatch.Outcome> outcomes = new FormBatch()
+                .setValue(textField("firstName"), "John")
+                .check(checkBox("agree", false), true)
+                .apply();
+
+        assertEquals(calls, Arrays.asList("script: [input#firstName text John, input#agree[type='checkbox'] check true]", "setValue firstName John", "click agree"));
+        assertEquals(outcomes.get(1).getMessage(), "script failed");
+        assertTrue(outcomes.get(1).isSuccess());
+    }
+
+    @Test
+    public void allFieldsAreFilledWithDriverWhenScriptThrows() {
+        useScript(fields -> {
+            throw new WebDriverException("javascript error");
+        });
+
+        List<FormBatch.Outcome> outcomes = new FormBatch()
+                .setValue(textField("firstName"), "John")
+                .check(checkBox("agree", false), true)
+                .apply();
+
+        assertEquals(calls, Arrays.asList("script: [input#firstName text John, input#agree[type='checkbox'] check true]", "setValue firstName John", "click agree"));
+        for (FormBatch.Outcome outcome : outcomes) {
+            assertEquals(outcome.getMode(), FormBatch.Mode.DRIVER);
+            assertTrue(outcome.isSuccess());
+        }
+    }
+
+    private void useScript(Function<List<?>, List<?>> script) {
+        WebLocator.setDriverExecutor(Fake.of(WebLocatorExecutor.class).on("executeScript", args -> {
+            List<?> fields = (List<?>) ((Object[]) args[1])[0];
+            List<String> values = new ArrayList<>();
+            for (Object field : fields) {
+                Map<?, ?> f = (Map<?, ?>) field;
+                values.add(f.get("selector") + " " + f.get("kind") + " " + (f.containsKey("value") ? f.get("value") : f.get("checked")));
+            }
+            calls.add("script: " + values);
+            return script.apply(fields);
+        }).build());
+    }
+
+    private TextField textField(String id) {
+        return new TextField(id) {
+            @Override
+            public boolean setValue(String value) {
+                calls.add("setValue " + id + " " + value);
+                return true;
+            }
+        };
+    }
+
+    private CheckBox checkBox(String id, boolean selected) {
+        return new CheckBox(id) {
+            @Override
+            public boolean isSelected() {
+                return selected;
+            }
+
+            @Override
+            public boolean click() {
+                calls.add("click " + id);
+                return true;
+            }
+        };
+    }
+
+    private ComboBox comboBox(String id) {
+        ComboBox comboBox = new ComboBox() {
+            @Override
+            public boolean select(String value) {
+                calls.add("select " + value);
+                return true;
+            }
+        };
+        return comboBox.setId(id);
+    }
+
+    private SelectPicker selectPicker() {
+        return new SelectPicker() {
+            @Override
+            public boolean select(String value) {
+                calls.add("select " + value);
+                return false;
+            }
+        };
+    }
+}
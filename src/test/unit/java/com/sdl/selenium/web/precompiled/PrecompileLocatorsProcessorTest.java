@@ -0,0 +1,169 @@
+package com.sdl.selenium.web.precompiled;
+
+import com.sdl.selenium.extjs6.form.TextField;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.SearchType;
+import com.sdl.selenium.web.WebLocator;
+import com.sdl.selenium.web.utils.internationalization.InternationalizationUtils;
+import com.sdl.selenium.web.utils.internationalization.InternationalizedTextRetriever;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class PrecompileLocatorsProcessorTest {
+    private static final String SOURCE = "package pages;\n" +
+            "import com.sdl.selenium.extjs6.form.TextField;\n" +
+            "import com.sdl.selenium.web.SearchType;\n" +
+            "import com.sdl.selenium.web.WebLocator;\n" +
+            "import com.sdl.selenium.web.precompiled.PrecompileLocators;\n" +
+            "import com.sdl.selenium.web.precompiled.PrecompiledLocators;\n" +
+            "@PrecompileLocators\n" +
+            "public class LoginView {\n" +
+            "    private static final String FORM_ID = \"login\";\n" +
+            "    private final WebLocator form = new WebLocator().setId(FORM_ID);\n" +
+            "    private final TextField userName = new TextField(form, \"User\" + \" Name\");\n" +
+            "    private final WebLocator save = new WebLocator(form).setText(\"Save\", SearchType.EQUALS).setClasses(\"x-btn\", \"primary\");\n" +
+            "    private final WebLocator cancel = new WebLocator(form).setClasses(\"x-btn\");\n" +
+            "    private final WebLocator title = new WebLocator(System.getProperty(\"cls\"));\n" +
+            "    private WebLocator close = new WebLocator().setClasses(\"x-tool-close\");\n" +
+            "\n" +
+            "    public LoginView() {\n" +
+            "        cancel.setText(\"Cancel\");\n" +
+            "        PrecompiledLocators.apply(this);\n" +
+            "    }\n" +
+            "}\n";
+
+    private File output;
+    private ClassLoader classLoader;
+    private boolean cacheSelectors;
+
+    @BeforeClass
+    public void compile() throws IOException {
+        cacheSelectors = WebLocatorConfig.isCacheSelectors();
+        WebLocatorConfig.setCacheSelectors(true);
+        output = Files.createTempDirectory("precompiled").toFile();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///pages/LoginView.java"), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return SOURCE;
+                }
+            };
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", output.getPath(),
+                    "-processor", PrecompileLocatorsProcessor.class.getName());
+            boolean compiled = compiler.getTask(null, fileManager, diagnostics, options, null, Collections.singletonList(source)).call();
+            assertTrue(compiled, diagnostics.getDiagnostics().toString());
+        }
+        classLoader = new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @AfterClass
+    public void stop() {
+        WebLocatorConfig.setCacheSelectors(cacheSelectors);
+        FileUtils.deleteQuietly(output);
+    }
+
+    @Test
+    public void onlyStaticFieldsArePrecompiled() throws Exception {
+        String[][] selectors = (String[][]) generated().getField("SELECTORS").get(null);
+        List<String> fields = new ArrayList<>();
+        for (String[] selector : selectors) {
+            fields.add(selector[0]);
+        }
+        assertEquals(fields, Arrays.asList("form", "userName", "save"));
+    }
+
+    @Test
+    public void generatedSelectorsAreSameAsRuntimeSelectors() throws Exception {
+        WebLocator form = new WebLocator().setId("login");
+        Class<?> generated = generated();
+        assertEquals(generated.getField("FORM_XPATH").get(null), form.getXPath());
+        assertEquals(generated.getField("USER_NAME_XPATH").get(null), new TextField(form, "User Name").getXPath());
+        assertEquals(generated.getField("SAVE_XPATH").get(null), new WebLocator(form).setText("Save", SearchType.EQUALS).setClasses("x-btn", "primary").getXPath());
+        assertEquals(generated.getField("FORM_CSS").get(null), form.getCssSelector());
+        assertNull(generated.getField("SAVE_CSS").get(null));
+        assertEquals(generated.getField("CONFIG").get(null), PrecompiledLocators.configKey());
+    }
+
+    @Test
+    public void generatedSelectorsAreUsedUntilLocatorChanges() throws Exception {
+        Object page = classLoader.loadClass("pages.LoginView").newInstance();
+        WebLocator save = field(page, "save");
+        String xPath = (String) generated().getField("SAVE_XPATH").get(null);
+        assertSame(save.getXPath(), xPath);
+
+        save.setText("Save all", SearchType.EQUALS);
+        assertNotEquals(save.getXPath(), xPath);
+        assertEquals(save.getXPath(), new WebLocator(new WebLocator().setId("login")).setText("Save all", SearchType.EQUALS).setClasses("x-btn", "primary").getXPath());
+    }
+
+    @Test
+    public void generatedSelectorsAreNotUsedWithOtherConfig() throws Exception {
+        boolean optimizeXPath = WebLocatorConfig.isOptimizeXPath();
+        WebLocatorConfig.setOptimizeXPath(!optimizeXPath);
+        try {
+            Object page = classLoader.loadClass("pages.LoginView").newInstance();
+            assertEquals(PrecompiledLocators.apply(page), 0);
+        } finally {
+            WebLocatorConfig.setOptimizeXPath(optimizeXPath);
+        }
+        assertEquals(PrecompiledLocators.apply(classLoader.loadClass("pages.LoginView").newInstance()), 3);
+    }
+
+    @Test
+    public void generatedSelectorsAreNotUsedInOtherLanguage() throws Exception {
+        InternationalizedTextRetriever retriever = InternationalizationUtils.getInternationalizedTextRetriever();
+        Map<String, String> save = new HashMap<>();
+        save.put("English", "Save");
+        save.put("French", "Enregistrer");
+        InternationalizationUtils.setInternationalizedTextRetriever(new InternationalizedTextRetriever(true, Collections.singletonList(save), "English"));
+        try {
+            InternationalizationUtils.setCurrentLanguage("English");
+            assertEquals(PrecompiledLocators.apply(classLoader.loadClass("pages.LoginView").newInstance()), 3);
+
+            InternationalizationUtils.setCurrentLanguage("French");
+            assertEquals(PrecompiledLocators.apply(classLoader.loadClass("pages.LoginView").newInstance()), 0);
+        } finally {
+            InternationalizationUtils.setInternationalizedTextRetriever(retriever);
+        }
+    }
+
+    private Class<?> generated() throws ClassNotFoundException {
+        return classLoader.loadClass("pages.LoginView" + PrecompiledLocators.SUFFIX);
+    }
+
+    private static WebLocator field(Object page, String name) throws ReflectiveOperationException {
+        Field field = page.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return (WebLocator) field.get(page);
+    }
+}
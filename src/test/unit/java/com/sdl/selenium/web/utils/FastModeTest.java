@@ -0,0 +1,147 @@
+package com.sdl.selenium.web.utils;
+
+import com.sdl.selenium.Fake;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class FastModeTest {
+
+    @BeforeMethod
+    public void start() {
+        FastMode.resetStatistics();
+    }
+
+    @Test
+    public void sleepsAreSkippedOnlyForEnabledDriver() {
+        List<String> calls = new ArrayList<>();
+        WebDriver driver = driver(calls);
+        WebDriver other = driver(new ArrayList<>());
+        FastMode.enable(driver);
+        try {
+            assertTrue(FastMode.isActive(driver));
+            assertFalse(FastMode.isActive(other));
+            long total = FastMode.getTotalSavedMillis();
+
+            long start = System.nanoTime();
+            FastMode.sleep(driver, 300);
+            FastMode.sleep(driver, 50);
+            assertTrue(System.nanoTime() - start < 250_000_000L);
+            FastMode.sleep(other, 1);
+            long saved = FastMode.getSavedMillis();
+            assertTrue(saved > 340 && saved <= 350, "saved: " + saved);
+            assertEquals(FastMode.getSkippedSleeps(), 2);
+            assertTrue(FastMode.getTotalSavedMillis() - total > 340);
+        } finally {
+            FastMode.disable(driver);
+        }
+        assertFalse(FastMode.isActive(driver));
+        assertEquals(calls, Arrays.asList(FastMode.SCRIPT, FastMode.CHECK_SCRIPT, FastMode.RESTORE_SCRIPT));
+        FastMode.resetStatistics();
+        assertEquals(FastMode.getSavedMillis(), 0);
+    }
+
+    @Test
+    public void styleIsLookedForAgainOnlyAfterPageChanged() {
+        List<String> calls = new ArrayList<>();
+        WebDriver driver = driver(calls);
+        FastMode.enable(driver);
+        try {
+            FastMode.sleep(driver, 10);
+            FastMode.sleep(driver, 10);
+            FastMode.pageChanged(driver);
+            FastMode.sleep(driver, 10);
+            FastMode.sleep(driver, 10);
+        } finally {
+            FastMode.disable(driver);
+        }
+        assertEquals(FastMode.getSkippedSleeps(), 4);
+        assertEquals(calls, Arrays.asList(FastMode.SCRIPT, FastMode.CHECK_SCRIPT, FastMode.CHECK_SCRIPT, FastMode.RESTORE_SCRIPT));
+    }
+
+    @Test
+    public void transitionsTakeTimeSoEndEventsAreFired() {
+        assertTrue(FastMode.SCRIPT.contains("transition-duration: 1ms !important;"), FastMode.SCRIPT);
+        assertFalse(FastMode.SCRIPT.contains("transition-duration: 0s"), FastMode.SCRIPT);
+        assertTrue(FastMode.SCRIPT.contains("transition-delay: 0s !important;"), FastMode.SCRIPT);
+        assertTrue(FastMode.SCRIPT.contains("animation-duration: 0s !important;"), FastMode.SCRIPT);
+    }
+
+    @Test
+    public void pageIsChangedAfterEachNavigation() {
+        List<String> calls = new ArrayList<>();
+        EventFiringWebDriver driver = new EventFiringWebDriver(driver(calls));
+        FastMode.enable(driver);
+        try {
+            driver.get("http://localhost/one");
+            driver.navigate().back();
+            driver.navigate().refresh();
+            FastMode.sleep(driver, 10);
+            assertEquals(FastMode.getSkippedSleeps(), 1);
+        } finally {
+            FastMode.disable(driver);
+        }
+        driver.get("http://localhost/two");
+        assertEquals(calls, Arrays.asList(FastMode.SCRIPT, "get", FastMode.SCRIPT, "back", FastMode.SCRIPT, "refresh", FastMode.SCRIPT,
+                FastMode.RESTORE_SCRIPT, "get"));
+    }
+
+    @Test
+    public void sleepIsDoneWhenPageHasNoStyle() {
+        List<String> calls = new ArrayList<>();
+        AtomicBoolean styled = new AtomicBoolean();
+        WebDriver driver = Fake.driver()
+                .on("executeScript", args -> {
+                    calls.add((String) args[0]);
+                    if (FastMode.CHECK_SCRIPT.equals(args[0])) {
+                        return styled.get();
+                    }
+                    styled.set(FastMode.SCRIPT.equals(args[0]));
+                    return true;
+                })
+                .on("get", args -> {
+                    calls.add("get");
+                    styled.set(false);
+                    return null;
+                })
+                .build();
+        FastMode.enable(driver);
+        try {
+            driver.get("http://localhost/one");
+            long start = System.nanoTime();
+            FastMode.sleep(driver, 100);
+            assertTrue(System.nanoTime() - start >= 100_000_000L);
+            FastMode.sleep(driver, 100);
+            long saved = FastMode.getSavedMillis();
+            assertTrue(saved > 90 && saved <= 100, "saved: " + saved);
+        } finally {
+            FastMode.disable(driver);
+        }
+        assertEquals(calls, Arrays.asList(FastMode.SCRIPT, "get", FastMode.CHECK_SCRIPT, FastMode.SCRIPT, FastMode.RESTORE_SCRIPT));
+    }
+
+    private static WebDriver driver(List<String> calls) {
+        WebDriver.Navigation navigation = Fake.of(WebDriver.Navigation.class).recording(calls).otherwise(args -> null).build();
+        return Fake.driver()
+                .on("executeScript", args -> {
+                    calls.add((String) args[0]);
+                    return true;
+                })
+                .on("get", args -> {
+                    calls.add("get");
+                    return null;
+                })
+                .returns("navigate", navigation)
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+package com.sdl.selenium.web.utils;
+
+import com.sdl.selenium.Fake;
+import com.sdl.selenium.utils.config.DriverContext;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.WebLocator;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class MultiThreadClipboardUtilsTest {
+    private static final int THREADS = 8;
+    private static final int PASTES = 25;
+
+    private final AtomicReference<String> clipboard = new AtomicReference<>();
+    private final AtomicInteger pasting = new AtomicInteger();
+    private final AtomicInteger overlaps = new AtomicInteger();
+
+    @BeforeMethod
+    public void start() {
+        MultiThreadClipboardUtils.resetStatistics();
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setClipboardCrossJvmLock(false);
+        MultiThreadClipboardUtils.setLockTimeoutMillis(5000);
+    }
+
+    @Test
+    public void eachSessionPastesItsOwnValue() throws Exception {
+        List<String> mixed = stress();
+        assertTrue(mixed.isEmpty(), "Values pasted in other sessions: " + mixed);
+        assertEquals(overlaps.get(), 0);
+        assertEquals(MultiThreadClipboardUtils.getAcquisitions(), THREADS * PASTES);
+        assertTrue(MultiThreadClipboardUtils.getContended() > 0, MultiThreadClipboardUtils.getStatistics());
+        assertEquals(MultiThreadClipboardUtils.getTimeouts(), 0);
+        assertTrue(MultiThreadClipboardUtils.getMaxWaitMillis() >= MultiThreadClipboardUtils.getAverageWaitMillis());
+        assertTrue(MultiThreadClipboardUtils.getTotalWaitMillis() >= MultiThreadClipboardUtils.getMaxWaitMillis());
+    }
+
+    @Test
+    public void fileIsLockedWhenCrossJvmLockIsConfigured() throws Exception {
+        WebLocatorConfig.setClipboardCrossJvmLock(true);
+        List<String> mixed = stress();
+        assertTrue(mixed.isEmpty(), "Values pasted in other sessions: " + mixed);
+        assertEquals(overlaps.get(), 0);
+        assertEquals(MultiThreadClipboardUtils.getAcquisitions(), THREADS * PASTES);
+    }
+
+    @Test
+    public void valueIsRemovedAfterPaste() {
+        List<String> pasted = new ArrayList<>();
+        DriverContext.run(new DriverContext(Fake.of(WebDriver.class).named("session0").build()), () -> {
+            MultiThreadClipboardUtils.copyString("value");
+            MultiThreadClipboardUtils.paste(locator(pasted), clipboard::set);
+            MultiThreadClipboardUtils.paste(locator(pasted), clipboard::set);
+        });
+        assertEquals(pasted, Arrays.asList("value", null));
+    }
+
+    @Test
+    public void waitFailsWhenClipboardIsNotFreeBeforeTimeout() throws Exception {
+        CountDownLatch pasted = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        WebLocator blocking = new WebLocator() {
+            @Override
+            public WebLocator sendKeys(CharSequence... charSequences) {
+                pasted.countDown();
+                try {
+                    done.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return this;
+            }
+        };
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> paste = service.submit(() -> DriverContext.run(new DriverContext(Fake.of(WebDriver.class).named("session0").build()), () -> {
+                MultiThreadClipboardUtils.copyString("value");
+                MultiThreadClipboardUtils.paste(blocking, clipboard::set);
+            }));
+            assertTrue(pasted.await(10, TimeUnit.SECONDS));
+            try {
+                MultiThreadClipboardUtils.waitForUnlockedClipboard(100);
+                fail("clipboard is used by other thread");
+            } catch (RuntimeException e) {
+                assertEquals(e.getMessage(), "Clipboard was not unlocked after 0 second(s).");
+            }
+            done.countDown();
+            paste.get(10, TimeUnit.SECONDS);
+            MultiThreadClipboardUtils.waitForUnlockedClipboard(100);
+            assertEquals(MultiThreadClipboardUtils.getTimeouts(), 1);
+            assertEquals(MultiThreadClipboardUtils.getContended(), 1);
+        } finally {
+            done.countDown();
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * @return values pasted in other sessions than the one that copied them
+     */
+    private List<String> stress() throws Exception {
+        List<String> mixed = new ArrayList<>();
+        ExecutorService service = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int session = i;
+                futures.add(service.submit(() -> {
+                    List<String> wrong = new ArrayList<>();
+                    DriverContext.run(new DriverContext(Fake.of(WebDriver.class).named("session" + session).build()), () -> {
+                        ready.countDown();
+                        try {
+                            ready.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        for (int j = 0; j < PASTES; j++) {
+                            String value = "session" + session + " value" + j;
+                            List<String> pasted = new ArrayList<>();
+                            MultiThreadClipboardUtils.copyString(value);
+                            MultiThreadClipboardUtils.paste(locator(pasted), clipboard::set);
+                            if (!pasted.equals(Collections.singletonList(value))) {
+                                wrong.add(value + " -> " + pasted);
+                            }
+                        }
+                    });
+                    return wrong;
+                }));
+            }
+            for (Future<List<String>> future : futures) {
+                mixed.addAll(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            service.shutdownNow();
+        }
+        return mixed;
+    }
+
+    private WebLocator locator(List<String> pasted) {
+        return new WebLocator() {
+            @Override
+            public WebLocator sendKeys(CharSequence... charSequences) {
+                if (pasting.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                try {
+                    // other threads have time to change clipboard, if they could
+                    Thread.sleep(1);
+                    pasted.add(clipboard.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    pasting.decrementAndGet();
+                }
+                return this;
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package com.sdl.selenium.web.xpath;
+
+import com.sdl.selenium.extjs3.button.Button;
+import com.sdl.selenium.extjs3.form.TextField;
+import com.sdl.selenium.extjs3.window.Window;
+import com.sdl.selenium.extjs6.grid.Cell;
+import com.sdl.selenium.extjs6.grid.Grid;
+import com.sdl.selenium.utils.config.WebLocatorConfig;
+import com.sdl.selenium.web.SearchType;
+import com.sdl.selenium.web.WebLocator;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class XPathOptimizerTest {
+    private static final String[] FIXTURES = {"form.html", "grid.html"};
+
+    private final List<Document> documents = new ArrayList<>();
+    private XPath xPathEngine;
+    private boolean optimizeXPath;
+
+    @BeforeClass
+    public void loadFixtures() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        for (String fixture : FIXTURES) {
+            try (InputStream in = getClass().getResourceAsStream("/unit/xpath/" + fixture)) {
+                documents.add(factory.newDocumentBuilder().parse(in));
+            }
+        }
+        // HTML_NODE template has more operators than the default jdk limit (100)
+        System.setProperty("jdk.xml.xpathExprOpLimit", "0");
+        System.setProperty("jdk.xml.xpathTotalOpLimit", "0");
+        xPathEngine = XPathFactory.newInstance().newXPath();
+    }
+
+    @BeforeMethod
+    public void start() {
+        optimizeXPath = WebLocatorConfig.isOptimizeXPath();
+    }
+
+    @AfterMethod
+    public void stop() {
+        WebLocatorConfig.setOptimizeXPath(optimizeXPath);
+    }
+
+    @DataProvider
+    public static Object[][] rewrites() {
+        return new Object[][]{
+                {"//*[count(ancestor-or-self::*[contains(@style, 'display: none')]) = 0]", "//*[not(ancestor-or-self::*[contains(@style, 'display: none')])]"},
+                {"//*[count(*//text()[contains(.,'a')]) > 0]", "//*[*//text()[contains(., 'a')]]"},
+                {"//*[0 < count(.//a) and count(b) >= 1]", "//*[.//a and b]"},
+                {"//*[count(b) != 0 or count(c) < 1]", "//*[b or not(c)]"},
+                {"//*[(count(b) > 0) = true()]", "//*[boolean(b)=true()]"},
+                {"//*[count(b) > 1]", "//*[count(b) > 1]"},
+                {"//*[contains(concat(' ', @class, ' '), ' a ') and contains(concat(' ', @class, ' '), ' a ')]", "//*[contains(concat(' ', @class, ' '), ' a ')]"},
+                {"//*[@class='a b' and contains(concat(' ', @class, ' '), ' b ')]", "//*[@class='a b']"},
+                {"//*[@class='a b' and contains(concat(' ', @class, ' '), ' c ')]", "//*[@class='a b' and contains(concat(' ', @class, ' '), ' c ')]"},
+                {"//div[@id='a'][contains(@class, 'x')][@id='a']", "//div[@id='a' and contains(@class, 'x')]"},
+                {"//div[@id='a'][1][@id='a']", "//div[@id='a'][1][@id='a']"},
+                {"//div[@id='a'][position() = last()]", "//div[@id='a'][position() = last()]"},
+                {"//a/./b", "//a/b"},
+                {"//a//descendant::b", "//a//b"},
+                {"//a//descendant::b[1]", "//a//descendant::b[1]"},
+                {"//a//descendant-or-self::node()//b", "//a//b"},
+                {"(//a)[2]", "(//a)[2]"},
+                {"//a//following-sibling::*//input", "//a//following-sibling::*//input"},
+        };
+    }
+
+    @Test(dataProvider = "rewrites")
+    public void rewrite(String xPath, String expected) {
+        String optimized = XPathOptimizer.optimize(xPath);
+        assertEquals(optimized, expected);
+        if (xPath.equals(expected)) {
+            assertSame(optimized, xPath);
+        }
+    }
+
+    @Test
+    public void invalidXPathIsNotChanged() {
+        String xPath = "//*[count(a) > 0";
+        assertSame(XPathOptimizer.optimize(xPath), xPath);
+    }
+
+    @DataProvider
+    public static Object[][] locators() {
+        WebLocator form = new WebLocator().setId("form-1");
+        Grid grid = new Grid();
+        return new Object[][]{
+                {new WebLocator().setClasses("x-form-item").setVisibility(true)},
+                {new WebLocator(form).setTag("input").setVisibility(true)},
+                {new WebLocator().setBaseCls("x-btn").setClasses("x-btn", "x-btn-text-icon", "x-btn")},
+                {new WebLocator().setCls("x-btn x-btn-text-icon").setClasses("x-btn")},
+                {new WebLocator().setText("Remember me", SearchType.DEEP_CHILD_NODE_OR_SELF)},
+                {new WebLocator().setText("Advanced", SearchType.DEEP_CHILD_NODE, SearchType.TRIM)},
+                {new WebLocator().setText("Text", SearchType.CHILD_NODE, SearchType.EQUALS)},
+                {new WebLocator().setText("Text Test Other", SearchType.HTML_NODE)},
+                {new WebLocator().setClasses("x-window").setChildNodes(new WebLocator().setText("Saved", SearchType.EQUALS)).setVisibility(true)},
+                {new WebLocator(form).setTitle("Save changes")},
+                {new TextField(form, "Name")},
+                {new TextField(form, "Password").setVisibility(true)},
+                {new Button(form, "Save")},
+                {new Button(form, "Cancel").setVisibility(true)},
+                {new Window("Confirm")},
+                {grid.getRow(new Cell(1, "Text"), new Cell(2, "&Text&Test", SearchType.CONTAINS_ALL_CHILD_NODES)).getCell(3)},
+                {grid.getRow(new Cell(2, "|Hidden|Other", SearchType.CONTAINS_ANY)).setVisibility(true)},
+                {grid.getCell(1, new Cell(2, "text test", SearchType.CASE_INSENSITIVE, SearchType.EQUALS))},
+                {new WebLocator(grid).setClasses("x-grid-cell-inner").setResultIdx(2)},
+                {new WebLocator(grid).setTag("td").setPosition(2).setVisibility(true)},
+        };
+    }
+
+    @Test(dataProvider = "locators")
+    public void optimizedXPathFindsSameNodes(WebLocator locator) throws XPathExpressionException {
+        WebLocatorConfig.setOptimizeXPath(false);
+        String legacy = locator.getXPath();
+        WebLocatorConfig.setOptimizeXPath(true);
+        String optimized = locator.getXPath();
+
+        int found = 0;
+        for (Document document : documents) {
+            List<Node> expected = evaluate(legacy, document);
+            assertEquals(evaluate(optimized, document), expected, optimized + " != " + legacy);
+            found += expected.size();
+        }
+        assertTrue(found > 0, "fixtures should contain nodes for: " + legacy);
+    }
+
+    @Test
+    public void generatedXPathIsOptimizedOnlyWhenEnabled() {
+        WebLocator locator = new WebLocator().setClasses("x-form-item").setVisibility(true);
+        WebLocatorConfig.setOptimizeXPath(false);
+        String legacy = locator.getXPath();
+        assertEquals(legacy, "//*[contains(concat(' ', @class, ' '), ' x-form-item ') and count(ancestor-or-self::*[contains(@style, 'display: none')]) = 0]");
+        WebLocatorConfig.setOptimizeXPath(true);
+        assertNotEquals(locator.getXPath(), legacy);
+        assertEquals(locator.getXPath(), "//*[contains(concat(' ', @class, ' '), ' x-form-item ') and not(ancestor-or-self::*[contains(@style, 'display: none')])]");
+    }
+
+    private List<Node> evaluate(String xPath, Document document) throws XPathExpressionException {
+        NodeList nodes = (NodeList) xPathEngine.evaluate(xPath, document, XPathConstants.NODESET);
+        List<Node> result = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            result.add(nodes.item(i));
+        }
+        return result;
+    }
+}